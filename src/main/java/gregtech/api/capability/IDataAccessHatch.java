@@ -2,9 +2,9 @@ package gregtech.api.capability;
 
 import gregtech.api.recipes.Recipe;
 
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
 import java.util.Collection;
 
 public interface IDataAccessHatch {
@@ -17,9 +17,9 @@ public interface IDataAccessHatch {
      * @return if the recipe is available for use
      */
     default boolean isRecipeAvailable(@NotNull Recipe recipe) {
-        Collection<IDataAccessHatch> list = new ArrayList<>();
-        list.add(this);
-        return isRecipeAvailable(recipe, list);
+        Collection<IDataAccessHatch> seen = new ObjectOpenHashSet<>();
+        seen.add(this);
+        return isRecipeAvailable(recipe, seen);
     }
 
     /**
@@ -29,6 +29,29 @@ public interface IDataAccessHatch {
      */
     boolean isRecipeAvailable(@NotNull Recipe recipe, @NotNull Collection<IDataAccessHatch> seen);
 
+    /**
+     * Adds all recipes available through this hatch, allowing them to be cached.
+     *
+     * @param recipes the collection to add the recipes to
+     * @param seen    the hatches already checked
+     * @return if all available recipes could be added, false if recipes must be checked individually
+     */
+    default boolean collectAvailableRecipes(@NotNull Collection<Recipe> recipes,
+                                            @NotNull Collection<IDataAccessHatch> seen) {
+        return false;
+    }
+
+    /**
+     * Allows recipes collected through {@link #collectAvailableRecipes(Collection, Collection)} to be cached until a
+     * hatch they were collected through changes.
+     *
+     * @return the version of the recipes available through this hatch itself, changing whenever they or the hatches
+     *         it leads to may change, or -1 if changes are not tracked
+     */
+    default int getDataAccessVersion() {
+        return -1;
+    }
+
     /**
      * @return true if this Data Access Hatch is creative or not
      */
@@ -30,4 +30,12 @@ public interface INotifiableHandler {
     void addNotifiableMetaTileEntity(MetaTileEntity metaTileEntity);
 
     void removeNotifiableMetaTileEntity(MetaTileEntity metaTileEntity);
+
+    /**
+     * @return a non-negative counter which changes whenever the contents of the handler change, or -1 if the handler
+     *         does not track its changes
+     */
+    default int getContentsVersion() {
+        return -1;
+    }
 }
@@ -209,9 +209,22 @@ public abstract class AbstractRecipeLogic extends MTETrait implements IWorkable,
                 this.wasActiveAndNeedsUpdate = false;
                 setActive(false);
             }
+            if (ConfigHolder.machines.idleMachineSleepTicks > 0 && canSleep()) {
+                metaTileEntity.sleep(ConfigHolder.machines.idleMachineSleepTicks);
+            }
         }
     }
 
+    /**
+     * @return if the logic is idle until its inputs, outputs or working state change
+     */
+    @Override
+    public boolean canSleep() {
+        if (progressTime > 0 || isActive || wasActiveAndNeedsUpdate) return false;
+        if (!workingEnabled) return true;
+        return (invalidInputsForRecipes && !hasNotifiedInputs()) || (isOutputsFull && !hasNotifiedOutputs());
+    }
+
     /**
      * DO NOT use the recipeMap field directly, EVER
      * <p>
@@ -1053,6 +1066,7 @@ public abstract class AbstractRecipeLogic extends MTETrait implements IWorkable,
     public void setWorkingEnabled(boolean workingEnabled) {
         this.workingEnabled = workingEnabled;
         metaTileEntity.markDirty();
+        metaTileEntity.wakeUp();
         World world = metaTileEntity.getWorld();
         if (world != null && !world.isRemote) {
             writeCustomData(GregtechDataCodes.WORKING_ENABLED, buf -> buf.writeBoolean(workingEnabled));
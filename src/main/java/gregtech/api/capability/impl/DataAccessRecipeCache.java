@@ -0,0 +1,94 @@
+package gregtech.api.capability.impl;
+
+import gregtech.api.capability.IDataAccessHatch;
+import gregtech.api.recipes.Recipe;
+
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Caches the recipes available through an {@link IDataAccessHatch}, so checking a recipe does not need to walk every
+ * connected hatch. The cache remembers the {@link IDataAccessHatch#getDataAccessVersion() version} of each hatch the
+ * recipes were collected through, and is only invalidated when one of those changes.
+ */
+public class DataAccessRecipeCache {
+
+    private static final IDataAccessHatch[] NO_HATCHES = new IDataAccessHatch[0];
+
+    private final IDataAccessHatch hatch;
+    private final Set<Recipe> recipes = new ObjectOpenHashSet<>();
+    private IDataAccessHatch[] dependencies = NO_HATCHES;
+    private int[] versions;
+    private boolean complete;
+
+    /**
+     * @param hatch the hatch to collect the recipes of
+     */
+    public DataAccessRecipeCache(@NotNull IDataAccessHatch hatch) {
+        this.hatch = hatch;
+    }
+
+    /**
+     * @return if no hatch the recipes were collected through has changed since
+     */
+    public boolean isValid() {
+        if (versions == null) return false;
+        for (int i = 0; i < dependencies.length; i++) {
+            if (dependencies[i].getDataAccessVersion() != versions[i]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Collects the recipes again if the cache is not valid anymore
+     */
+    public void update() {
+        if (isValid()) return;
+
+        recipes.clear();
+        Collection<IDataAccessHatch> seen = new ObjectOpenHashSet<>();
+        boolean complete = hatch.collectAvailableRecipes(recipes, seen);
+
+        this.dependencies = seen.toArray(NO_HATCHES);
+        this.versions = new int[dependencies.length];
+        for (int i = 0; i < dependencies.length; i++) {
+            versions[i] = dependencies[i].getDataAccessVersion();
+            // untracked hatches may change at any time, so their recipes must be checked individually
+            if (versions[i] < 0) complete = false;
+        }
+        this.complete = complete;
+    }
+
+    /**
+     * @return if all available recipes are cached, false if recipes must be checked individually
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * @param recipe the recipe to check
+     * @return if the recipe is cached
+     */
+    public boolean contains(@NotNull Recipe recipe) {
+        return recipes.contains(recipe);
+    }
+
+    /**
+     * Adds the cached recipes, along with the hatches they were collected through so that caches of other hatches
+     * depend on them as well.
+     *
+     * @param recipes the collection to add the recipes to
+     * @param seen    the hatches already checked
+     * @return if all available recipes were added
+     */
+    public boolean collect(@NotNull Collection<Recipe> recipes, @NotNull Collection<IDataAccessHatch> seen) {
+        Collections.addAll(seen, dependencies);
+        recipes.addAll(this.recipes);
+        return complete;
+    }
+}
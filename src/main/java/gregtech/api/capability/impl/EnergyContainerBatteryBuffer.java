@@ -83,12 +83,7 @@ public class EnergyContainerBatteryBuffer extends EnergyContainerHandler {
         if (metaTileEntity.getWorld().isRemote) {
             return;
         }
-        if (metaTileEntity.getOffsetTimer() % 20 == 0) {
-            lastEnergyInputPerSec = energyInputPerSec;
-            lastEnergyOutputPerSec = energyOutputPerSec;
-            energyInputPerSec = 0;
-            energyOutputPerSec = 0;
-        }
+        updatePerSecondCounters();
 
         EnumFacing outFacing = metaTileEntity.getFrontFacing();
         TileEntity tileEntity = metaTileEntity.getNeighbor(outFacing);
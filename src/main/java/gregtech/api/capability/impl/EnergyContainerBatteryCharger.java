@@ -80,10 +80,7 @@ public class EnergyContainerBatteryCharger extends EnergyContainerHandler {
         if (metaTileEntity.getWorld().isRemote) {
             return;
         }
-        if (metaTileEntity.getOffsetTimer() % 20 == 0) {
-            lastEnergyInputPerSec = energyInputPerSec;
-            energyInputPerSec = 0;
-        }
+        updatePerSecondCounters();
     }
 
     private long getInternalStorage() {
@@ -11,6 +11,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.world.World;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.energy.CapabilityEnergy;
 import net.minecraftforge.energy.IEnergyStorage;
@@ -35,11 +36,14 @@ public class EnergyContainerHandler extends MTETrait implements IEnergyContainer
     protected long lastEnergyOutputPerSec = 0;
     protected long energyInputPerSec = 0;
     protected long energyOutputPerSec = 0;
+    // the world time the current second of the per second counters started at
+    private long perSecondStartTick = -1;
 
     private Predicate<EnumFacing> sideInputCondition;
     private Predicate<EnumFacing> sideOutputCondition;
 
     protected long amps = 0;
+    private long sleepingAmpsTick = -1;
 
     public EnergyContainerHandler(MetaTileEntity tileEntity, long maxCapacity, long maxInputVoltage,
                                   long maxInputAmperage, long maxOutputVoltage, long maxOutputAmperage) {
@@ -71,14 +75,39 @@ public class EnergyContainerHandler extends MTETrait implements IEnergyContainer
 
     @Override
     public long getInputPerSec() {
+        updatePerSecondCounters();
         return lastEnergyInputPerSec;
     }
 
     @Override
     public long getOutputPerSec() {
+        updatePerSecondCounters();
         return lastEnergyOutputPerSec;
     }
 
+    /**
+     * Moves the per second counters on to the current second, based on world time rather than update() calls, which
+     * do not happen while the MetaTileEntity is sleeping.
+     */
+    protected void updatePerSecondCounters() {
+        World world = metaTileEntity.getWorld();
+        if (world == null || world.isRemote) return;
+        long tick = world.getTotalWorldTime();
+        if (perSecondStartTick < 0 || tick < perSecondStartTick) {
+            this.perSecondStartTick = tick;
+            return;
+        }
+        long elapsed = tick - perSecondStartTick;
+        if (elapsed < 20) return;
+        // the counters only cover the last second if it just ended
+        boolean lastSecond = elapsed < 40;
+        this.lastEnergyInputPerSec = lastSecond ? energyInputPerSec : 0;
+        this.lastEnergyOutputPerSec = lastSecond ? energyOutputPerSec : 0;
+        this.energyInputPerSec = 0;
+        this.energyOutputPerSec = 0;
+        this.perSecondStartTick = tick - elapsed % 20;
+    }
+
     @NotNull
     @Override
     public String getName() {
@@ -113,6 +142,7 @@ public class EnergyContainerHandler extends MTETrait implements IEnergyContainer
     }
 
     public void setEnergyStored(long energyStored) {
+        updatePerSecondCounters();
         if (energyStored > this.energyStored) {
             energyInputPerSec += energyStored - this.energyStored;
         } else {
@@ -121,6 +151,7 @@ public class EnergyContainerHandler extends MTETrait implements IEnergyContainer
         this.energyStored = energyStored;
         if (!metaTileEntity.getWorld().isRemote) {
             metaTileEntity.markDirty();
+            metaTileEntity.onSleepEnergyChanged(energyStored);
             notifyEnergyListener(false);
         }
     }
@@ -191,12 +222,7 @@ public class EnergyContainerHandler extends MTETrait implements IEnergyContainer
         amps = 0;
         if (getMetaTileEntity().getWorld().isRemote)
             return;
-        if (metaTileEntity.getOffsetTimer() % 20 == 0) {
-            lastEnergyOutputPerSec = energyOutputPerSec;
-            lastEnergyInputPerSec = energyInputPerSec;
-            energyOutputPerSec = 0;
-            energyInputPerSec = 0;
-        }
+        updatePerSecondCounters();
         if (getEnergyStored() >= getOutputVoltage() && getOutputVoltage() > 0 && getOutputAmperage() > 0) {
             long outputVoltage = getOutputVoltage();
             long outputAmperes = Math.min(getEnergyStored() / outputVoltage, getOutputAmperage());
@@ -222,8 +248,24 @@ public class EnergyContainerHandler extends MTETrait implements IEnergyContainer
         }
     }
 
+    /**
+     * Only outputting energy needs ticking, everything else is driven by the network.
+     */
+    @Override
+    public boolean canSleep() {
+        return getOutputVoltage() <= 0 || getOutputAmperage() <= 0;
+    }
+
     @Override
     public long acceptEnergyFromNetwork(EnumFacing side, long voltage, long amperage) {
+        if (metaTileEntity.isSleeping()) {
+            // update() does not reset the amperage while sleeping
+            long tick = metaTileEntity.getWorld().getTotalWorldTime();
+            if (tick != sleepingAmpsTick) {
+                this.sleepingAmpsTick = tick;
+                this.amps = 0;
+            }
+        }
         if (amps >= getInputAmperage()) return 0;
         long canAccept = getEnergyCapacity() - getEnergyStored();
         if (voltage > 0L && (side == null || inputsEnergy(side))) {
@@ -1,33 +1,67 @@
 package gregtech.api.capability.impl;
 
+import gregtech.api.capability.INotifiableHandler;
+import gregtech.api.util.ItemStackHashStrategy;
+
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.IItemHandlerModifiable;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntRBTreeSet;
+import it.unimi.dsi.fastutil.ints.IntSortedSet;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenCustomHashMap;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
 
 /**
  * Efficiently delegates calls into multiple item handlers
+ * <p>
+ * Slots are resolved through flat arrays. {@link #findSlots(ItemStack, boolean)} additionally keeps an index of the
+ * slots by item type, which is built on first use. Slots of {@link INotifiableHandler}s tracking their contents
+ * version are indexed and re-read only when their handler reports a change, while slots of other handlers are always
+ * checked.
  */
 public class ItemHandlerList implements IItemHandlerModifiable {
 
-    private final Int2ObjectMap<IItemHandler> handlerBySlotIndex = new Int2ObjectOpenHashMap<>();
-    private final Map<IItemHandler, Integer> baseIndexOffset = new IdentityHashMap<>();
+    private static final ItemStackHashStrategy ITEM_TYPE = ItemStackHashStrategy.comparingAllButCount();
+
+    private final List<IItemHandler> handlers;
+    private final IItemHandler[] handlerBySlot;
+    private final int[] handlerSlotBySlot;
+
+    // item type index, null until first used
+    private Map<ItemStack, IntSortedSet> slotsByType;
+    private IntSortedSet emptySlots;
+    private ItemStack[] typeBySlot;
+    private IItemHandler[] indexedHandlers;
+    private int[] indexedHandlerOffsets;
+    private int[] indexedHandlerVersions;
+    private int[] unindexedSlots;
 
     public ItemHandlerList(List<? extends IItemHandler> itemHandlerList) {
-        int currentSlotIndex = 0;
+        Set<IItemHandler> added = Collections.newSetFromMap(new IdentityHashMap<>());
+        int slots = 0;
         for (IItemHandler itemHandler : itemHandlerList) {
-            if (baseIndexOffset.containsKey(itemHandler)) {
+            if (!added.add(itemHandler)) {
                 throw new IllegalArgumentException("Attempted to add item handler " + itemHandler + " twice");
             }
-            baseIndexOffset.put(itemHandler, currentSlotIndex);
+            slots += itemHandler.getSlots();
+        }
+        this.handlers = new ArrayList<>(itemHandlerList);
+        this.handlerBySlot = new IItemHandler[slots];
+        this.handlerSlotBySlot = new int[slots];
+
+        int currentSlotIndex = 0;
+        for (IItemHandler itemHandler : handlers) {
             int slotsCount = itemHandler.getSlots();
             for (int slotIndex = 0; slotIndex < slotsCount; slotIndex++) {
-                handlerBySlotIndex.put(currentSlotIndex + slotIndex, itemHandler);
+                handlerBySlot[currentSlotIndex + slotIndex] = itemHandler;
+                handlerSlotBySlot[currentSlotIndex + slotIndex] = slotIndex;
             }
             currentSlotIndex += slotsCount;
         }
@@ -35,47 +69,187 @@ public class ItemHandlerList implements IItemHandlerModifiable {
 
     @Override
     public int getSlots() {
-        return handlerBySlotIndex.size();
+        return handlerBySlot.length;
     }
 
     @Override
     public void setStackInSlot(int slot, @NotNull ItemStack stack) {
-        IItemHandler itemHandler = handlerBySlotIndex.get(slot);
+        IItemHandler itemHandler = handlerBySlot[slot];
         if (!(itemHandler instanceof IItemHandlerModifiable))
             throw new UnsupportedOperationException("Handler " + itemHandler + " does not support this method");
-        ((IItemHandlerModifiable) itemHandler).setStackInSlot(slot - baseIndexOffset.get(itemHandler), stack);
+        ((IItemHandlerModifiable) itemHandler).setStackInSlot(handlerSlotBySlot[slot], stack);
     }
 
     @NotNull
     @Override
     public ItemStack getStackInSlot(int slot) {
-        IItemHandler itemHandler = handlerBySlotIndex.get(slot);
-        int realSlot = slot - baseIndexOffset.get(itemHandler);
-        return itemHandler.getStackInSlot(slot - baseIndexOffset.get(itemHandler));
+        return handlerBySlot[slot].getStackInSlot(handlerSlotBySlot[slot]);
     }
 
     @Override
     public int getSlotLimit(int slot) {
-        IItemHandler itemHandler = handlerBySlotIndex.get(slot);
-        return itemHandler.getSlotLimit(slot - baseIndexOffset.get(itemHandler));
+        return handlerBySlot[slot].getSlotLimit(handlerSlotBySlot[slot]);
     }
 
     @NotNull
     @Override
     public ItemStack insertItem(int slot, @NotNull ItemStack stack, boolean simulate) {
-        IItemHandler itemHandler = handlerBySlotIndex.get(slot);
-        return itemHandler.insertItem(slot - baseIndexOffset.get(itemHandler), stack, simulate);
+        return handlerBySlot[slot].insertItem(handlerSlotBySlot[slot], stack, simulate);
     }
 
     @NotNull
     @Override
     public ItemStack extractItem(int slot, int amount, boolean simulate) {
-        IItemHandler itemHandler = handlerBySlotIndex.get(slot);
-        return itemHandler.extractItem(slot - baseIndexOffset.get(itemHandler), amount, simulate);
+        return handlerBySlot[slot].extractItem(handlerSlotBySlot[slot], amount, simulate);
     }
 
     @NotNull
     public Collection<IItemHandler> getBackingHandlers() {
-        return Collections.unmodifiableCollection(handlerBySlotIndex.values());
+        return Collections.unmodifiableCollection(handlers);
+    }
+
+    /**
+     * Finds the slots which may hold items of the same type as a stack. Every slot actually holding such items is
+     * included, but the caller still has to check the contents of the returned slots.
+     * <p>
+     * Slots emptied by changing the count of their stack in place are not reported as empty before they are looked
+     * up by their previous type or {@link #refreshIndex()} is called.
+     *
+     * @param stack        the stack to find slots for
+     * @param includeEmpty if empty slots should be included
+     * @return the slots in ascending order
+     */
+    @NotNull
+    public IntList findSlots(@NotNull ItemStack stack, boolean includeEmpty) {
+        updateIndex();
+        IntList result = new IntArrayList(unindexedSlots);
+        IntSortedSet typeSlots = stack.isEmpty() ? null : slotsByType.get(stack);
+        if (typeSlots != null) {
+            validateSlots(typeSlots);
+            result.addAll(typeSlots);
+        }
+        if (includeEmpty) result.addAll(emptySlots);
+        if (result.size() != unindexedSlots.length) {
+            IntArrays.quickSort(((IntArrayList) result).elements(), 0, result.size());
+        }
+        return result;
+    }
+
+    /**
+     * Re-reads every indexed slot, catching changes made to the stacks in place without notifying their handler.
+     *
+     * @return if any indexed slot changed its item type
+     */
+    public boolean refreshIndex() {
+        updateIndex();
+        boolean changed = false;
+        for (int i = 0; i < indexedHandlers.length; i++) {
+            IItemHandler handler = indexedHandlers[i];
+            int offset = indexedHandlerOffsets[i];
+            for (int slot = 0; slot < handler.getSlots(); slot++) {
+                changed |= indexSlot(offset + slot, handler.getStackInSlot(slot));
+            }
+        }
+        return changed;
+    }
+
+    private void validateSlots(@NotNull IntSortedSet typeSlots) {
+        IntList stale = null;
+        for (IntIterator it = typeSlots.iterator(); it.hasNext();) {
+            int slot = it.nextInt();
+            // recipe matching shrinks stacks in place, so the slot may have been emptied unnoticed
+            if (!ITEM_TYPE.equals(typeBySlot[slot], getStackInSlot(slot))) {
+                if (stale == null) stale = new IntArrayList();
+                stale.add(slot);
+            }
+        }
+        if (stale != null) {
+            for (int i = 0; i < stale.size(); i++) {
+                int slot = stale.getInt(i);
+                indexSlot(slot, getStackInSlot(slot));
+            }
+        }
+    }
+
+    private void updateIndex() {
+        if (slotsByType == null) {
+            createIndex();
+        }
+        for (int i = 0; i < indexedHandlers.length; i++) {
+            IItemHandler handler = indexedHandlers[i];
+            int version = ((INotifiableHandler) handler).getContentsVersion();
+            if (version == indexedHandlerVersions[i]) continue;
+            indexedHandlerVersions[i] = version;
+            int offset = indexedHandlerOffsets[i];
+            for (int slot = 0; slot < handler.getSlots(); slot++) {
+                indexSlot(offset + slot, handler.getStackInSlot(slot));
+            }
+        }
+    }
+
+    private void createIndex() {
+        slotsByType = new Object2ObjectOpenCustomHashMap<>(ITEM_TYPE);
+        emptySlots = new IntRBTreeSet();
+        typeBySlot = new ItemStack[handlerBySlot.length];
+
+        List<IItemHandler> indexed = new ArrayList<>();
+        IntList offsets = new IntArrayList();
+        IntList unindexed = new IntArrayList();
+        collectHandlers(this, 0, indexed, offsets, unindexed);
+        indexedHandlers = indexed.toArray(new IItemHandler[0]);
+        indexedHandlerOffsets = offsets.toIntArray();
+        // versions are never negative, so that every indexed handler is read on the first update
+        indexedHandlerVersions = new int[indexedHandlers.length];
+        Arrays.fill(indexedHandlerVersions, -1);
+        unindexedSlots = unindexed.toIntArray();
+    }
+
+    /**
+     * Sorts the handlers into the ones tracking their changes and the slots which always have to be checked, looking
+     * through nested lists such as the ones of the quantum storage controller.
+     */
+    private static void collectHandlers(@NotNull ItemHandlerList list, int offset, @NotNull List<IItemHandler> indexed,
+                                        @NotNull IntList offsets, @NotNull IntList unindexed) {
+        for (IItemHandler handler : list.handlers) {
+            if (handler instanceof ItemHandlerList nested) {
+                collectHandlers(nested, offset, indexed, offsets, unindexed);
+            } else if (handler instanceof INotifiableHandler notifiable && notifiable.getContentsVersion() >= 0) {
+                indexed.add(handler);
+                offsets.add(offset);
+            } else {
+                for (int slot = 0; slot < handler.getSlots(); slot++) {
+                    unindexed.add(offset + slot);
+                }
+            }
+            offset += handler.getSlots();
+        }
+    }
+
+    /**
+     * @return if the item type of the slot changed
+     */
+    private boolean indexSlot(int slot, @NotNull ItemStack stack) {
+        ItemStack previous = typeBySlot[slot];
+        if (previous != null) {
+            if (ITEM_TYPE.equals(previous, stack)) return false;
+            if (previous.isEmpty()) {
+                emptySlots.remove(slot);
+            } else {
+                IntSortedSet slots = slotsByType.get(previous);
+                slots.remove(slot);
+                if (slots.isEmpty()) slotsByType.remove(previous);
+            }
+        }
+
+        if (stack.isEmpty()) {
+            typeBySlot[slot] = ItemStack.EMPTY;
+            emptySlots.add(slot);
+        } else {
+            // copied, as the handler may change the count of its stack in place
+            ItemStack type = stack.copy();
+            typeBySlot[slot] = type;
+            slotsByType.computeIfAbsent(type, k -> new IntRBTreeSet()).add(slot);
+        }
+        return true;
     }
 }
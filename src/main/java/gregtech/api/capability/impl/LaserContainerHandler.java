@@ -39,12 +39,7 @@ public class LaserContainerHandler extends EnergyContainerHandler implements ILa
         amps = 0;
         if (getMetaTileEntity().getWorld().isRemote)
             return;
-        if (metaTileEntity.getOffsetTimer() % 20 == 0) {
-            lastEnergyOutputPerSec = energyOutputPerSec;
-            lastEnergyInputPerSec = energyInputPerSec;
-            energyOutputPerSec = 0;
-            energyInputPerSec = 0;
-        }
+        updatePerSecondCounters();
         if (getEnergyStored() >= getOutputVoltage() && getOutputVoltage() > 0 && getOutputAmperage() > 0) {
             long outputVoltage = getOutputVoltage();
             long outputAmperes = Math.min(getEnergyStored() / outputVoltage, getOutputAmperage());
@@ -14,6 +14,7 @@ public class NotifiableItemStackHandler extends GTItemStackHandler
 
     List<MetaTileEntity> notifiableEntities = new ArrayList<>();
     private final boolean isExport;
+    private int contentsVersion;
 
     public NotifiableItemStackHandler(MetaTileEntity metaTileEntity, int slots, MetaTileEntity entityToNotify,
                                       boolean isExport) {
@@ -27,6 +28,7 @@ public class NotifiableItemStackHandler extends GTItemStackHandler
     @Override
     public void onContentsChanged(int slot) {
         super.onContentsChanged(slot);
+        contentsVersion = (contentsVersion + 1) & Integer.MAX_VALUE;
         for (MetaTileEntity metaTileEntity : notifiableEntities) {
             if (metaTileEntity != null && metaTileEntity.isValid()) {
                 addToNotifiedList(metaTileEntity, this, isExport);
@@ -34,6 +36,17 @@ public class NotifiableItemStackHandler extends GTItemStackHandler
         }
     }
 
+    @Override
+    protected void onLoad() {
+        super.onLoad();
+        contentsVersion = (contentsVersion + 1) & Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int getContentsVersion() {
+        return contentsVersion;
+    }
+
     @Override
     public void addNotifiableMetaTileEntity(MetaTileEntity metaTileEntity) {
         if (metaTileEntity == null) return;
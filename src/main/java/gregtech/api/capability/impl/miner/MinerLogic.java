@@ -26,17 +26,22 @@ import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
 import codechicken.lib.render.CCRenderState;
 import codechicken.lib.render.pipeline.IVertexOperation;
 import codechicken.lib.vec.Matrix4;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -57,7 +62,8 @@ public class MinerLogic {
 
     private final ICubeRenderer PIPE_TEXTURE;
 
-    private final LinkedList<BlockPos> blocksToMine = new LinkedList<>();
+    // packed positions of the ores to mine
+    private final LongArrayFIFOQueue blocksToMine = new LongArrayFIFOQueue();
 
     private final AtomicInteger x = new AtomicInteger(Integer.MAX_VALUE);
     private final AtomicInteger y = new AtomicInteger(Integer.MAX_VALUE);
@@ -171,22 +177,24 @@ public class MinerLogic {
         // if there are blocks to mine and the correct amount of time has passed, do the mining
         if (metaTileEntity.getOffsetTimer() % this.speed == 0 && !blocksToMine.isEmpty()) {
             NonNullList<ItemStack> blockDrops = NonNullList.create();
-            IBlockState blockState = metaTileEntity.getWorld().getBlockState(blocksToMine.getFirst());
+            BlockPos blockToMine = BlockPos.fromLong(blocksToMine.firstLong());
+            IBlockState blockState = world.getBlockState(blockToMine);
 
             // check to make sure the ore is still there,
-            while (!GTUtility.isOre(GTUtility.toItem(blockState))) {
-                blocksToMine.removeFirst();
+            while (!OreStateIndex.isOre(blockState)) {
+                blocksToMine.dequeueLong();
                 if (blocksToMine.isEmpty()) break;
-                blockState = metaTileEntity.getWorld().getBlockState(blocksToMine.getFirst());
+                blockToMine = BlockPos.fromLong(blocksToMine.firstLong());
+                blockState = world.getBlockState(blockToMine);
             }
             // When we are here we have an ore to mine! I'm glad we aren't threaded
-            if (!blocksToMine.isEmpty() && GTUtility.isOre(GTUtility.toItem(blockState))) {
+            if (!blocksToMine.isEmpty() && OreStateIndex.isOre(blockState)) {
                 // get the small ore drops, if a small ore
-                getSmallOreBlockDrops(blockDrops, world, blocksToMine.getFirst(), blockState);
+                getSmallOreBlockDrops(blockDrops, world, blockToMine, blockState);
                 // get the block's drops.
-                getRegularBlockDrops(blockDrops, world, blocksToMine.getFirst(), blockState);
+                getRegularBlockDrops(blockDrops, world, blockToMine, blockState);
                 // try to insert them
-                mineAndInsertItems(blockDrops, world);
+                mineAndInsertItems(blockDrops, world, blockToMine);
             }
 
         }
@@ -198,7 +206,7 @@ public class MinerLogic {
             z.set(mineZ.get());
 
             // attempt to get more blocks to mine, if there are none, the miner is done mining
-            blocksToMine.addAll(getBlocksToMine());
+            findBlocksToMine();
             if (blocksToMine.isEmpty()) {
                 this.isDone = true;
                 this.wasActiveAndNeedsUpdate = true;
@@ -277,20 +285,21 @@ public class MinerLogic {
      * called in order to insert the mined items into the inventory and actually remove the block in world
      * marks the inventory as full if the items cannot fit, and not full if it previously was full and items could fit
      *
-     * @param blockDrops the List of items to insert
-     * @param world      the {@link WorldServer} the miner is in
+     * @param blockDrops  the List of items to insert
+     * @param world       the {@link WorldServer} the miner is in
+     * @param blockToMine the {@link BlockPos} of the block being mined
      */
-    private void mineAndInsertItems(List<ItemStack> blockDrops, WorldServer world) {
+    private void mineAndInsertItems(List<ItemStack> blockDrops, WorldServer world, BlockPos blockToMine) {
         // If the block's drops can fit in the inventory, move the previously mined position to the block
         // replace the ore block with cobblestone instead of breaking it to prevent mob spawning
         // remove the ore block's position from the mining queue
         if (GTTransferUtils.addItemsToItemHandler(metaTileEntity.getExportItems(), true, blockDrops)) {
             GTTransferUtils.addItemsToItemHandler(metaTileEntity.getExportItems(), false, blockDrops);
-            world.setBlockState(blocksToMine.getFirst(), oreReplacementBlock);
-            mineX.set(blocksToMine.getFirst().getX());
-            mineZ.set(blocksToMine.getFirst().getZ());
-            mineY.set(blocksToMine.getFirst().getY());
-            blocksToMine.removeFirst();
+            world.setBlockState(blockToMine, oreReplacementBlock);
+            mineX.set(blockToMine.getX());
+            mineZ.set(blockToMine.getZ());
+            mineY.set(blockToMine.getY());
+            blocksToMine.dequeueLong();
             onMineOperation();
 
             // if the inventory was previously considered full, mark it as not since an item was able to fit
@@ -339,7 +348,7 @@ public class MinerLogic {
      */
     public void checkBlocksToMine() {
         if (blocksToMine.isEmpty())
-            blocksToMine.addAll(getBlocksToMine());
+            findBlocksToMine();
     }
 
     /**
@@ -355,53 +364,93 @@ public class MinerLogic {
     }
 
     /**
-     * Gets the blocks to mine
-     *
-     * @return a {@link LinkedList} of {@link BlockPos} for each ore to mine
+     * Finds the next blocks to mine and queues them.
+     * <p>
+     * Chunk sections are read directly, and sections whose palette holds no ore are skipped.
      */
-    private LinkedList<BlockPos> getBlocksToMine() {
-        LinkedList<BlockPos> blocks = new LinkedList<>();
+    private void findBlocksToMine() {
+        World world = metaTileEntity.getWorld();
 
         // determine how many blocks to retrieve this time
-        double quotient = getQuotient(getMeanTickTime(metaTileEntity.getWorld()));
+        double quotient = getQuotient(getMeanTickTime(world));
         int calcAmount = quotient < 1 ? 1 : (int) (Math.min(quotient, Short.MAX_VALUE));
         int calculated = 0;
 
+        int minX = startX.get();
+        int minZ = startZ.get();
+        int maxX = minX + currentRadius * 2;
+        int maxZ = minZ + currentRadius * 2;
+        int x = this.x.get();
+        int y = this.y.get();
+        int z = this.z.get();
+
+        // whether each section visited this time may contain ores
+        Reference2BooleanMap<ExtendedBlockStorage> sectionsWithOre = new Reference2BooleanOpenHashMap<>();
+        Chunk chunk = null;
+
         // keep getting blocks until the target amount is reached
-        while (calculated < calcAmount) {
-            // moving down the y-axis
-            if (y.get() > 0) {
-                // moving across the z-axis
-                if (z.get() <= startZ.get() + currentRadius * 2) {
-                    // check every block along the x-axis
-                    if (x.get() <= startX.get() + currentRadius * 2) {
-                        BlockPos blockPos = new BlockPos(x.get(), y.get(), z.get());
-                        IBlockState state = metaTileEntity.getWorld().getBlockState(blockPos);
-                        if (state.getBlock().blockHardness >= 0 &&
-                                metaTileEntity.getWorld().getTileEntity(blockPos) == null &&
-                                GTUtility.isOre(GTUtility.toItem(state))) {
-                            blocks.addLast(blockPos);
+        while (calculated < calcAmount && y > 0) {
+            if (z > maxZ) {
+                // reset z and move to the next y layer
+                z = minZ;
+                y--;
+            } else if (x > maxX) {
+                // reset x and move to the next z layer
+                x = minX;
+                z++;
+            } else if (x == minX && z == minZ &&
+                    !layerMayContainOre(world, y, minX, minZ, maxX, maxZ, sectionsWithOre)) {
+                // skip the remaining layers of sections without ores
+                y = (y & ~15) - 1;
+            } else {
+                if (chunk == null || chunk.x != x >> 4 || chunk.z != z >> 4) {
+                    chunk = world.getChunk(x >> 4, z >> 4);
+                }
+                ExtendedBlockStorage storage = chunk.getBlockStorageArray()[y >> 4];
+                if (!sectionMayContainOre(storage, sectionsWithOre)) {
+                    // move to the first x position of the next section
+                    x = (x | 15) + 1;
+                } else {
+                    IBlockState state = storage.get(x & 15, y & 15, z & 15);
+                    if (OreStateIndex.isOre(state)) {
+                        BlockPos blockPos = new BlockPos(x, y, z);
+                        if (!state.getBlock().hasTileEntity(state) || world.getTileEntity(blockPos) == null) {
+                            blocksToMine.enqueue(blockPos.toLong());
                         }
-                        // move to the next x position
-                        x.incrementAndGet();
-                    } else {
-                        // reset x and move to the next z layer
-                        x.set(startX.get());
-                        z.incrementAndGet();
                     }
-                } else {
-                    // reset z and move to the next y layer
-                    z.set(startZ.get());
-                    y.decrementAndGet();
+                    // move to the next x position
+                    x++;
                 }
-            } else
-                return blocks;
+            }
 
             // only count iterations where blocks were found
-            if (!blocks.isEmpty())
+            if (!blocksToMine.isEmpty())
                 calculated++;
         }
-        return blocks;
+
+        this.x.set(x);
+        this.y.set(y);
+        this.z.set(z);
+    }
+
+    private static boolean layerMayContainOre(@NotNull World world, int y, int minX, int minZ, int maxX, int maxZ,
+                                              @NotNull Reference2BooleanMap<ExtendedBlockStorage> sectionsWithOre) {
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                ExtendedBlockStorage storage = world.getChunk(chunkX, chunkZ).getBlockStorageArray()[y >> 4];
+                if (sectionMayContainOre(storage, sectionsWithOre)) return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean sectionMayContainOre(@Nullable ExtendedBlockStorage storage,
+                                                @NotNull Reference2BooleanMap<ExtendedBlockStorage> sectionsWithOre) {
+        if (storage == null) return false;
+        if (sectionsWithOre.containsKey(storage)) return sectionsWithOre.getBoolean(storage);
+        boolean mayContainOre = OreStateIndex.mayContainOre(storage);
+        sectionsWithOre.put(storage, mayContainOre);
+        return mayContainOre;
     }
 
     /**
@@ -0,0 +1,78 @@
+package gregtech.api.capability.impl.miner;
+
+import gregtech.api.util.GTUtility;
+import gregtech.mixins.minecraft.BlockStateContainerAccessor;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.world.chunk.BlockStatePaletteRegistry;
+import net.minecraft.world.chunk.IBlockStatePalette;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+
+/**
+ * Identifies the block states miners can mine, and the chunk sections which may contain them.
+ * <p>
+ * States are looked up by their id in a bitset, which is built from the ore dictionary on first use. Block state ids
+ * may be remapped when a world is loaded, so the bitset is discarded when the server stops.
+ */
+public final class OreStateIndex {
+
+    private static BitSet oreStates;
+
+    private OreStateIndex() {}
+
+    /**
+     * @param state the state to check
+     * @return if the state is a breakable ore
+     */
+    public static boolean isOre(@NotNull IBlockState state) {
+        int id = Block.BLOCK_STATE_IDS.get(state);
+        return id >= 0 && getOreStates().get(id);
+    }
+
+    /**
+     * Checks the palette of a chunk section for ores. Sections using the global palette cannot be checked this way,
+     * and are always considered to contain ores.
+     *
+     * @param storage the section to check, may be null for empty sections
+     * @return if the section may contain any ore
+     */
+    public static boolean mayContainOre(@Nullable ExtendedBlockStorage storage) {
+        if (storage == null || storage.isEmpty()) return false;
+        IBlockStatePalette palette = ((BlockStateContainerAccessor) storage.getData()).getPalette();
+        if (palette instanceof BlockStatePaletteRegistry) return true;
+
+        // local palettes assign their ids sequentially, starting at 0
+        IBlockState state;
+        for (int i = 0; (state = palette.getBlockState(i)) != null; i++) {
+            if (isOre(state)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Discards the ore states, so that they are rebuilt with the current block state ids on next use
+     */
+    public static void invalidate() {
+        oreStates = null;
+    }
+
+    @NotNull
+    private static BitSet getOreStates() {
+        if (oreStates == null) {
+            BitSet states = new BitSet();
+            for (IBlockState state : Block.BLOCK_STATE_IDS) {
+                if (state.getBlock().blockHardness >= 0 && GTUtility.isOre(GTUtility.toItem(state))) {
+                    states.set(Block.BLOCK_STATE_IDS.get(state));
+                }
+            }
+            oreStates = states;
+        }
+        return oreStates;
+    }
+}
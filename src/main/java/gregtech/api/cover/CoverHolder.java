@@ -1,6 +1,7 @@
 package gregtech.api.cover;
 
 import gregtech.api.util.GTUtility;
+import gregtech.api.util.TickProfiler;
 import gregtech.client.utils.RenderUtil;
 
 import net.minecraft.block.Block;
@@ -86,7 +87,9 @@ public interface CoverHolder extends CoverableView {
         for (EnumFacing facing : EnumFacing.VALUES) {
             Cover cover = getCoverAtSide(facing);
             if (cover instanceof ITickable tickable) {
+                long profilerStart = TickProfiler.start();
                 tickable.update();
+                TickProfiler.record(TickProfiler.Category.COVER, cover.getClass(), getWorld(), profilerStart);
             }
         }
     }
@@ -2,6 +2,7 @@ package gregtech.api.gui.widgets;
 
 import gregtech.api.gui.IRenderContext;
 import gregtech.api.gui.Widget;
+import gregtech.api.util.DisplayTextSync;
 import gregtech.api.util.Position;
 import gregtech.api.util.Size;
 
@@ -46,6 +47,9 @@ public class AdvancedTextWidget extends Widget {
     private List<ITextComponent> displayText = new ArrayList<>();
     private final int color;
 
+    private final DisplayTextSync.Sender textSender = new DisplayTextSync.Sender();
+    private DisplayTextSync.Receiver textReceiver;
+
     public AdvancedTextWidget(int xPosition, int yPosition, Consumer<List<ITextComponent>> text, int color) {
         super(new Position(xPosition, yPosition), Size.ZERO);
         this.textSupplier = text;
@@ -116,16 +120,12 @@ public class AdvancedTextWidget extends Widget {
 
     @Override
     public void detectAndSendChanges() {
+        if (!textSender.shouldCheck()) return;
         ArrayList<ITextComponent> textBuffer = new ArrayList<>();
         textSupplier.accept(textBuffer);
-        if (!displayText.equals(textBuffer)) {
+        if (textSender.update(textBuffer)) {
             this.displayText = textBuffer;
-            writeUpdateInfo(1, buffer -> {
-                buffer.writeVarInt(displayText.size());
-                for (ITextComponent textComponent : displayText) {
-                    buffer.writeString(ITextComponent.Serializer.componentToJson(textComponent));
-                }
-            });
+            writeUpdateInfo(1, textSender::write);
         }
     }
 
@@ -176,12 +176,10 @@ public class AdvancedTextWidget extends Widget {
     @Override
     public void readUpdateInfo(int id, PacketBuffer buffer) {
         if (id == 1) {
-            this.displayText.clear();
-            int count = buffer.readVarInt();
-            for (int i = 0; i < count; i++) {
-                String jsonText = buffer.readString(32767);
-                this.displayText.add(ITextComponent.Serializer.jsonToComponent(jsonText));
+            if (textReceiver == null) {
+                textReceiver = new DisplayTextSync.Receiver();
             }
+            this.displayText = new ArrayList<>(textReceiver.read(buffer));
             formatDisplayText();
             updateComponentTextSize();
         }
@@ -1,5 +1,7 @@
 package gregtech.api.items.toolitem;
 
+import gregtech.common.ConfigHolder;
+
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.player.EntityPlayerMP;
@@ -11,75 +13,99 @@ import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 import net.minecraftforge.fml.relauncher.Side;
 
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongHeapPriorityQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.*;
-import java.util.stream.Collectors;
-
+/**
+ * Finds and breaks the logs of a tree, spread over multiple ticks.
+ * <p>
+ * The tree is searched for a limited amount of logs per tick, alongside breaking one of the logs found so far,
+ * from the bottom up.
+ */
 public final class TreeFellingListener {
 
     private final EntityPlayerMP player;
     private final ItemStack tool;
-    private final Deque<BlockPos> orderedBlocks;
+    private final Block block;
 
-    private TreeFellingListener(EntityPlayerMP player, ItemStack tool, Deque<BlockPos> orderedBlocks) {
+    // positions are stored as BlockPos#toLong()
+    private final LongSet visited = new LongOpenHashSet();
+    private final LongArrayFIFOQueue checking = new LongArrayFIFOQueue();
+    private final LongHeapPriorityQueue orderedBlocks = new LongHeapPriorityQueue(
+            (a, b) -> Integer.compare(getY(a), getY(b)));
+    private final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+
+    private TreeFellingListener(EntityPlayerMP player, ItemStack tool, Block block, BlockPos start) {
         this.player = player;
         this.tool = tool;
-        this.orderedBlocks = orderedBlocks;
+        this.block = block;
+        this.visited.add(start.toLong());
+        this.checking.enqueue(start.toLong());
     }
 
     public static void start(@NotNull IBlockState state, ItemStack tool, BlockPos start,
                              @NotNull EntityPlayerMP player) {
-        World world = player.world;
-        Block block = state.getBlock();
-        BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
-
-        Queue<BlockPos> checking = new ArrayDeque<>();
-        Set<BlockPos> visited = new ObjectOpenHashSet<>();
-        checking.add(start);
+        TreeFellingListener listener = new TreeFellingListener(player, tool, state.getBlock(), start);
+        listener.search();
+        if (!listener.orderedBlocks.isEmpty() || !listener.checking.isEmpty()) {
+            MinecraftForge.EVENT_BUS.register(listener);
+        }
+    }
 
-        while (!checking.isEmpty()) {
-            BlockPos check = checking.remove();
-            if (check != start) {
-                visited.add(check);
-            }
+    /**
+     * Continues searching the tree for up to the configured amount of logs.
+     */
+    private void search() {
+        World world = player.world;
+        int maxBlocks = ConfigHolder.tools.treeFellingMaxBlocks;
+        for (int i = 0; i < ConfigHolder.tools.treeFellingSearchBudget && !checking.isEmpty(); i++) {
+            BlockPos check = BlockPos.fromLong(checking.dequeueLong());
             for (int y = 0; y <= 1; y++) {
                 for (int x = -1; x <= 1; x++) {
                     for (int z = -1; z <= 1; z++) {
                         if (x != 0 || y != 0 || z != 0) {
                             mutablePos.setPos(check.getX() + x, check.getY() + y, check.getZ() + z);
-                            if (!visited.contains(mutablePos)) {
-                                // Check that the found block matches the original block state, which is wood.
-                                if (block == world.getBlockState(mutablePos).getBlock()) {
-                                    if (!checking.contains(mutablePos)) {
-                                        BlockPos immutablePos = mutablePos.toImmutable();
-                                        checking.add(immutablePos);
-                                    }
+                            long pos = mutablePos.toLong();
+                            if (visited.contains(pos) || !world.isBlockLoaded(mutablePos)) continue;
+                            // Check that the found block matches the original block state, which is wood.
+                            if (block == world.getBlockState(mutablePos).getBlock()) {
+                                // the start position is visited too, but broken by the player
+                                if (maxBlocks > 0 && visited.size() - 1 >= maxBlocks) {
+                                    checking.clear();
+                                    return;
                                 }
+                                visited.add(pos);
+                                checking.enqueue(pos);
+                                orderedBlocks.enqueue(pos);
                             }
                         }
                     }
                 }
             }
         }
-
-        if (!visited.isEmpty()) {
-            Deque<BlockPos> orderedBlocks = visited.stream()
-                    .sorted(Comparator.comparingInt(pos -> start.getY() - pos.getY()))
-                    .collect(Collectors.toCollection(ArrayDeque::new));
-            MinecraftForge.EVENT_BUS.register(new TreeFellingListener(player, tool, orderedBlocks));
-        }
     }
 
     @SubscribeEvent
     public void onWorldTick(@NotNull TickEvent.WorldTickEvent event) {
         if (event.phase == TickEvent.Phase.START && event.world == player.world && event.side == Side.SERVER) {
-            if (orderedBlocks.isEmpty() || tool.isEmpty()) {
+            search();
+            if ((orderedBlocks.isEmpty() && checking.isEmpty()) || tool.isEmpty()) {
                 MinecraftForge.EVENT_BUS.unregister(this);
                 return;
             }
-            ToolHelper.breakBlockRoutine(player, tool, orderedBlocks.removeLast());
+            if (orderedBlocks.isEmpty()) return;
+            ToolHelper.breakBlockRoutine(player, tool, BlockPos.fromLong(orderedBlocks.dequeueLong()));
         }
     }
+
+    /**
+     * @return the y coordinate of a position stored as BlockPos#toLong(), without creating a BlockPos
+     */
+    private static int getY(long pos) {
+        // y is stored in the 12 bits above the 26 bits of z
+        return (int) (pos << 26 >> 52);
+    }
 }
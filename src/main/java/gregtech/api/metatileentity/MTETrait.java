@@ -70,6 +70,14 @@ public abstract class MTETrait implements ISyncedTileEntity {
 
     public void update() {}
 
+    /**
+     * @return if {@link #update()} has nothing to do until the MetaTileEntity is woken up
+     * @see MetaTileEntity#sleep(int)
+     */
+    public boolean canSleep() {
+        return false;
+    }
+
     @NotNull
     public NBTTagCompound serializeNBT() {
         return new NBTTagCompound();
@@ -33,6 +33,7 @@ import gregtech.api.util.GTLog;
 import gregtech.api.util.GTTransferUtils;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.Mods;
+import gregtech.api.util.TickProfiler;
 import gregtech.client.renderer.texture.Textures;
 import gregtech.client.utils.BloomEffectUtil;
 import gregtech.client.utils.RenderUtil;
@@ -60,6 +61,7 @@ import net.minecraft.util.BlockRenderLayer;
 import net.minecraft.util.EnumActionResult;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumHand;
+import net.minecraft.util.ITickable;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
@@ -305,6 +307,31 @@ public abstract class MetaTileEntity implements ISyncedTileEntity, CoverHolder,
         }
     }
 
+    /**
+     * Allows the block rendering of this meta tile entity to be baked once and reused for all equal keys, if
+     * {@link #hasStaticRendering()} is true. The key has to cover everything {@link #renderMetaTileEntity} depends on
+     * besides the meta tile entity type, front facing, painting color and the rendered layer and sides, and implement
+     * equals and hashCode.
+     *
+     * @return the render state key, or null if the rendering is dynamic and must not be cached
+     */
+    @SideOnly(Side.CLIENT)
+    @Nullable
+    public Object getRenderStateKey() {
+        return null;
+    }
+
+    /**
+     * Opts the block rendering into being baked by {@link #getRenderStateKey()}. Subclasses inherit this along with
+     * the key, so only return true from classes whose whole rendering is known to be covered by the key.
+     *
+     * @return if the block rendering only depends on the render state key
+     */
+    @SideOnly(Side.CLIENT)
+    public boolean hasStaticRendering() {
+        return false;
+    }
+
     @SideOnly(Side.CLIENT)
     public boolean canRenderInLayer(BlockRenderLayer renderLayer) {
         return renderLayer == BlockRenderLayer.CUTOUT_MIPPED ||
@@ -382,6 +409,7 @@ public abstract class MetaTileEntity implements ISyncedTileEntity, CoverHolder,
     }
 
     public <T> void addNotifiedInput(T input) {
+        wakeUp();
         if (input instanceof IItemHandlerModifiable) {
             if (!notifiedItemInputList.contains(input)) {
                 this.notifiedItemInputList.add((IItemHandlerModifiable) input);
@@ -394,6 +422,7 @@ public abstract class MetaTileEntity implements ISyncedTileEntity, CoverHolder,
     }
 
     public <T> void addNotifiedOutput(T output) {
+        wakeUp();
         if (output instanceof IItemHandlerModifiable) {
             if (!notifiedItemOutputList.contains(output)) {
                 this.notifiedItemOutputList.add((IItemHandlerModifiable) output);
@@ -713,6 +742,7 @@ public abstract class MetaTileEntity implements ISyncedTileEntity, CoverHolder,
         }
         notifyBlockUpdate();
         markDirty();
+        wakeUp();
         onCoverPlacementUpdate();
     }
 
@@ -741,6 +771,7 @@ public abstract class MetaTileEntity implements ISyncedTileEntity, CoverHolder,
         writeCustomData(COVER_REMOVED_MTE, buffer -> buffer.writeByte(side.getIndex()));
         notifyBlockUpdate();
         markDirty();
+        wakeUp();
         onCoverPlacementUpdate();
     }
 
@@ -807,6 +838,7 @@ public abstract class MetaTileEntity implements ISyncedTileEntity, CoverHolder,
             int currentValue = sidedRedstoneInput[side.getIndex()];
             if (redstoneValue != currentValue) {
                 this.sidedRedstoneInput[side.getIndex()] = redstoneValue;
+                wakeUp();
                 Cover cover = getCoverAtSide(side);
                 if (cover != null) {
                     cover.onRedstoneInputSignalChange(redstoneValue);
@@ -863,7 +895,9 @@ public abstract class MetaTileEntity implements ISyncedTileEntity, CoverHolder,
 
         for (MTETrait mteTrait : this.mteTraits.values()) {
             if (shouldUpdate(mteTrait)) {
+                long profilerStart = TickProfiler.start();
                 mteTrait.update();
+                TickProfiler.record(TickProfiler.Category.TRAIT, mteTrait.getClass(), getWorld(), profilerStart);
             }
         }
 
@@ -890,6 +924,78 @@ public abstract class MetaTileEntity implements ISyncedTileEntity, CoverHolder,
         return true;
     }
 
+    /**
+     * Stops ticking this MetaTileEntity until it is woken up, if it {@link #canSleep() can sleep}.
+     * <p>
+     * It is woken up by {@link #wakeUp()}, which is called on input and output notifications, redstone input changes
+     * and cover placement, or after at most {@code maxTicks}.
+     *
+     * @param maxTicks the maximum amount of ticks to sleep for
+     * @return if this MetaTileEntity is going to sleep
+     */
+    public boolean sleep(int maxTicks) {
+        return sleep(maxTicks, Long.MAX_VALUE);
+    }
+
+    /**
+     * Stops ticking this MetaTileEntity until it is woken up, if it {@link #canSleep() can sleep}.
+     *
+     * @param maxTicks   the maximum amount of ticks to sleep for
+     * @param wakeEnergy the amount of stored energy to wake up at, checked when the energy of an
+     *                   {@link gregtech.api.capability.impl.EnergyContainerHandler} changes
+     * @return if this MetaTileEntity is going to sleep
+     * @see #sleep(int)
+     */
+    public boolean sleep(int maxTicks, long wakeEnergy) {
+        if (!(holder instanceof MetaTileEntityHolder mteHolder) || maxTicks <= 0) return false;
+        if (getWorld() == null || getWorld().isRemote) return false;
+        if (mteHolder.sleeping) return true;
+        if (!canSleep()) return false;
+        for (MTETrait trait : this.mteTraits.values()) {
+            if (shouldUpdate(trait) && !trait.canSleep()) return false;
+        }
+        for (Cover cover : this.covers.values()) {
+            if (cover instanceof ITickable) return false;
+        }
+        MetaTileEntitySleepScheduler.sleep(mteHolder, maxTicks, wakeEnergy);
+        return true;
+    }
+
+    /**
+     * Resumes ticking this MetaTileEntity, if it is sleeping.
+     */
+    public void wakeUp() {
+        if (holder instanceof MetaTileEntityHolder mteHolder && mteHolder.sleeping) {
+            MetaTileEntitySleepScheduler.wakeUp(mteHolder);
+        }
+    }
+
+    /**
+     * @param energyStored the amount of energy stored now
+     */
+    public void onSleepEnergyChanged(long energyStored) {
+        if (holder instanceof MetaTileEntityHolder mteHolder && mteHolder.sleeping &&
+                energyStored >= mteHolder.wakeEnergy) {
+            MetaTileEntitySleepScheduler.wakeUp(mteHolder);
+        }
+    }
+
+    /**
+     * @return if this MetaTileEntity is sleeping
+     */
+    public boolean isSleeping() {
+        return holder instanceof MetaTileEntityHolder mteHolder && mteHolder.sleeping;
+    }
+
+    /**
+     * Checked in addition to {@link MTETrait#canSleep()} of every trait and the covers, which must not tick.
+     *
+     * @return if the work done in {@link #update()} itself can be skipped right now
+     */
+    protected boolean canSleep() {
+        return false;
+    }
+
     @SideOnly(Side.CLIENT)
     private void updateSound() {
         if (!ConfigHolder.machines.machineSounds || isMuffled()) {
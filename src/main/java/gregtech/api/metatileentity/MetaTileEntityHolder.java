@@ -10,6 +10,7 @@ import gregtech.api.metatileentity.registry.MTERegistry;
 import gregtech.api.util.GTLog;
 import gregtech.api.util.Mods;
 import gregtech.api.util.TextFormattingUtil;
+import gregtech.api.util.TickProfiler;
 import gregtech.client.particle.GTNameTagParticle;
 import gregtech.client.particle.GTParticleManager;
 import gregtech.common.ConfigHolder;
@@ -68,6 +69,10 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IGre
 
     MetaTileEntity metaTileEntity;
     private boolean needToUpdateLightning = false;
+    // managed by MetaTileEntitySleepScheduler
+    boolean sleeping;
+    long wakeTick;
+    long wakeEnergy;
     private String customName;
     @SideOnly(Side.CLIENT)
     private GTNameTagParticle nameTagParticle;
@@ -112,6 +117,9 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IGre
     }
 
     protected void setRawMetaTileEntity(MetaTileEntity metaTileEntity) {
+        if (sleeping) {
+            MetaTileEntitySleepScheduler.wakeUp(this);
+        }
         this.metaTileEntity = metaTileEntity;
         this.metaTileEntity.holder = this;
     }
@@ -177,6 +185,7 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IGre
         if (metaTileEntity != null) {
             metaTileEntity.invalidate();
         }
+        MetaTileEntitySleepScheduler.remove(this);
         super.invalidate();
         if (Mods.AppliedEnergistics2.isModLoaded()) {
             invalidateAE();
@@ -201,7 +210,10 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IGre
     public void update() {
         long tickTime = System.nanoTime();
         if (metaTileEntity != null) {
+            long profilerStart = TickProfiler.start();
             metaTileEntity.update();
+            TickProfiler.record(TickProfiler.Category.METATILEENTITY, metaTileEntity.metaTileEntityId, world,
+                    profilerStart);
         } else if (world.isRemote) { // recover the mte
             GregTechAPI.networkHandler.sendToServer(new PacketRecoverMTE(world.provider.getDimension(), getPos()));
         } else { // remove the block
@@ -386,6 +398,7 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IGre
     @Override
     public void onChunkUnload() {
         super.onChunkUnload();
+        MetaTileEntitySleepScheduler.remove(this);
         if (metaTileEntity != null) {
             metaTileEntity.onUnload();
         }
@@ -0,0 +1,117 @@
+package gregtech.api.metatileentity;
+
+import gregtech.api.GTValues;
+
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Removes sleeping {@link MetaTileEntityHolder}s from the ticking tile entities of their world, and adds them back
+ * once they wake up.
+ * <p>
+ * The ticking list must not change while the world iterates it, so both are applied at the start of the next world
+ * tick. A holder woken up before it was removed simply stays in the list.
+ *
+ * @see MetaTileEntity#sleep(int, long)
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+public final class MetaTileEntitySleepScheduler {
+
+    private static final Map<World, Schedule> SCHEDULES = new HashMap<>();
+
+    private MetaTileEntitySleepScheduler() {}
+
+    static void sleep(@NotNull MetaTileEntityHolder holder, int maxTicks, long wakeEnergy) {
+        World world = holder.getWorld();
+        Schedule schedule = SCHEDULES.computeIfAbsent(world, k -> new Schedule());
+        holder.sleeping = true;
+        holder.wakeEnergy = wakeEnergy;
+        holder.wakeTick = world.getTotalWorldTime() + maxTicks;
+        schedule.timers.computeIfAbsent(holder.wakeTick, k -> new ArrayList<>()).add(holder);
+
+        if (!schedule.toWake.remove(holder) && !schedule.asleep.contains(holder)) {
+            schedule.toSleep.add(holder);
+        }
+    }
+
+    static void wakeUp(@NotNull MetaTileEntityHolder holder) {
+        holder.sleeping = false;
+        Schedule schedule = SCHEDULES.get(holder.getWorld());
+        if (schedule == null) return;
+        if (!schedule.toSleep.remove(holder) && schedule.asleep.contains(holder)) {
+            schedule.toWake.add(holder);
+        }
+    }
+
+    /**
+     * Forgets a holder which is no longer part of its world.
+     */
+    static void remove(@NotNull MetaTileEntityHolder holder) {
+        holder.sleeping = false;
+        Schedule schedule = SCHEDULES.get(holder.getWorld());
+        if (schedule == null) return;
+        schedule.toSleep.remove(holder);
+        schedule.toWake.remove(holder);
+        schedule.asleep.remove(holder);
+    }
+
+    @SubscribeEvent
+    public static void onWorldTick(@NotNull TickEvent.WorldTickEvent event) {
+        if (event.phase != TickEvent.Phase.START || event.world.isRemote) return;
+        Schedule schedule = SCHEDULES.get(event.world);
+        if (schedule == null) return;
+
+        List<MetaTileEntityHolder> timedOut = schedule.timers.remove(event.world.getTotalWorldTime());
+        if (timedOut != null) {
+            for (MetaTileEntityHolder holder : timedOut) {
+                // the holder may have been woken up and put to sleep again since
+                if (holder.sleeping && holder.wakeTick == event.world.getTotalWorldTime()) {
+                    wakeUp(holder);
+                }
+            }
+        }
+
+        if (!schedule.toSleep.isEmpty()) {
+            event.world.tickableTileEntities.removeAll(schedule.toSleep);
+            schedule.asleep.addAll(schedule.toSleep);
+            schedule.toSleep.clear();
+        }
+        if (!schedule.toWake.isEmpty()) {
+            for (MetaTileEntityHolder holder : schedule.toWake) {
+                schedule.asleep.remove(holder);
+                if (!holder.isInvalid() && event.world.isBlockLoaded(holder.getPos()) &&
+                        event.world.getTileEntity(holder.getPos()) == holder) {
+                    event.world.tickableTileEntities.add(holder);
+                }
+            }
+            schedule.toWake.clear();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(@NotNull WorldEvent.Unload event) {
+        SCHEDULES.remove(event.getWorld());
+    }
+
+    private static final class Schedule {
+
+        private final Set<MetaTileEntityHolder> toSleep = new ObjectOpenHashSet<>();
+        private final Set<MetaTileEntityHolder> toWake = new ObjectOpenHashSet<>();
+        private final Set<MetaTileEntityHolder> asleep = new ObjectOpenHashSet<>();
+        private final Long2ObjectMap<List<MetaTileEntityHolder>> timers = new Long2ObjectOpenHashMap<>();
+    }
+}
@@ -23,6 +23,8 @@ import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.World;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
 import net.minecraftforge.items.CapabilityItemHandler;
 
 import codechicken.lib.render.CCRenderState;
@@ -128,6 +130,13 @@ public class SimpleGeneratorMetaTileEntity extends WorkableTieredMetaTileEntity
                 workable.isWorkingEnabled());
     }
 
+    @Override
+    @SideOnly(Side.CLIENT)
+    public boolean hasStaticRendering() {
+        // subclasses may render other overlays, so they have to opt in themselves
+        return getClass() == SimpleGeneratorMetaTileEntity.class;
+    }
+
     @Override
     protected ModularUI createUI(EntityPlayer entityPlayer) {
         return createGuiTemplate(entityPlayer).build(getHolder(), entityPlayer);
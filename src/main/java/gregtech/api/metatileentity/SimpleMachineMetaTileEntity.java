@@ -110,7 +110,14 @@ public class SimpleMachineMetaTileEntity extends WorkableTieredMetaTileEntity
                                        @Nullable IMachineParticleEffect randomParticle) {
         super(metaTileEntityId, recipeMap, renderer, tier, tankScalingFunction);
         this.hasFrontFacing = hasFrontFacing;
-        this.chargerInventory = new GTItemStackHandler(this, 1);
+        this.chargerInventory = new GTItemStackHandler(this, 1) {
+
+            @Override
+            public void onContentsChanged(int slot) {
+                super.onContentsChanged(slot);
+                wakeUp();
+            }
+        };
         this.tickingParticle = tickingParticle;
         this.randomParticle = randomParticle;
     }
@@ -200,6 +207,20 @@ public class SimpleMachineMetaTileEntity extends WorkableTieredMetaTileEntity
         }
     }
 
+    @Override
+    @SideOnly(Side.CLIENT)
+    public Object getRenderStateKey() {
+        return Arrays.asList(super.getRenderStateKey(), outputFacingItems, outputFacingFluids, isAutoOutputItems(),
+                isAutoOutputFluids());
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public boolean hasStaticRendering() {
+        // subclasses may render more than the key covers, so they have to opt in themselves
+        return getClass() == SimpleMachineMetaTileEntity.class;
+    }
+
     @Override
     public void update() {
         super.update();
@@ -219,6 +240,22 @@ public class SimpleMachineMetaTileEntity extends WorkableTieredMetaTileEntity
         }
     }
 
+    @Override
+    protected boolean canSleep() {
+        if (!chargerInventory.getStackInSlot(0).isEmpty()) return false;
+        if (isAutoOutputItems()) {
+            for (int i = 0; i < exportItems.getSlots(); i++) {
+                if (!exportItems.getStackInSlot(i).isEmpty()) return false;
+            }
+        }
+        if (isAutoOutputFluids()) {
+            for (int i = 0; i < exportFluids.getTanks(); i++) {
+                if (exportFluids.getTankAt(i).getFluidAmount() > 0) return false;
+            }
+        }
+        return true;
+    }
+
     @SideOnly(Side.CLIENT)
     @Override
     public void randomDisplayTick() {
@@ -399,6 +436,7 @@ public class SimpleMachineMetaTileEntity extends WorkableTieredMetaTileEntity
         if (!getWorld().isRemote) {
             writeCustomData(UPDATE_AUTO_OUTPUT_ITEMS, buf -> buf.writeBoolean(autoOutputItems));
             markDirty();
+            wakeUp();
         }
     }
 
@@ -407,6 +445,7 @@ public class SimpleMachineMetaTileEntity extends WorkableTieredMetaTileEntity
         if (!getWorld().isRemote) {
             writeCustomData(UPDATE_AUTO_OUTPUT_FLUIDS, buf -> buf.writeBoolean(autoOutputFluids));
             markDirty();
+            wakeUp();
         }
     }
 
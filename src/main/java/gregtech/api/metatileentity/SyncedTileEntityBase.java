@@ -5,6 +5,8 @@ import gregtech.api.metatileentity.interfaces.IGregTechTileEntity;
 import gregtech.api.metatileentity.interfaces.ISyncedTileEntity;
 import gregtech.api.network.PacketDataList;
 import gregtech.api.util.GTLog;
+import gregtech.common.ConfigHolder;
+import gregtech.core.network.CustomDataBatcher;
 
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.nbt.NBTBase;
@@ -28,6 +30,7 @@ import java.util.function.Consumer;
 public abstract class SyncedTileEntityBase extends BlockStateTileEntity implements ISyncedTileEntity {
 
     private final PacketDataList updates = new PacketDataList();
+    private long firstSyncTime = -1;
 
     public @Nullable TileEntity getNeighbor(EnumFacing facing) {
         if (world == null || pos == null) return null;
@@ -36,13 +39,34 @@ public abstract class SyncedTileEntityBase extends BlockStateTileEntity implemen
 
     @Override
     public final void writeCustomData(int discriminator, @NotNull Consumer<@NotNull PacketBuffer> dataWriter) {
+        if (canBatchCustomData()) {
+            CustomDataBatcher.write(this, discriminator, dataWriter);
+            return;
+        }
         ByteBuf backedBuffer = Unpooled.buffer();
         dataWriter.accept(new PacketBuffer(backedBuffer));
         byte[] updateData = Arrays.copyOfRange(backedBuffer.array(), 0, backedBuffer.writerIndex());
         this.updates.add(discriminator, updateData);
+        if (world != null && !world.isRemote) {
+            CustomDataBatcher.recordBytes(this, updateData.length);
+        }
         notifyWorld();
     }
 
+    /**
+     * @return if custom data can be sent through the {@link CustomDataBatcher}
+     */
+    private boolean canBatchCustomData() {
+        if (!ConfigHolder.misc.batchCustomDataSync || world == null || world.isRemote) return false;
+        long time = world.getTotalWorldTime();
+        if (firstSyncTime < 0) {
+            firstSyncTime = time;
+        }
+        // data written right after creation must arrive with the block change, which only the vanilla update
+        // packet does. Pending vanilla updates must also arrive before any batched data.
+        return time > firstSyncTime + 1 && this.updates.isEmpty() && CustomDataBatcher.canBatch(getPos());
+    }
+
     /**
      * Adds all data packets from another synced tile entity. Useful when the old tile is replaced with a new one.
      *
@@ -80,21 +104,31 @@ public abstract class SyncedTileEntityBase extends BlockStateTileEntity implemen
             NBTTagCompound entryTag = (NBTTagCompound) entryBase;
             for (String discriminatorKey : entryTag.getKeySet()) {
                 ByteBuf backedBuffer = Unpooled.copiedBuffer(entryTag.getByteArray(discriminatorKey));
-                receiveCustomData(Integer.parseInt(discriminatorKey), new PacketBuffer(backedBuffer));
-                if (backedBuffer.readableBytes() != 0) {
-                    String className = null;
-                    if (this instanceof IGregTechTileEntity gtte) {
-                        MetaTileEntity mte = gtte.getMetaTileEntity();
-                        if (mte != null) className = mte.getClass().getName();
-                    }
-                    if (className == null) {
-                        className = this.getClass().getName();
-                    }
-                    GTLog.logger.error(
-                            "Class {} failed to finish reading receiveCustomData with discriminator {} and {} bytes remaining",
-                            className, discriminatorKey, backedBuffer.readableBytes());
-                }
+                handleCustomData(Integer.parseInt(discriminatorKey), new PacketBuffer(backedBuffer));
+            }
+        }
+    }
+
+    /**
+     * Receives custom data on the client, and reports data which was not fully read.
+     *
+     * @param discriminator the discriminator of the data
+     * @param buffer        the data
+     */
+    public final void handleCustomData(int discriminator, @NotNull PacketBuffer buffer) {
+        receiveCustomData(discriminator, buffer);
+        if (buffer.readableBytes() != 0) {
+            String className = null;
+            if (this instanceof IGregTechTileEntity gtte) {
+                MetaTileEntity mte = gtte.getMetaTileEntity();
+                if (mte != null) className = mte.getClass().getName();
+            }
+            if (className == null) {
+                className = this.getClass().getName();
             }
+            GTLog.logger.error(
+                    "Class {} failed to finish reading receiveCustomData with discriminator {} and {} bytes remaining",
+                    className, discriminator, buffer.readableBytes());
         }
     }
 
@@ -24,6 +24,8 @@ import net.minecraft.util.text.TextComponentTranslation;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.World;
 import net.minecraftforge.fluids.FluidTank;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
 import net.minecraftforge.items.IItemHandlerModifiable;
 
 import codechicken.lib.render.CCRenderState;
@@ -33,6 +35,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 
@@ -102,6 +105,12 @@ public abstract class WorkableTieredMetaTileEntity extends TieredMetaTileEntity
                 workable.isWorkingEnabled());
     }
 
+    @Override
+    @SideOnly(Side.CLIENT)
+    public Object getRenderStateKey() {
+        return Arrays.asList(workable.isActive(), workable.isWorkingEnabled());
+    }
+
     @Override
     protected IItemHandlerModifiable createImportItemHandler() {
         if (workable == null) return new GTItemStackHandler(this, 0);
@@ -24,6 +24,7 @@ import gregtech.client.renderer.ICubeRenderer;
 import gregtech.client.renderer.handler.MultiblockPreviewRenderer;
 import gregtech.client.renderer.texture.Textures;
 import gregtech.client.renderer.texture.cube.SimpleOrientedCubeRenderer;
+import gregtech.common.ConfigHolder;
 import gregtech.common.blocks.MetaBlocks;
 
 import net.minecraft.block.Block;
@@ -41,6 +42,7 @@ import net.minecraft.util.EnumHand;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraft.world.gen.structure.StructureBoundingBox;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
@@ -84,6 +86,14 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
     private final List<IMultiblockPart> multiblockParts = new ArrayList<>();
     private boolean structureFormed;
 
+    // whether a block in the formed structure changed since the last structure check
+    private boolean structureDirty = true;
+    @Nullable
+    private BlockPattern indexedPattern;
+    private int indexedCacheVersion;
+    // whether a region is watched for changes while the structure is not formed
+    private boolean regionWatched;
+
     protected EnumFacing upwardsFacing = EnumFacing.NORTH;
     protected boolean isFlipped;
 
@@ -105,7 +115,7 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
     public void update() {
         super.update();
         if (!getWorld().isRemote) {
-            if (getOffsetTimer() % 20 == 0 || isFirstTick()) {
+            if (shouldCheckStructurePattern()) {
                 checkStructurePattern();
             }
             // DummyWorld is the world for the JEI preview. We do not want to update the Multi in this world,
@@ -116,6 +126,26 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
         }
     }
 
+    /**
+     * @return if the structure should be checked this tick
+     */
+    protected boolean shouldCheckStructurePattern() {
+        if (isFirstTick()) return true;
+        if (!ConfigHolder.machines.eventDrivenStructureChecks || (!isStructureFormed() && !regionWatched)) {
+            return getOffsetTimer() % 20 == 0;
+        }
+        // formed structures and watched regions are rechecked when a block in them changes,
+        // with a slow periodic check as a fallback
+        return structureDirty || getOffsetTimer() % ConfigHolder.machines.structureFallbackCheckInterval == 0;
+    }
+
+    /**
+     * Marks the structure for a recheck on the next tick.
+     */
+    public void markStructureDirty() {
+        this.structureDirty = true;
+    }
+
     /**
      * Called when the multiblock is formed and validation predicate is matched
      */
@@ -335,6 +365,7 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
 
     public void checkStructurePattern() {
         if (structurePattern == null) return;
+        this.structureDirty = false;
         PatternMatchContext context = structurePattern.checkPatternFastAt(getWorld(), getPos(),
                 getFrontFacing().getOpposite(), getUpwardsFacing(), allowsFlip());
         if (context != null && !structureFormed) {
@@ -373,6 +404,48 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
                 setFlipped(context.neededFlip());
             }
         }
+        if (structureFormed) {
+            updateStructureIndex();
+        }
+    }
+
+    /**
+     * Registers the positions of the formed structure for change notifications, if they changed.
+     */
+    private void updateStructureIndex() {
+        if (!ConfigHolder.machines.eventDrivenStructureChecks || structurePattern == null) return;
+        if (getWorld() instanceof DummyWorld) return;
+        if (indexedPattern == structurePattern && indexedCacheVersion == structurePattern.getCacheVersion()) return;
+
+        this.indexedPattern = structurePattern;
+        this.indexedCacheVersion = structurePattern.getCacheVersion();
+        MultiblockStructureIndex.register(this, structurePattern.cache.keySet());
+    }
+
+    private void removeFromStructureIndex() {
+        if (indexedPattern != null) {
+            this.indexedPattern = null;
+            MultiblockStructureIndex.unregister(this);
+        }
+    }
+
+    /**
+     * Watches a region for block changes while the structure is not formed, so that the unformed structure is only
+     * checked after a change inside it. Has no effect unless event driven structure checks are enabled.
+     *
+     * @param region the region to watch, usually the largest area the structure can cover
+     */
+    protected void watchStructureRegion(@NotNull StructureBoundingBox region) {
+        if (!ConfigHolder.machines.eventDrivenStructureChecks || getWorld() instanceof DummyWorld) return;
+        this.regionWatched = true;
+        MultiblockStructureIndex.watchRegion(this, region);
+    }
+
+    protected void unwatchStructureRegion() {
+        if (regionWatched) {
+            this.regionWatched = false;
+            MultiblockStructureIndex.unwatchRegion(this);
+        }
     }
 
     protected void formStructure(PatternMatchContext context) {}
@@ -383,6 +456,7 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
         this.multiblockParts.clear();
         this.structureFormed = false;
         this.setFlipped(false);
+        removeFromStructureIndex();
         writeCustomData(STRUCTURE_FORMED, buf -> buf.writeBoolean(false));
     }
 
@@ -392,6 +466,14 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
         if (!getWorld().isRemote && structureFormed) {
             invalidateStructure();
         }
+        unwatchStructureRegion();
+    }
+
+    @Override
+    public void onUnload() {
+        super.onUnload();
+        removeFromStructureIndex();
+        unwatchStructureRegion();
     }
 
     @SuppressWarnings("unchecked")
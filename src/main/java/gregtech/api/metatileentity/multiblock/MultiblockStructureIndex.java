@@ -0,0 +1,240 @@
+package gregtech.api.metatileentity.multiblock;
+
+import gregtech.api.GTValues;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.structure.StructureBoundingBox;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import org.apache.commons.lang3.ArrayUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-world spatial index from the block positions of formed multiblock structures to their controllers.
+ * <p>
+ * Block and tile entity changes are reported to the index, which marks every controller owning the changed position
+ * for a structure recheck. This lets formed multiblocks skip their periodic structure checks.
+ * <p>
+ * Controllers of unformed structures may additionally watch a region, such as the largest area their structure can
+ * cover, to be marked for a recheck when any block inside it changes.
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+public final class MultiblockStructureIndex {
+
+    private static final Map<World, MultiblockStructureIndex> INDICES = new HashMap<>();
+
+    private final Long2ObjectOpenHashMap<MultiblockControllerBase[]> controllersByPos = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<Set<MultiblockControllerBase>> controllersByChunk =
+            new Long2ObjectOpenHashMap<>();
+    private final Map<MultiblockControllerBase, long[]> positionsByController = new Reference2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<Set<MultiblockControllerBase>> regionsByChunk = new Long2ObjectOpenHashMap<>();
+    private final Map<MultiblockControllerBase, StructureBoundingBox> regionByController =
+            new Reference2ObjectOpenHashMap<>();
+
+    private MultiblockStructureIndex() {}
+
+    /**
+     * Registers the positions of a formed structure, replacing any previously registered positions.
+     *
+     * @param controller the controller of the structure
+     * @param positions  the packed positions of the structure
+     */
+    public static void register(@NotNull MultiblockControllerBase controller, @NotNull LongCollection positions) {
+        World world = controller.getWorld();
+        if (world == null || world.isRemote) return;
+
+        MultiblockStructureIndex index = INDICES.computeIfAbsent(world, k -> new MultiblockStructureIndex());
+        index.remove(controller);
+        index.add(controller, positions.toLongArray());
+    }
+
+    /**
+     * Removes all positions registered for a controller.
+     *
+     * @param controller the controller to remove
+     */
+    public static void unregister(@NotNull MultiblockControllerBase controller) {
+        World world = controller.getWorld();
+        if (world == null || world.isRemote) return;
+
+        MultiblockStructureIndex index = INDICES.get(world);
+        if (index != null) {
+            index.remove(controller);
+        }
+    }
+
+    /**
+     * Watches a region for changes, replacing any previously watched region of the controller.
+     *
+     * @param controller the controller to mark for rechecks
+     * @param region     the region to watch, including its bounds
+     */
+    public static void watchRegion(@NotNull MultiblockControllerBase controller,
+                                   @NotNull StructureBoundingBox region) {
+        World world = controller.getWorld();
+        if (world == null || world.isRemote) return;
+
+        MultiblockStructureIndex index = INDICES.computeIfAbsent(world, k -> new MultiblockStructureIndex());
+        index.removeRegion(controller);
+        index.regionByController.put(controller, region);
+        for (int chunkX = region.minX >> 4; chunkX <= region.maxX >> 4; chunkX++) {
+            for (int chunkZ = region.minZ >> 4; chunkZ <= region.maxZ >> 4; chunkZ++) {
+                index.regionsByChunk.computeIfAbsent(ChunkPos.asLong(chunkX, chunkZ),
+                        k -> new ReferenceOpenHashSet<>()).add(controller);
+            }
+        }
+    }
+
+    /**
+     * Stops watching the region of a controller.
+     *
+     * @param controller the controller to remove
+     */
+    public static void unwatchRegion(@NotNull MultiblockControllerBase controller) {
+        World world = controller.getWorld();
+        if (world == null || world.isRemote) return;
+
+        MultiblockStructureIndex index = INDICES.get(world);
+        if (index != null) {
+            index.removeRegion(controller);
+        }
+    }
+
+    /**
+     * Marks all structures and watched regions containing a position for a recheck.
+     *
+     * @param world the world the change happened in
+     * @param pos   the position which changed
+     */
+    public static void onBlockChanged(@NotNull World world, @NotNull BlockPos pos) {
+        MultiblockStructureIndex index = INDICES.get(world);
+        if (index == null) return;
+        long chunk = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+
+        // cheap rejection for chunks without any formed structure
+        if (index.controllersByChunk.containsKey(chunk)) {
+            MultiblockControllerBase[] controllers = index.controllersByPos.get(pos.toLong());
+            if (controllers != null) {
+                for (MultiblockControllerBase controller : controllers) {
+                    controller.markStructureDirty();
+                }
+            }
+        }
+
+        Set<MultiblockControllerBase> watching = index.regionsByChunk.get(chunk);
+        if (watching != null) {
+            for (MultiblockControllerBase controller : watching) {
+                if (index.regionByController.get(controller).isVecInside(pos)) {
+                    controller.markStructureDirty();
+                }
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(@NotNull ChunkEvent.Unload event) {
+        World world = event.getWorld();
+        if (world.isRemote) return;
+
+        MultiblockStructureIndex index = INDICES.get(world);
+        if (index == null) return;
+
+        Chunk chunk = event.getChunk();
+        long chunkPos = ChunkPos.asLong(chunk.x, chunk.z);
+        Set<MultiblockControllerBase> controllers = index.controllersByChunk.get(chunkPos);
+        if (controllers != null) {
+            for (MultiblockControllerBase controller : controllers) {
+                controller.markStructureDirty();
+            }
+        }
+        Set<MultiblockControllerBase> watching = index.regionsByChunk.get(chunkPos);
+        if (watching != null) {
+            for (MultiblockControllerBase controller : watching) {
+                controller.markStructureDirty();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(@NotNull WorldEvent.Unload event) {
+        if (!event.getWorld().isRemote) {
+            INDICES.remove(event.getWorld());
+        }
+    }
+
+    private void add(@NotNull MultiblockControllerBase controller, long @NotNull [] positions) {
+        positionsByController.put(controller, positions);
+        for (long pos : positions) {
+            MultiblockControllerBase[] existing = controllersByPos.get(pos);
+            if (existing == null) {
+                controllersByPos.put(pos, new MultiblockControllerBase[] { controller });
+            } else if (!ArrayUtils.contains(existing, controller)) {
+                controllersByPos.put(pos, ArrayUtils.add(existing, controller));
+            }
+            controllersByChunk.computeIfAbsent(chunkKey(pos), k -> new ReferenceOpenHashSet<>()).add(controller);
+        }
+    }
+
+    private void remove(@NotNull MultiblockControllerBase controller) {
+        long[] positions = positionsByController.remove(controller);
+        if (positions == null) return;
+
+        for (long pos : positions) {
+            MultiblockControllerBase[] existing = controllersByPos.get(pos);
+            if (existing != null) {
+                MultiblockControllerBase[] remaining = ArrayUtils.removeElement(existing, controller);
+                if (remaining.length == 0) {
+                    controllersByPos.remove(pos);
+                } else if (remaining != existing) {
+                    controllersByPos.put(pos, remaining);
+                }
+            }
+
+            long chunk = chunkKey(pos);
+            Set<MultiblockControllerBase> controllers = controllersByChunk.get(chunk);
+            if (controllers != null && controllers.remove(controller) && controllers.isEmpty()) {
+                controllersByChunk.remove(chunk);
+            }
+        }
+    }
+
+    private void removeRegion(@NotNull MultiblockControllerBase controller) {
+        StructureBoundingBox region = regionByController.remove(controller);
+        if (region == null) return;
+
+        for (int chunkX = region.minX >> 4; chunkX <= region.maxX >> 4; chunkX++) {
+            for (int chunkZ = region.minZ >> 4; chunkZ <= region.maxZ >> 4; chunkZ++) {
+                long chunk = ChunkPos.asLong(chunkX, chunkZ);
+                Set<MultiblockControllerBase> controllers = regionsByChunk.get(chunk);
+                if (controllers != null && controllers.remove(controller) && controllers.isEmpty()) {
+                    regionsByChunk.remove(chunk);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param pos the packed block position, as from {@link BlockPos#toLong()}
+     * @return the packed chunk position containing the block
+     */
+    private static long chunkKey(long pos) {
+        // unpack x and z without allocating a BlockPos
+        int x = (int) (pos >> 38);
+        int z = (int) (pos << 38 >> 38);
+        return ChunkPos.asLong(x >> 4, z >> 4);
+    }
+}
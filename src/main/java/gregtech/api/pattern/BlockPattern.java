@@ -48,6 +48,8 @@ public class BlockPattern {
     protected final Map<TraceabilityPredicate.SimplePredicate, Integer> layerCount;
 
     public Long2ObjectMap<BlockInfo> cache = new Long2ObjectOpenHashMap<>();
+    // incremented whenever the cache is cleared or rebuilt
+    private int cacheVersion;
     // x, y, z, minZ, maxZ
     private int[] centerOffset = null;
 
@@ -142,6 +144,14 @@ public class BlockPattern {
 
     public void clearCache() {
         cache.clear();
+        cacheVersion++;
+    }
+
+    /**
+     * @return a counter which changes whenever the positions in {@link #cache} may have changed
+     */
+    public int getCacheVersion() {
+        return cacheVersion;
     }
 
     private PatternMatchContext checkPatternAt(World world, BlockPos centerPos, EnumFacing frontFacing,
@@ -153,6 +163,7 @@ public class BlockPattern {
         this.globalCount.clear();
         this.layerCount.clear();
         cache.clear();
+        cacheVersion++;
         // Checking aisles
         for (int c = 0, z = minZ++, r; c < this.fingerLength; c++) {
             // Checking repeatable slices
@@ -66,6 +66,17 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
      */
     public void onPipeConnectionsUpdate() {}
 
+    /**
+     * Is called when a connection of a pipe in the net changes
+     *
+     * @param nodePos   the position of the pipe
+     * @param side      the side of the connection
+     * @param isBlocked if the connection is closed now
+     */
+    public void onPipeConnectionsUpdate(BlockPos nodePos, EnumFacing side, boolean isBlocked) {
+        onPipeConnectionsUpdate();
+    }
+
     public void onNeighbourUpdate(BlockPos fromPos) {}
 
     /**
@@ -73,6 +84,15 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
      */
     public void onChunkUnload() {}
 
+    /**
+     * Is called when any Pipe TE in the PipeNet is unloaded
+     *
+     * @param pipePos the position of the unloaded pipe
+     */
+    public void onChunkUnload(BlockPos pipePos) {
+        onChunkUnload();
+    }
+
     public Map<BlockPos, Node<NodeDataType>> getAllNodes() {
         return unmodifiableNodeByBlockPos;
     }
@@ -0,0 +1,323 @@
+package gregtech.api.pipenet;
+
+import gregtech.api.pipenet.tile.IPipeTile;
+import gregtech.common.ConfigHolder;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Caches the route paths of a {@link PipeNet} by source, and invalidates them incrementally.
+ * <p>
+ * A source is usually the pipe routes start at, but may carry more, like the side they are inserted from.
+ * <p>
+ * Changes to the pipes of the net, including their covers, drop all routes, as any route may be affected. Changes next
+ * to the net only mark routes as outdated when a handler appeared or disappeared at the changed position. Outdated
+ * routes are still served, and are rebuilt lazily on use, at most
+ * {@link ConfigHolder.MachineOptions#routeRebuildsPerTick} per net per tick.
+ * Routes passing through an unloaded chunk, or leading through a closed connection, are dropped immediately.
+ *
+ * @param <K>    the type of source key
+ * @param <Path> the type of route path
+ */
+public class RoutePathCache<K, Path extends IRoutePath<?>> {
+
+    private static long statisticsTick = -1;
+    private static int rebuildsThisTick;
+    private static int peakRebuildsPerTick;
+    private static long rebuildTicks;
+    private static long totalRebuilds;
+    private static long totalRebuildNanos;
+    private static long maxRebuildNanos;
+
+    private final PipeNet<?> net;
+    private final Capability<?> capability;
+    private final Function<Path, ? extends IPipeTile<?, ?>[]> pathPipes;
+
+    private final Map<K, List<Path>> routes = new Object2ObjectOpenHashMap<>();
+    private final Set<K> outdated = new ObjectOpenHashSet<>();
+    // sources with routes ending at a position, and with routes passing through a chunk
+    private final Long2ObjectOpenHashMap<Set<K>> sourcesByEndpoint = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<Set<K>> sourcesByChunk = new Long2ObjectOpenHashMap<>();
+    // the keys of the above indices each source is stored under
+    private final Map<K, LongSet> endpointsBySource = new Object2ObjectOpenHashMap<>();
+    private final Map<K, LongSet> chunksBySource = new Object2ObjectOpenHashMap<>();
+
+    private long budgetTick = -1;
+    private int budget;
+
+    /**
+     * @param net        the net to cache routes for
+     * @param capability the capability of the handlers routes lead to
+     * @param pathPipes  the pipes a route passes through, which must stay loaded for the route to be used
+     */
+    public RoutePathCache(@NotNull PipeNet<?> net, @NotNull Capability<?> capability,
+                          @NotNull Function<Path, ? extends IPipeTile<?, ?>[]> pathPipes) {
+        this.net = net;
+        this.capability = capability;
+        this.pathPipes = pathPipes;
+    }
+
+    /**
+     * @param source the source of the routes
+     * @return the cached routes, or null if the routes must be built
+     */
+    @Nullable
+    public List<Path> get(@NotNull K source) {
+        List<Path> cached = routes.get(source);
+        if (cached == null) return null;
+        if (!outdated.isEmpty() && outdated.contains(source) && tryConsumeBudget()) {
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * Replaces the routes of a source. Until then, outdated routes keep being served.
+     *
+     * @param source     the source of the routes
+     * @param paths      the routes built for the source
+     * @param buildNanos the time it took to build the routes
+     */
+    public void put(@NotNull K source, @NotNull List<Path> paths, long buildNanos) {
+        outdated.remove(source);
+        routes.put(source, paths);
+        recordRebuild(buildNanos);
+
+        // the replaced routes may have ended or passed elsewhere
+        unindex(source);
+        LongSet endpoints = new LongOpenHashSet();
+        LongSet chunks = new LongOpenHashSet();
+        for (Path path : paths) {
+            BlockPos endpoint = path.getTargetPipePos().offset(path.getTargetFacing());
+            endpoints.add(endpoint.toLong());
+            chunks.add(toChunk(endpoint));
+            for (IPipeTile<?, ?> pipe : pathPipes.apply(path)) {
+                chunks.add(toChunk(pipe.getPipePos()));
+            }
+        }
+        index(sourcesByEndpoint, endpointsBySource, source, endpoints);
+        index(sourcesByChunk, chunksBySource, source, chunks);
+    }
+
+    /**
+     * Drops all routes.
+     */
+    public void clear() {
+        routes.clear();
+        outdated.clear();
+        sourcesByEndpoint.clear();
+        sourcesByChunk.clear();
+        endpointsBySource.clear();
+        chunksBySource.clear();
+    }
+
+    /**
+     * Called when a block next to the net changed.
+     *
+     * @param pos the position of the block
+     */
+    public void onNeighbourChanged(@NotNull BlockPos pos) {
+        if (routes.isEmpty()) return;
+        if (net.containsNode(pos)) {
+            // a pipe of the net changed, like a cover being placed or removed, which routes may depend on
+            clear();
+            return;
+        }
+        // existing routes resolve their handlers on use, so they only need rebuilding when a handler
+        // appeared or disappeared
+        if (sourcesByEndpoint.containsKey(pos.toLong()) != isEndpoint(pos)) {
+            outdated.addAll(routes.keySet());
+        }
+    }
+
+    /**
+     * Called when a connection of a pipe to a block other than a pipe changed.
+     *
+     * @param pos       the position of the pipe
+     * @param side      the side of the connection
+     * @param isBlocked if the connection is closed now
+     */
+    public void onConnectionChanged(@NotNull BlockPos pos, @NotNull EnumFacing side, boolean isBlocked) {
+        if (isBlocked) {
+            remove(sourcesByEndpoint.remove(pos.offset(side).toLong()));
+        } else if (!routes.isEmpty()) {
+            outdated.addAll(routes.keySet());
+        }
+    }
+
+    /**
+     * Called when a pipe of the net is unloaded.
+     *
+     * @param pos the position of the pipe
+     */
+    public void onPipeUnloaded(@NotNull BlockPos pos) {
+        remove(sourcesByChunk.remove(toChunk(pos)));
+    }
+
+    private void remove(@Nullable Set<K> sources) {
+        if (sources == null) return;
+        for (K source : sources) {
+            routes.remove(source);
+            outdated.remove(source);
+            unindex(source);
+        }
+    }
+
+    private void index(@NotNull Long2ObjectOpenHashMap<Set<K>> sourcesByKey, @NotNull Map<K, LongSet> keysBySource,
+                       @NotNull K source, @NotNull LongSet keys) {
+        if (keys.isEmpty()) return;
+        keysBySource.put(source, keys);
+        for (long key : keys) {
+            sourcesByKey.computeIfAbsent(key, k -> new ObjectOpenHashSet<>()).add(source);
+        }
+    }
+
+    /**
+     * Removes a source from the endpoint and chunk indices.
+     */
+    private void unindex(@NotNull K source) {
+        unindex(sourcesByEndpoint, endpointsBySource.remove(source), source);
+        unindex(sourcesByChunk, chunksBySource.remove(source), source);
+    }
+
+    private void unindex(@NotNull Long2ObjectOpenHashMap<Set<K>> sourcesByKey, @Nullable LongSet keys,
+                         @NotNull K source) {
+        if (keys == null) return;
+        for (long key : keys) {
+            Set<K> sources = sourcesByKey.get(key);
+            // the set of a key is already gone while its sources are being removed
+            if (sources != null && sources.remove(source) && sources.isEmpty()) {
+                sourcesByKey.remove(key);
+            }
+        }
+    }
+
+    private static long toChunk(@NotNull BlockPos pos) {
+        return ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+    }
+
+    /**
+     * @param pos the position to check
+     * @return if the block at the position provides a handler to a connected pipe of the net
+     */
+    private boolean isEndpoint(@NotNull BlockPos pos) {
+        World world = net.getWorldData();
+        TileEntity tile = world.getTileEntity(pos);
+        if (tile == null) return false;
+        for (EnumFacing facing : EnumFacing.VALUES) {
+            Node<?> node = net.getNodeAt(pos.offset(facing));
+            if (node != null && !node.isBlocked(facing.getOpposite()) && tile.hasCapability(capability, facing)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the amount of sources with cached routes
+     */
+    public int getSourceCount() {
+        return routes.size();
+    }
+
+    /**
+     * @return the amount of cached routes of all sources
+     */
+    public int getRouteCount() {
+        int count = 0;
+        for (List<Path> paths : routes.values()) {
+            count += paths.size();
+        }
+        return count;
+    }
+
+    private boolean tryConsumeBudget() {
+        long tick = net.getWorldData().getTotalWorldTime();
+        if (tick != budgetTick) {
+            budgetTick = tick;
+            budget = ConfigHolder.machines.routeRebuildsPerTick;
+        }
+        if (budget <= 0) return false;
+        budget--;
+        return true;
+    }
+
+    private static void recordRebuild(long nanos) {
+        MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+        long tick = server == null ? 0 : server.getTickCounter();
+        if (tick != statisticsTick) {
+            statisticsTick = tick;
+            rebuildsThisTick = 0;
+            rebuildTicks++;
+        }
+        totalRebuilds++;
+        totalRebuildNanos += nanos;
+        maxRebuildNanos = Math.max(maxRebuildNanos, nanos);
+        peakRebuildsPerTick = Math.max(peakRebuildsPerTick, ++rebuildsThisTick);
+    }
+
+    /**
+     * @return the amount of routes rebuilt since the last reset
+     */
+    public static long getTotalRebuilds() {
+        return totalRebuilds;
+    }
+
+    /**
+     * @return the amount of ticks in which any routes were rebuilt since the last reset
+     */
+    public static long getRebuildTicks() {
+        return rebuildTicks;
+    }
+
+    /**
+     * @return the most routes rebuilt in a single tick since the last reset
+     */
+    public static int getPeakRebuildsPerTick() {
+        return peakRebuildsPerTick;
+    }
+
+    /**
+     * @return the time spent building routes since the last reset, in nanoseconds
+     */
+    public static long getTotalRebuildNanos() {
+        return totalRebuildNanos;
+    }
+
+    /**
+     * @return the longest time spent building the routes of a single source since the last reset, in nanoseconds
+     */
+    public static long getMaxRebuildNanos() {
+        return maxRebuildNanos;
+    }
+
+    public static void resetStatistics() {
+        statisticsTick = -1;
+        rebuildsThisTick = 0;
+        peakRebuildsPerTick = 0;
+        rebuildTicks = 0;
+        totalRebuilds = 0;
+        totalRebuildNanos = 0;
+        maxRebuildNanos = 0;
+    }
+}
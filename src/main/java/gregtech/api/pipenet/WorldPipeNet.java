@@ -55,6 +55,13 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
         return dimension == 0 ? baseID : baseID + '.' + dimension;
     }
 
+    /**
+     * @return the pipe nets of the world
+     */
+    public List<T> getPipeNets() {
+        return Collections.unmodifiableList(pipeNets);
+    }
+
     protected void onWorldSet() {
         this.pipeNets.forEach(PipeNet::onNodeConnectionsUpdate);
     }
@@ -110,7 +117,7 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
         T pipeNet = getNetFromPos(nodePos);
         if (pipeNet != null) {
             pipeNet.updateBlockedConnections(nodePos, side, isBlocked);
-            pipeNet.onPipeConnectionsUpdate();
+            pipeNet.onPipeConnectionsUpdate(nodePos, side, isBlocked);
         }
     }
 
@@ -90,6 +90,11 @@ public interface IPipeTile<PipeType extends Enum<PipeType> & IPipeType<NodeDataT
 
     void notifyBlockUpdate();
 
+    /**
+     * Called after a cover was attached to or removed from the pipe
+     */
+    default void onCoverPlacementUpdate() {}
+
     void writeCoverCustomData(int id, Consumer<PacketBuffer> writer);
 
     void markAsDirty();
@@ -67,6 +67,7 @@ public class PipeCoverableImplementation implements CoverHolder {
 
         holder.notifyBlockUpdate();
         holder.markAsDirty();
+        holder.onCoverPlacementUpdate();
     }
 
     @Override
@@ -82,6 +83,7 @@ public class PipeCoverableImplementation implements CoverHolder {
         }
         holder.notifyBlockUpdate();
         holder.markAsDirty();
+        holder.onCoverPlacementUpdate();
     }
 
     @SuppressWarnings("unchecked")
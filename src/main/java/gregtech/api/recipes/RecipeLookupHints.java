@@ -0,0 +1,134 @@
+package gregtech.api.recipes;
+
+import gregtech.api.persistence.PersistentData;
+import gregtech.api.util.GTLog;
+import gregtech.common.ConfigHolder;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fml.common.Loader;
+import net.minecraftforge.fml.common.ModContainer;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Remembers the size of each RecipeMap's lookup tree across restarts, so that the trees are presized on the next
+ * registration instead of growing one recipe at a time.
+ * <p>
+ * The sizes are only used if the installation did not change since they were stored, which is checked with a
+ * fingerprint of the mod list, and of the paths, sizes and modification times of the script files. Config changes are
+ * not detected, as hints only affect the initial capacity of the trees. The time taken by recipe registration is
+ * logged, along with the last time taken with and without hints.
+ */
+@ApiStatus.Internal
+public final class RecipeLookupHints {
+
+    private static final String DATA_NAME = "recipeLookupHints";
+    private static final String FINGERPRINT = "fingerprint";
+    private static final String MAPS = "maps";
+    private static final String MILLIS_WITH_HINTS = "millisWithHints";
+    private static final String MILLIS_WITHOUT_HINTS = "millisWithoutHints";
+
+    private static long fingerprint;
+    private static boolean hintsApplied;
+    private static long registrationStart;
+
+    private RecipeLookupHints() {}
+
+    /**
+     * Presizes the lookup trees, if hints for the current installation are stored. Call before recipes are registered.
+     */
+    public static void apply() {
+        if (!ConfigHolder.recipes.persistRecipeLookupHints) return;
+        registrationStart = System.nanoTime();
+        fingerprint = computeFingerprint();
+
+        NBTTagCompound data = PersistentData.instance().getTag().getCompoundTag(DATA_NAME);
+        if (!data.hasKey(FINGERPRINT) || data.getLong(FINGERPRINT) != fingerprint) {
+            GTLog.logger.info("Recipe lookup hints are missing or outdated, and will be stored after loading");
+            return;
+        }
+
+        NBTTagCompound maps = data.getCompoundTag(MAPS);
+        for (RecipeMap<?> recipeMap : RecipeMap.getRecipeMaps()) {
+            if (!maps.hasKey(recipeMap.unlocalizedName)) continue;
+            int[] sizes = maps.getIntArray(recipeMap.unlocalizedName);
+            if (sizes.length == 3) {
+                recipeMap.presizeLookup(sizes[0], sizes[1], sizes[2]);
+            }
+        }
+        hintsApplied = true;
+    }
+
+    /**
+     * Stores the current sizes of the lookup trees, and reports the time recipe registration took. Call once all
+     * recipes are registered.
+     */
+    public static void store() {
+        if (!ConfigHolder.recipes.persistRecipeLookupHints || registrationStart == 0) return;
+        long millis = (System.nanoTime() - registrationStart) / 1_000_000;
+        registrationStart = 0;
+
+        NBTTagCompound tag = PersistentData.instance().getTag();
+        NBTTagCompound data = tag.getCompoundTag(DATA_NAME);
+        data.setLong(hintsApplied ? MILLIS_WITH_HINTS : MILLIS_WITHOUT_HINTS, millis);
+        GTLog.logger.info("Recipe registration took {} ms {} lookup hints (last with hints: {} ms, without: {} ms)",
+                millis, hintsApplied ? "with" : "without", data.getLong(MILLIS_WITH_HINTS),
+                data.getLong(MILLIS_WITHOUT_HINTS));
+
+        if (!hintsApplied) {
+            NBTTagCompound maps = new NBTTagCompound();
+            for (RecipeMap<?> recipeMap : RecipeMap.getRecipeMaps()) {
+                maps.setIntArray(recipeMap.unlocalizedName, recipeMap.getLookupSizes());
+            }
+            data.setLong(FINGERPRINT, fingerprint);
+            data.setTag(MAPS, maps);
+        }
+        tag.setTag(DATA_NAME, data);
+        PersistentData.instance().save();
+    }
+
+    private static long computeFingerprint() {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        for (ModContainer mod : Loader.instance().getActiveModList()) {
+            hasher.putString(mod.getModId(), StandardCharsets.UTF_8);
+            hasher.putString(mod.getVersion(), StandardCharsets.UTF_8);
+        }
+
+        File gameDir = Loader.instance().getConfigDir().getParentFile();
+        // CraftTweaker and GroovyScript scripts
+        hashFiles(hasher, new File(gameDir, "scripts").toPath());
+        hashFiles(hasher, new File(gameDir, "groovy").toPath());
+        return hasher.hash().asLong();
+    }
+
+    private static void hashFiles(@NotNull Hasher hasher, @NotNull Path directory) {
+        if (!Files.isDirectory(directory)) return;
+        try (Stream<Path> stream = Files.walk(directory)) {
+            List<Path> files = stream.filter(Files::isRegularFile)
+                    .sorted()
+                    .collect(Collectors.toList());
+            // the contents are not read, as scripts can be large
+            for (Path file : files) {
+                hasher.putString(directory.relativize(file).toString(), StandardCharsets.UTF_8);
+                hasher.putLong(Files.size(file));
+                hasher.putLong(Files.getLastModifiedTime(file).toMillis());
+            }
+        } catch (IOException e) {
+            GTLog.logger.error("Failed to fingerprint files in {}", directory, e);
+            // never matches a stored fingerprint, so no outdated hints are used
+            hasher.putLong(System.nanoTime());
+        }
+    }
+}
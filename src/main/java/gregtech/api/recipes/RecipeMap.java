@@ -13,12 +13,15 @@ import gregtech.api.recipes.ingredients.GTRecipeInput;
 import gregtech.api.recipes.ingredients.IntCircuitIngredient;
 import gregtech.api.recipes.map.AbstractMapIngredient;
 import gregtech.api.recipes.map.Branch;
+import gregtech.api.recipes.map.CompiledRecipeLookup;
 import gregtech.api.recipes.map.Either;
 import gregtech.api.recipes.map.MapFluidIngredient;
 import gregtech.api.recipes.map.MapItemStackIngredient;
 import gregtech.api.recipes.map.MapItemStackNBTIngredient;
 import gregtech.api.recipes.map.MapOreDictIngredient;
 import gregtech.api.recipes.map.MapOreDictNBTIngredient;
+import gregtech.api.recipes.map.RecipeSearchCache;
+import gregtech.api.recipes.map.RecipeSearchCoalescer;
 import gregtech.api.recipes.ui.RecipeMapUI;
 import gregtech.api.recipes.ui.RecipeMapUIFunction;
 import gregtech.api.unification.material.Material;
@@ -77,6 +80,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.DoubleSupplier;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -92,6 +97,7 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
             .thenComparing(Recipe::hashCode);
 
     private static boolean foundInvalidRecipe = false;
+    private static boolean stagingRecipes = false;
 
     public static final ChanceBoostFunction DEFAULT_CHANCE_FUNCTION = ChanceBoostFunction.OVERCLOCK;
     protected RecipeMapUI<?> recipeMapUI;
@@ -117,6 +123,15 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
 
     private final Object grsVirtualizedRecipeMap;
     private final Branch lookup = new Branch();
+    private volatile @Nullable CompiledRecipeLookup compiledLookup;
+
+    private static final ThreadLocal<CachedSearch> CACHED_SEARCH = ThreadLocal.withInitial(CachedSearch::new);
+
+    private @Nullable RecipeSearchCache searchCache;
+    private @Nullable RecipeSearchCoalescer searchCoalescer;
+    // recipes waiting to be added to the lookup tree, and their ingredients
+    private final ObjectArrayList<Recipe> stagedRecipes = new ObjectArrayList<>();
+    private final ObjectArrayList<List<List<AbstractMapIngredient>>> stagedIngredients = new ObjectArrayList<>();
     private boolean hasOreDictedInputs = false;
     private boolean hasNBTMatcherInputs = false;
     private static final WeakHashMap<AbstractMapIngredient, WeakReference<AbstractMapIngredient>> ingredientRoot = new WeakHashMap<>();
@@ -401,24 +416,156 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
             return false;
         }
         List<List<AbstractMapIngredient>> items = fromRecipe(recipe);
+        if (stagingRecipes && !recipe.getIsCTRecipe() && !recipe.isGroovyRecipe()) {
+            // hashes are computed lazily, which must not happen concurrently while the trees are built
+            for (List<AbstractMapIngredient> ingredients : items) {
+                for (AbstractMapIngredient ingredient : ingredients) {
+                    ingredient.hashCode();
+                }
+            }
+            stagedRecipes.add(recipe);
+            stagedIngredients.add(items);
+            return true;
+        }
+        addStagedRecipes();
+        return addToLookup(recipe, items);
+    }
+
+    private boolean addToLookup(@NotNull Recipe recipe, @NotNull List<List<AbstractMapIngredient>> items) {
+        invalidateLookupCaches();
         if (recurseIngredientTreeAdd(recipe, items, lookup, 0, 0)) {
             recipeByCategory.compute(recipe.getRecipeCategory(), (k, v) -> {
                 if (v == null) v = new ArrayList<>();
                 v.add(recipe);
                 return v;
             });
+            onRecipeCompiled(recipe);
             return true;
         }
         return false;
     }
 
+    /**
+     * Called after a recipe was added to the lookup tree.
+     * <p>
+     * While recipes are staged, this is called when the lookup tree is built, possibly off the main thread. It must
+     * only modify the state of this RecipeMap.
+     *
+     * @param recipe the recipe which was added
+     */
+    protected void onRecipeCompiled(@NotNull Recipe recipe) {}
+
+    /**
+     * Adds the staged recipes to the lookup tree, in the order they were staged.
+     *
+     * @return the amount of staged recipes which were added
+     */
+    protected final int addStagedRecipes() {
+        if (stagedRecipes.isEmpty()) return 0;
+        int added = 0;
+        for (int i = 0; i < stagedRecipes.size(); i++) {
+            if (addToLookup(stagedRecipes.get(i), stagedIngredients.get(i))) {
+                added++;
+            }
+        }
+        stagedRecipes.clear();
+        stagedIngredients.clear();
+        return added;
+    }
+
+    /**
+     * Presizes the lookup tree for an expected amount of recipes, before any are added.
+     *
+     * @param recipes      the expected amount of recipes
+     * @param nodes        the expected amount of regular root nodes
+     * @param specialNodes the expected amount of special root nodes
+     * @see RecipeLookupHints
+     */
+    void presizeLookup(int recipes, int nodes, int specialNodes) {
+        lookup.presize(nodes, specialNodes);
+        if (stagingRecipes) {
+            stagedRecipes.ensureCapacity(recipes);
+            stagedIngredients.ensureCapacity(recipes);
+        }
+    }
+
+    /**
+     * @return the amount of recipes, regular root nodes and special root nodes of the lookup tree
+     */
+    int @NotNull [] getLookupSizes() {
+        addStagedRecipes();
+        int recipes = 0;
+        for (List<Recipe> categoryRecipes : recipeByCategory.values()) {
+            recipes += categoryRecipes.size();
+        }
+        return new int[] { recipes, lookup.getNodes().size(), lookup.getSpecialNodes().size() };
+    }
+
+    /**
+     * Starts staging recipes registered by loaders, instead of adding them to the lookup trees right away.
+     * <p>
+     * Recipes of CraftTweaker and GroovyScript are never staged. Any access to the lookup tree of a RecipeMap adds
+     * its staged recipes first, so the staging is invisible to callers apart from
+     * {@link #compileRecipe(Recipe)} reporting staged recipes as added.
+     */
+    @ApiStatus.Internal
+    public static void startStagingRecipes() {
+        stagingRecipes = ConfigHolder.recipes.parallelRecipeLookupBuild;
+    }
+
+    /**
+     * Stops staging recipes, and builds the lookup trees of all RecipeMaps with staged recipes in parallel.
+     */
+    @ApiStatus.Internal
+    public static void buildStagedRecipes() {
+        stagingRecipes = false;
+        List<RecipeMap<?>> maps = new ArrayList<>();
+        for (RecipeMap<?> recipeMap : getRecipeMaps()) {
+            if (!recipeMap.stagedRecipes.isEmpty()) {
+                maps.add(recipeMap);
+            }
+        }
+        if (maps.isEmpty()) return;
+
+        // the largest trees take the longest to build, so they are started first
+        maps.sort(Comparator.comparingInt((RecipeMap<?> recipeMap) -> recipeMap.stagedRecipes.size()).reversed());
+        int[] staged = new int[maps.size()];
+        int[] added = new int[maps.size()];
+        long[] nanos = new long[maps.size()];
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(maps.size());
+
+        long start = System.nanoTime();
+        for (int i = 0; i < maps.size(); i++) {
+            RecipeMap<?> recipeMap = maps.get(i);
+            int index = i;
+            staged[index] = recipeMap.stagedRecipes.size();
+            tasks.add(ForkJoinPool.commonPool().submit(() -> {
+                long mapStart = System.nanoTime();
+                added[index] = recipeMap.addStagedRecipes();
+                nanos[index] = System.nanoTime() - mapStart;
+            }));
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+
+        GTLog.logger.info("Built the recipe lookup trees of {} RecipeMaps in {} ms", maps.size(),
+                (System.nanoTime() - start) / 1_000_000);
+        for (int i = 0; i < maps.size(); i++) {
+            GTLog.logger.info("  {}: {} recipes added, {} not added, {} ms", maps.get(i).unlocalizedName, added[i],
+                    staged[i] - added[i], nanos[i] / 1_000_000);
+        }
+    }
+
     /**
      * @param recipe the recipe to remove
      * @return if removal was successful
      */
     public boolean removeRecipe(@NotNull Recipe recipe) {
+        addStagedRecipes();
         List<List<AbstractMapIngredient>> items = fromRecipe(recipe);
         if (recurseIngredientTreeRemove(recipe, items, lookup, 0) != null) {
+            invalidateLookupCaches();
             if (GroovyScriptModule.isCurrentlyRunning()) {
                 this.getGroovyScriptRecipeMap().addBackup(recipe);
             }
@@ -438,14 +585,29 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
      */
     @ApiStatus.Internal
     protected void removeAllRecipes() {
+        addStagedRecipes();
         if (GroovyScriptModule.isCurrentlyRunning()) {
             this.lookup.getRecipes(false).forEach(this.getGroovyScriptRecipeMap()::addBackup);
         }
         this.lookup.getNodes().clear();
         this.lookup.getSpecialNodes().clear();
+        invalidateLookupCaches();
         this.recipeByCategory.clear();
     }
 
+    /**
+     * Discards everything derived from the lookup tree, after its recipes changed.
+     */
+    private void invalidateLookupCaches() {
+        this.compiledLookup = null;
+        if (this.searchCache != null) {
+            this.searchCache.clear();
+        }
+        if (this.searchCoalescer != null) {
+            this.searchCoalescer.clear();
+        }
+    }
+
     /**
      * Performs additional validation of recipes before adding to the ingredient tree.
      *
@@ -562,21 +724,164 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
     @Nullable
     public Recipe findRecipe(long voltage, final List<ItemStack> inputs, final List<FluidStack> fluidInputs,
                              boolean exactVoltage) {
+        RecipeSearchCoalescer coalescer = getSearchCoalescer();
+        if (coalescer == null) {
+            return findRecipeCached(voltage, inputs, fluidInputs, exactVoltage);
+        }
+
+        long fingerprint = RecipeSearchCoalescer.fingerprint(voltage, inputs, fluidInputs, exactVoltage);
+        Recipe shared = coalescer.get(fingerprint);
+        // the fingerprint may collide, so a shared recipe is still checked against these inputs
+        if (shared != null && canHandleRecipe(shared, voltage, inputs, fluidInputs, exactVoltage)) {
+            coalescer.recordShared();
+            return shared;
+        }
+        coalescer.recordSearch();
+
+        Recipe recipe = findRecipeCached(voltage, inputs, fluidInputs, exactVoltage);
+        // misses are not shared, as a miss cannot be checked against the inputs of another search
+        if (recipe != null) coalescer.put(fingerprint, recipe);
+        return recipe;
+    }
+
+    @Nullable
+    private Recipe findRecipeCached(long voltage, @NotNull List<ItemStack> inputs,
+                                    @NotNull List<FluidStack> fluidInputs, boolean exactVoltage) {
+        RecipeSearchCache cache = getSearchCache();
+        if (cache == null) {
+            return searchRecipe(voltage, inputs, fluidInputs, exactVoltage);
+        }
+
+        long fingerprint = RecipeSearchCache.fingerprint(inputs, fluidInputs);
+        if (cache.hasNoRecipe(fingerprint)) {
+            // nothing in the tree matches these input types, regardless of amounts
+            cache.recordHit();
+            return null;
+        }
+        cache.recordMiss();
+
+        CachedSearch search = CACHED_SEARCH.get();
+        // a re-entrant search, for example from a recipe predicate, must not clobber the outer search's state
+        if (search.inUse) search = new CachedSearch();
+        search.begin(voltage, inputs, fluidInputs, exactVoltage);
+        try {
+            Recipe recipe = find(search.items, search.fluids, search);
+            if (!search.foundCandidate) {
+                // a miss may only be cached if it was not caused by amounts or voltage
+                cache.putNoRecipe(fingerprint);
+            }
+            return recipe;
+        } finally {
+            search.end();
+        }
+    }
+
+    @Nullable
+    private Recipe searchRecipe(long voltage, @NotNull List<ItemStack> inputs, @NotNull List<FluidStack> fluidInputs,
+                                boolean exactVoltage) {
+        if (ConfigHolder.recipes.compiledRecipeLookup) {
+            return getCompiledLookup().findRecipe(voltage, inputs, fluidInputs, exactVoltage);
+        }
+
         final List<ItemStack> items = inputs.stream().filter(s -> !s.isEmpty()).collect(Collectors.toList());
         final List<FluidStack> fluids = fluidInputs.stream().filter(f -> f != null && f.amount != 0)
                 .collect(Collectors.toList());
 
-        return find(items, fluids, recipe -> {
-            if (exactVoltage && recipe.getEUt() != voltage) {
-                // if exact voltage is required, the recipe is not considered valid
-                return false;
+        return find(items, fluids, recipe -> canHandleRecipe(recipe, voltage, inputs, fluidInputs, exactVoltage));
+    }
+
+    /**
+     * @param recipe       the recipe to check
+     * @param voltage      Voltage of the Machine or Long.MAX_VALUE if it has no Voltage
+     * @param inputs       the Item Inputs
+     * @param fluidInputs  the Fluid Inputs
+     * @param exactVoltage should require exact voltage matching on recipe
+     * @return if the recipe can be run with the inputs and voltage
+     */
+    private static boolean canHandleRecipe(@NotNull Recipe recipe, long voltage, @NotNull List<ItemStack> inputs,
+                                           @NotNull List<FluidStack> fluidInputs, boolean exactVoltage) {
+        if (exactVoltage && recipe.getEUt() != voltage) {
+            // if exact voltage is required, the recipe is not considered valid
+            return false;
+        }
+        if (recipe.getEUt() > voltage) {
+            // there is not enough voltage to consider the recipe valid
+            return false;
+        }
+        return recipe.matches(false, inputs, fluidInputs);
+    }
+
+    /**
+     * Per-thread scratch state of a cached recipe search, reused so that a search does not allocate its own lists.
+     */
+    private static final class CachedSearch implements Predicate<Recipe> {
+
+        private final List<ItemStack> items = new ArrayList<>();
+        private final List<FluidStack> fluids = new ArrayList<>();
+
+        private long voltage;
+        private List<ItemStack> inputs;
+        private List<FluidStack> fluidInputs;
+        private boolean exactVoltage;
+        private boolean foundCandidate;
+        private boolean inUse;
+
+        private void begin(long voltage, @NotNull List<ItemStack> inputs, @NotNull List<FluidStack> fluidInputs,
+                           boolean exactVoltage) {
+            this.inUse = true;
+            this.voltage = voltage;
+            this.inputs = inputs;
+            this.fluidInputs = fluidInputs;
+            this.exactVoltage = exactVoltage;
+            this.foundCandidate = false;
+            for (int i = 0; i < inputs.size(); i++) {
+                ItemStack stack = inputs.get(i);
+                if (!stack.isEmpty()) items.add(stack);
             }
-            if (recipe.getEUt() > voltage) {
-                // there is not enough voltage to consider the recipe valid
-                return false;
+            for (int i = 0; i < fluidInputs.size(); i++) {
+                FluidStack fluid = fluidInputs.get(i);
+                if (fluid != null && fluid.amount != 0) fluids.add(fluid);
             }
-            return recipe.matches(false, inputs, fluidInputs);
-        });
+        }
+
+        private void end() {
+            this.items.clear();
+            this.fluids.clear();
+            this.inputs = null;
+            this.fluidInputs = null;
+            this.inUse = false;
+        }
+
+        @Override
+        public boolean test(@NotNull Recipe recipe) {
+            this.foundCandidate = true;
+            return canHandleRecipe(recipe, voltage, inputs, fluidInputs, exactVoltage);
+        }
+    }
+
+    /**
+     * @return the cache of search results, or null if search caching is disabled
+     */
+    @Nullable
+    public RecipeSearchCache getSearchCache() {
+        int size = ConfigHolder.recipes.recipeSearchCacheSize;
+        if (size <= 0) return null;
+        if (this.searchCache == null) {
+            this.searchCache = new RecipeSearchCache(size);
+        }
+        return this.searchCache;
+    }
+
+    /**
+     * @return the coalescer of identical searches within a tick, or null if search coalescing is disabled
+     */
+    @Nullable
+    public RecipeSearchCoalescer getSearchCoalescer() {
+        if (!ConfigHolder.recipes.coalesceRecipeSearches) return null;
+        if (this.searchCoalescer == null) {
+            this.searchCoalescer = new RecipeSearchCoalescer();
+        }
+        return this.searchCoalescer;
     }
 
     /**
@@ -618,12 +923,31 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
     @Nullable
     public Recipe find(@NotNull Collection<ItemStack> items, @NotNull Collection<FluidStack> fluids,
                        @NotNull Predicate<Recipe> canHandle) {
+        if (ConfigHolder.recipes.compiledRecipeLookup) {
+            return getCompiledLookup().find(items, fluids, canHandle);
+        }
+
+        addStagedRecipes();
         List<List<AbstractMapIngredient>> list = prepareRecipeFind(items, fluids);
         // couldn't build any inputs to use for search, so no recipe could be found
         if (list == null) return null;
         return recurseIngredientTreeFindRecipe(list, lookup, canHandle);
     }
 
+    /**
+     * @return the compiled form of the lookup tree, compiling it if the recipes changed since it was last compiled
+     */
+    @NotNull
+    public CompiledRecipeLookup getCompiledLookup() {
+        addStagedRecipes();
+        CompiledRecipeLookup compiled = this.compiledLookup;
+        if (compiled == null) {
+            compiled = CompiledRecipeLookup.compile(lookup, hasOreDictedInputs, hasNBTMatcherInputs);
+            this.compiledLookup = compiled;
+        }
+        return compiled;
+    }
+
     /**
      * Builds a list of unique ItemStacks from the given Collection of ItemStacks.
      * Used to reduce the number inputs, if for example there is more than one of the same input,
@@ -797,6 +1121,7 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
     public Set<Recipe> findRecipeCollisions(Collection<ItemStack> items, Collection<FluidStack> fluids) {
         List<List<AbstractMapIngredient>> list = prepareRecipeFind(items, fluids);
         if (list == null) return null;
+        addStagedRecipes();
         Set<Recipe> collidingRecipes = new ObjectOpenHashSet<>();
         recurseIngredientTreeFindRecipeCollisions(list, lookup, collidingRecipes);
         return collidingRecipes;
@@ -1308,6 +1633,7 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
     }
 
     public Collection<Recipe> getRecipeList() {
+        addStagedRecipes();
         ObjectOpenHashSet<Recipe> recipes = new ObjectOpenHashSet<>();
         return lookup.getRecipes(true).filter(recipes::add).sorted(RECIPE_DURATION_THEN_EU)
                 .collect(Collectors.toList());
@@ -1493,6 +1819,7 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
      */
     @NotNull
     public Map<GTRecipeCategory, List<Recipe>> getRecipesByCategory() {
+        addStagedRecipes();
         return Collections.unmodifiableMap(recipeByCategory);
     }
 
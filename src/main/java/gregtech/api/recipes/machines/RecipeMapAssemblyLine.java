@@ -30,15 +30,13 @@ public class RecipeMapAssemblyLine<R extends RecipeBuilder<R>> extends RecipeMap
     }
 
     @Override
-    public boolean compileRecipe(Recipe recipe) {
-        if (!super.compileRecipe(recipe)) return false;
+    protected void onRecipeCompiled(@NotNull Recipe recipe) {
         ResearchPropertyData data = recipe.getProperty(ResearchProperty.getInstance(), null);
         if (data != null) {
             for (ResearchPropertyData.ResearchEntry entry : data) {
                 addDataStickEntry(entry.researchId(), recipe);
             }
         }
-        return true;
     }
 
     @Override
@@ -72,6 +70,7 @@ public class RecipeMapAssemblyLine<R extends RecipeBuilder<R>> extends RecipeMap
     @Nullable
     @Override
     public Collection<Recipe> getDataStickEntry(@NotNull String researchId) {
+        addStagedRecipes();
         return researchEntries.get(researchId);
     }
 
@@ -4,6 +4,7 @@ import gregtech.api.recipes.Recipe;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Map;
 import java.util.stream.Stream;
@@ -43,6 +44,37 @@ public class Branch {
         return (nodes == null || nodes.isEmpty()) && (specialNodes == null || specialNodes.isEmpty());
     }
 
+    /**
+     * @return the regular nodes, without creating them if absent
+     */
+    @Nullable
+    Map<AbstractMapIngredient, Either<Recipe, Branch>> getNodesIfPresent() {
+        return nodes;
+    }
+
+    /**
+     * @return the special nodes, without creating them if absent
+     */
+    @Nullable
+    Map<AbstractMapIngredient, Either<Recipe, Branch>> getSpecialNodesIfPresent() {
+        return specialNodes;
+    }
+
+    /**
+     * Creates the nodes with room for the given amount of entries, if they do not exist yet
+     *
+     * @param nodes        the expected amount of regular nodes
+     * @param specialNodes the expected amount of special nodes
+     */
+    public void presize(int nodes, int specialNodes) {
+        if (this.nodes == null && nodes > 0) {
+            this.nodes = new Object2ObjectOpenHashMap<>(nodes);
+        }
+        if (this.specialNodes == null && specialNodes > 0) {
+            this.specialNodes = new Object2ObjectOpenHashMap<>(specialNodes);
+        }
+    }
+
     @NotNull
     public Map<AbstractMapIngredient, Either<Recipe, Branch>> getNodes() {
         if (nodes == null) {
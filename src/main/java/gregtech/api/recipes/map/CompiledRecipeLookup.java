@@ -0,0 +1,435 @@
+package gregtech.api.recipes.map;
+
+import gregtech.api.recipes.Recipe;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * A flattened, immutable snapshot of a {@link Branch} tree.
+ * <p>
+ * Every {@link AbstractMapIngredient} key in the tree is interned to a dense int id, and every branch is stored as a
+ * sorted range of {@code (ingredient id, target)} pairs in flat primitive arrays. Query ingredients are resolved to
+ * ingredient ids once per search, after which the tree walk only compares ints. Scratch state is kept per thread, so a
+ * search which does not find a recipe does not allocate.
+ * <p>
+ * The walk visits ingredients in the same order as the recursive search over the {@link Branch} tree, and so finds the
+ * same recipes.
+ */
+public final class CompiledRecipeLookup {
+
+    private static final int NO_TARGET = Integer.MIN_VALUE;
+
+    private static final ThreadLocal<RecipeLookupBuffers> BUFFERS = ThreadLocal.withInitial(RecipeLookupBuffers::new);
+
+    private final boolean hasOreDictedInputs;
+    private final boolean hasNBTMatcherInputs;
+
+    // interned ingredients, indexed by id
+    private final AbstractMapIngredient[] ingredients;
+    // ingredient hashcode -> ids of all ingredients with that hashcode
+    private final Int2ObjectOpenHashMap<int[]> idsByHash;
+
+    // node n owns edges [edgeStarts[n], edgeStarts[n + 1])
+    private final int[] edgeStarts;
+    // edge ingredient ids, sorted within each node
+    private final int[] edgeIngredients;
+    // edge targets: >= 0 is a child node, < 0 is a recipe index encoded as -(index + 1)
+    private final int[] edgeTargets;
+    private final Recipe[] recipes;
+
+    private CompiledRecipeLookup(boolean hasOreDictedInputs, boolean hasNBTMatcherInputs,
+                                 @NotNull AbstractMapIngredient[] ingredients,
+                                 @NotNull Int2ObjectOpenHashMap<int[]> idsByHash, int @NotNull [] edgeStarts,
+                                 int @NotNull [] edgeIngredients, int @NotNull [] edgeTargets,
+                                 @NotNull Recipe[] recipes) {
+        this.hasOreDictedInputs = hasOreDictedInputs;
+        this.hasNBTMatcherInputs = hasNBTMatcherInputs;
+        this.ingredients = ingredients;
+        this.idsByHash = idsByHash;
+        this.edgeStarts = edgeStarts;
+        this.edgeIngredients = edgeIngredients;
+        this.edgeTargets = edgeTargets;
+        this.recipes = recipes;
+    }
+
+    /**
+     * Compiles a lookup tree.
+     *
+     * @param root                the root of the tree to compile
+     * @param hasOreDictedInputs  if the tree contains ore dictionary ingredients
+     * @param hasNBTMatcherInputs if the tree contains nbt matching ingredients
+     * @return the compiled lookup
+     */
+    @NotNull
+    public static CompiledRecipeLookup compile(@NotNull Branch root, boolean hasOreDictedInputs,
+                                               boolean hasNBTMatcherInputs) {
+        // assign node ids breadth-first, so the root is always node 0
+        List<Branch> nodes = new ObjectArrayList<>();
+        Reference2IntOpenHashMap<Branch> nodeIds = new Reference2IntOpenHashMap<>();
+        nodes.add(root);
+        nodeIds.put(root, 0);
+        int edgeCount = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            Branch branch = nodes.get(i);
+            edgeCount += collectChildren(branch.getNodesIfPresent(), nodes, nodeIds);
+            edgeCount += collectChildren(branch.getSpecialNodesIfPresent(), nodes, nodeIds);
+        }
+
+        Reference2IntOpenHashMap<AbstractMapIngredient> ingredientIds = new Reference2IntOpenHashMap<>();
+        ingredientIds.defaultReturnValue(-1);
+        List<AbstractMapIngredient> ingredients = new ObjectArrayList<>();
+        List<Recipe> recipes = new ObjectArrayList<>();
+
+        int[] edgeStarts = new int[nodes.size() + 1];
+        int[] edgeIngredients = new int[edgeCount];
+        int[] edgeTargets = new int[edgeCount];
+        int edge = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            edgeStarts[i] = edge;
+            Branch branch = nodes.get(i);
+            edge = writeEdges(branch.getNodesIfPresent(), edge, edgeIngredients, edgeTargets, nodeIds,
+                    ingredientIds, ingredients, recipes);
+            edge = writeEdges(branch.getSpecialNodesIfPresent(), edge, edgeIngredients, edgeTargets, nodeIds,
+                    ingredientIds, ingredients, recipes);
+            sortEdges(edgeIngredients, edgeTargets, edgeStarts[i], edge);
+        }
+        edgeStarts[nodes.size()] = edge;
+
+        Int2ObjectOpenHashMap<IntArrayList> hashBuckets = new Int2ObjectOpenHashMap<>();
+        for (int id = 0; id < ingredients.size(); id++) {
+            hashBuckets.computeIfAbsent(ingredients.get(id).hashCode(), k -> new IntArrayList(1)).add(id);
+        }
+        Int2ObjectOpenHashMap<int[]> idsByHash = new Int2ObjectOpenHashMap<>(hashBuckets.size());
+        for (Int2ObjectMap.Entry<IntArrayList> entry : hashBuckets.int2ObjectEntrySet()) {
+            idsByHash.put(entry.getIntKey(), entry.getValue().toIntArray());
+        }
+
+        return new CompiledRecipeLookup(hasOreDictedInputs, hasNBTMatcherInputs,
+                ingredients.toArray(new AbstractMapIngredient[0]), idsByHash, edgeStarts, edgeIngredients,
+                edgeTargets, recipes.toArray(new Recipe[0]));
+    }
+
+    private static int collectChildren(@Nullable Map<AbstractMapIngredient, Either<Recipe, Branch>> children,
+                                       @NotNull List<Branch> nodes,
+                                       @NotNull Reference2IntOpenHashMap<Branch> nodeIds) {
+        if (children == null) return 0;
+        for (Either<Recipe, Branch> either : children.values()) {
+            Branch branch = either.right().orElse(null);
+            if (branch != null && !nodeIds.containsKey(branch)) {
+                nodeIds.put(branch, nodes.size());
+                nodes.add(branch);
+            }
+        }
+        return children.size();
+    }
+
+    private static int writeEdges(@Nullable Map<AbstractMapIngredient, Either<Recipe, Branch>> children, int edge,
+                                  int @NotNull [] edgeIngredients, int @NotNull [] edgeTargets,
+                                  @NotNull Reference2IntOpenHashMap<Branch> nodeIds,
+                                  @NotNull Reference2IntOpenHashMap<AbstractMapIngredient> ingredientIds,
+                                  @NotNull List<AbstractMapIngredient> ingredients, @NotNull List<Recipe> recipes) {
+        if (children == null) return edge;
+        for (Map.Entry<AbstractMapIngredient, Either<Recipe, Branch>> entry : children.entrySet()) {
+            AbstractMapIngredient ingredient = entry.getKey();
+            int id = ingredientIds.getInt(ingredient);
+            if (id == -1) {
+                id = ingredients.size();
+                ingredientIds.put(ingredient, id);
+                ingredients.add(ingredient);
+            }
+
+            Either<Recipe, Branch> either = entry.getValue();
+            Recipe recipe = either.left().orElse(null);
+            int target;
+            if (recipe != null) {
+                target = -(recipes.size() + 1);
+                recipes.add(recipe);
+            } else {
+                // noinspection OptionalGetWithoutIsPresent
+                target = nodeIds.getInt(either.right().get());
+            }
+
+            edgeIngredients[edge] = id;
+            edgeTargets[edge] = target;
+            edge++;
+        }
+        return edge;
+    }
+
+    /**
+     * Insertion sort of the edge range by ingredient id. Branches are small, so this is cheaper than boxing.
+     */
+    private static void sortEdges(int @NotNull [] edgeIngredients, int @NotNull [] edgeTargets, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int ingredient = edgeIngredients[i];
+            int target = edgeTargets[i];
+            int j = i - 1;
+            while (j >= from && edgeIngredients[j] > ingredient) {
+                edgeIngredients[j + 1] = edgeIngredients[j];
+                edgeTargets[j + 1] = edgeTargets[j];
+                j--;
+            }
+            edgeIngredients[j + 1] = ingredient;
+            edgeTargets[j + 1] = target;
+        }
+    }
+
+    /**
+     * Finds a Recipe matching the Fluid and/or ItemStack Inputs.
+     *
+     * @param voltage      Voltage of the Machine or Long.MAX_VALUE if it has no Voltage
+     * @param inputs       the Item Inputs
+     * @param fluidInputs  the Fluid Inputs
+     * @param exactVoltage should require exact voltage matching on recipe
+     * @return the Recipe it has found or null for no matching Recipe
+     */
+    @Nullable
+    public Recipe findRecipe(long voltage, @NotNull List<ItemStack> inputs, @NotNull List<FluidStack> fluidInputs,
+                             boolean exactVoltage) {
+        RecipeLookupBuffers buffers = acquireBuffers();
+        buffers.begin(voltage, exactVoltage, inputs, fluidInputs);
+        try {
+            int itemCount = 0;
+            ItemStack[] uniqueItems = buffers.uniqueItems(inputs.size());
+            for (int i = 0; i < inputs.size(); i++) {
+                itemCount = addUniqueItem(uniqueItems, itemCount, inputs.get(i));
+            }
+            resolveItems(buffers, uniqueItems, itemCount);
+            for (int i = 0; i < fluidInputs.size(); i++) {
+                FluidStack fluid = fluidInputs.get(i);
+                if (fluid != null && fluid.amount != 0) {
+                    resolveFluid(buffers, fluid);
+                }
+            }
+            return search(buffers);
+        } finally {
+            buffers.end();
+        }
+    }
+
+    /**
+     * Finds a recipe using Items and Fluids.
+     *
+     * @param items     a collection of items
+     * @param fluids    a collection of fluids
+     * @param canHandle a predicate for determining if a recipe is valid
+     * @return the recipe found
+     */
+    @Nullable
+    public Recipe find(@NotNull Collection<ItemStack> items, @NotNull Collection<FluidStack> fluids,
+                       @NotNull Predicate<Recipe> canHandle) {
+        RecipeLookupBuffers buffers = acquireBuffers();
+        buffers.begin(canHandle);
+        try {
+            int itemCount = 0;
+            ItemStack[] uniqueItems = buffers.uniqueItems(items.size());
+            for (ItemStack stack : items) {
+                itemCount = addUniqueItem(uniqueItems, itemCount, stack);
+            }
+            resolveItems(buffers, uniqueItems, itemCount);
+            for (FluidStack fluid : fluids) {
+                resolveFluid(buffers, fluid);
+            }
+            return search(buffers);
+        } finally {
+            buffers.end();
+        }
+    }
+
+    @NotNull
+    private static RecipeLookupBuffers acquireBuffers() {
+        RecipeLookupBuffers buffers = BUFFERS.get();
+        // a re-entrant search, for example from a recipe predicate, must not clobber the outer search's state
+        return buffers.inUse ? new RecipeLookupBuffers() : buffers;
+    }
+
+    /**
+     * Mirrors {@link gregtech.api.recipes.RecipeMap#uniqueItems(Collection)}
+     */
+    private static int addUniqueItem(@NotNull ItemStack[] uniqueItems, int count, @Nullable ItemStack input) {
+        if (input == null || input.isEmpty()) return count;
+        for (int i = 0; i < count; i++) {
+            ItemStack unique = uniqueItems[i];
+            if (input.isItemEqual(unique) && ItemStack.areItemStackTagsEqual(input, unique)) {
+                return count;
+            }
+        }
+        uniqueItems[count] = input;
+        return count + 1;
+    }
+
+    private void resolveItems(@NotNull RecipeLookupBuffers buffers, @NotNull ItemStack[] uniqueItems, int count) {
+        for (int i = 0; i < count; i++) {
+            ItemStack stack = uniqueItems[i];
+            int meta = stack.getMetadata();
+            NBTTagCompound nbt = stack.getTagCompound();
+
+            // add the regular input
+            buffers.itemProbe.reset(stack, meta, nbt);
+            resolve(buffers, buffers.itemProbe);
+
+            if (hasOreDictedInputs) {
+                // add the ore dict inputs
+                for (int ore : OreDictionary.getOreIDs(stack)) {
+                    buffers.oreProbe.reset(ore);
+                    resolve(buffers, buffers.oreProbe);
+
+                    if (hasNBTMatcherInputs) {
+                        // add the nbt inputs for the oredict inputs
+                        buffers.oreNBTProbe.reset(ore, nbt);
+                        resolve(buffers, buffers.oreNBTProbe);
+                    }
+                }
+            }
+            if (hasNBTMatcherInputs) {
+                // add the nbt input for the regular input
+                buffers.itemNBTProbe.reset(stack, meta, nbt);
+                resolve(buffers, buffers.itemNBTProbe);
+            }
+            buffers.endSlot();
+        }
+    }
+
+    private void resolveFluid(@NotNull RecipeLookupBuffers buffers, @NotNull FluidStack fluid) {
+        buffers.fluidProbe.reset(fluid);
+        resolve(buffers, buffers.fluidProbe);
+        buffers.endSlot();
+    }
+
+    /**
+     * Resolves a query ingredient to the ids of all interned ingredients it is equal to, as a new group.
+     */
+    private void resolve(@NotNull RecipeLookupBuffers buffers, @NotNull AbstractMapIngredient query) {
+        int[] ids = idsByHash.get(query.hashCode());
+        if (ids != null) {
+            for (int id : ids) {
+                if (query.equals(ingredients[id])) {
+                    buffers.addCandidate(id);
+                }
+            }
+        }
+        buffers.endGroup();
+    }
+
+    @Nullable
+    private Recipe search(@NotNull RecipeLookupBuffers buffers) {
+        // Try each ingredient as a starting point, adding it to the skip-list.
+        // The skip-list is a packed long, where each 1 bit represents an index to skip
+        for (int i = 0; i < buffers.slotCount; i++) {
+            Recipe r = recurse(buffers, 0, i, 0, (1L << i));
+            if (r != null) {
+                return r;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param node  the current node of the tree
+     * @param index the input slot to match against
+     * @param count how deep we are in recursion
+     * @param skip  bitmap of input slots which are already used in the recursion
+     * @return a recipe
+     */
+    @Nullable
+    private Recipe recurse(@NotNull RecipeLookupBuffers buffers, int node, int index, int count, long skip) {
+        // exhausted all the ingredients, and didn't find anything
+        if (count == buffers.slotCount) return null;
+
+        int groupStart = index == 0 ? 0 : buffers.slotEnds[index - 1];
+        int groupEnd = buffers.slotEnds[index];
+        for (int group = groupStart; group < groupEnd; group++) {
+            int target = findTarget(buffers, node, group);
+            if (target == NO_TARGET) continue;
+
+            Recipe r;
+            if (target < 0) {
+                Recipe recipe = recipes[-target - 1];
+                r = buffers.canHandle(recipe) ? recipe : null;
+            } else {
+                r = dive(buffers, target, index, count, skip);
+            }
+            if (r != null) {
+                return r;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private Recipe dive(@NotNull RecipeLookupBuffers buffers, int node, int currentIndex, int count, long skip) {
+        // We loop around the slot count if we reach the end.
+        // only end when all ingredients are exhausted, or a recipe is found
+        int slots = buffers.slotCount;
+        int i = (currentIndex + 1) % slots;
+        while (i != currentIndex) {
+            if ((skip & (1L << i)) == 0) {
+                Recipe found = recurse(buffers, node, i, count + 1, skip | (1L << i));
+                if (found != null) {
+                    return found;
+                }
+            }
+            i = (i + 1) % slots;
+        }
+        return null;
+    }
+
+    /**
+     * @return the target of the first edge of the node matching any candidate of the group, or {@link #NO_TARGET}
+     */
+    private int findTarget(@NotNull RecipeLookupBuffers buffers, int node, int group) {
+        int from = edgeStarts[node];
+        int to = edgeStarts[node + 1];
+        if (from == to) return NO_TARGET;
+
+        int candidateStart = group == 0 ? 0 : buffers.groupEnds[group - 1];
+        int candidateEnd = buffers.groupEnds[group];
+        for (int c = candidateStart; c < candidateEnd; c++) {
+            int id = buffers.candidates[c];
+            int low = from;
+            int high = to - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int midId = edgeIngredients[mid];
+                if (midId < id) {
+                    low = mid + 1;
+                } else if (midId > id) {
+                    high = mid - 1;
+                } else {
+                    return edgeTargets[mid];
+                }
+            }
+        }
+        return NO_TARGET;
+    }
+
+    /**
+     * @return the amount of interned ingredients
+     */
+    public int getIngredientCount() {
+        return ingredients.length;
+    }
+
+    /**
+     * @return the amount of nodes in the compiled tree
+     */
+    public int getNodeCount() {
+        return edgeStarts.length - 1;
+    }
+}
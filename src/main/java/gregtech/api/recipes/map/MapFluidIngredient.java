@@ -6,6 +6,9 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
 import java.util.Objects;
 
 public class MapFluidIngredient extends AbstractMapIngredient {
@@ -26,6 +29,10 @@ public class MapFluidIngredient extends AbstractMapIngredient {
 
     @Override
     protected int hash() {
+        return hash(fluid, tag);
+    }
+
+    static int hash(@NotNull Fluid fluid, @Nullable NBTTagCompound tag) {
         // the Fluid registered to the fluidName on game load might not be the same Fluid after loading the world, but
         // will still have the same fluidName.
         int hash = 31 + fluid.getName().hashCode();
@@ -0,0 +1,61 @@
+package gregtech.api.recipes.map;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * A reusable query for {@link MapFluidIngredient} keys, so that the keys themselves can stay immutable.
+ * <p>
+ * A probe is only equal to the fluid ingredients it represents, and must only be used as the query of a lookup.
+ */
+final class MapFluidProbe extends AbstractMapIngredient {
+
+    private @Nullable Fluid fluid;
+    private @Nullable NBTTagCompound tag;
+
+    /**
+     * Repoints this probe at a new fluid.
+     *
+     * @param fluidStack the fluid to represent
+     */
+    void reset(@NotNull FluidStack fluidStack) {
+        this.fluid = fluidStack.getFluid();
+        this.tag = fluidStack.tag;
+        invalidate();
+    }
+
+    /**
+     * Releases the fluid this probe represents.
+     */
+    void clear() {
+        this.fluid = null;
+        this.tag = null;
+        invalidate();
+    }
+
+    @Override
+    protected int hash() {
+        return fluid == null ? 0 : MapFluidIngredient.hash(fluid, tag);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (fluid == null || o == null || o.getClass() != MapFluidIngredient.class) return false;
+        // matches MapFluidIngredient#equals
+        MapFluidIngredient other = (MapFluidIngredient) o;
+        return fluid.getName().equals(other.fluid.getName()) && Objects.equals(tag, other.tag);
+    }
+
+    @Override
+    public String toString() {
+        return "MapFluidProbe{" +
+                "{fluid=" + (fluid == null ? null : fluid.getName()) + "} {tag=" + tag + "}";
+    }
+}
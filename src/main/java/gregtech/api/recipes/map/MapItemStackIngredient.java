@@ -7,6 +7,7 @@ import net.minecraft.nbt.NBTTagCompound;
 
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -30,6 +31,20 @@ public class MapItemStackIngredient extends AbstractMapIngredient {
         this.gtRecipeInput = gtRecipeInput;
     }
 
+    /**
+     * Repoints this ingredient at a new stack, for reuse as a lookup probe.
+     *
+     * @param stack the stack to represent
+     * @param meta  the metadata of the stack
+     * @param tag   the nbt of the stack
+     */
+    void reset(@NotNull ItemStack stack, int meta, @Nullable NBTTagCompound tag) {
+        this.stack = stack;
+        this.meta = meta;
+        this.tag = tag;
+        invalidate();
+    }
+
     @NotNull
     public static List<AbstractMapIngredient> from(@NotNull GTRecipeInput r) {
         ObjectArrayList<AbstractMapIngredient> list = new ObjectArrayList<>();
@@ -8,6 +8,16 @@ public class MapOreDictIngredient extends AbstractMapIngredient {
         this.ore = ore;
     }
 
+    /**
+     * Repoints this ingredient at a new ore dictionary id, for reuse as a lookup probe.
+     *
+     * @param ore the ore dictionary id to represent
+     */
+    void reset(int ore) {
+        this.ore = ore;
+        invalidate();
+    }
+
     @Override
     protected int hash() {
         return ore;
@@ -27,6 +27,17 @@ public class MapOreDictNBTIngredient extends MapOreDictIngredient {
         this.nbtTagCompound = nbtTagCompound;
     }
 
+    /**
+     * Repoints this ingredient at a new ore dictionary id and nbt, for reuse as a lookup probe.
+     *
+     * @param ore            the ore dictionary id to represent
+     * @param nbtTagCompound the nbt of the stack
+     */
+    void reset(int ore, @Nullable NBTTagCompound nbtTagCompound) {
+        reset(ore);
+        this.nbtTagCompound = nbtTagCompound;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
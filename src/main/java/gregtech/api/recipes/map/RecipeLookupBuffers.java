@@ -0,0 +1,143 @@
+package gregtech.api.recipes.map;
+
+import gregtech.api.recipes.Recipe;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Per-thread scratch state for {@link CompiledRecipeLookup}, reused across searches so that a lookup miss does not
+ * allocate.
+ */
+final class RecipeLookupBuffers {
+
+    final MapItemStackIngredient itemProbe = new MapItemStackIngredient(ItemStack.EMPTY, 0, null);
+    final MapItemStackNBTIngredient itemNBTProbe = new MapItemStackNBTIngredient(ItemStack.EMPTY, 0, null);
+    final MapOreDictIngredient oreProbe = new MapOreDictIngredient(0);
+    final MapOreDictNBTIngredient oreNBTProbe = new MapOreDictNBTIngredient(0, null);
+    final MapFluidProbe fluidProbe = new MapFluidProbe();
+
+    /**
+     * Unique item inputs of the current search
+     */
+    ItemStack[] uniqueItems = new ItemStack[16];
+
+    /**
+     * Interned ingredient ids which are equal to a query ingredient
+     */
+    int[] candidates = new int[64];
+    int candidateCount;
+
+    /**
+     * Exclusive end offset into {@link #candidates} for each query ingredient
+     */
+    int[] groupEnds = new int[32];
+    int groupCount;
+
+    /**
+     * Exclusive end offset into {@link #groupEnds} for each input slot
+     */
+    int[] slotEnds = new int[16];
+    int slotCount;
+
+    boolean inUse;
+
+    // recipe validation state
+    private @Nullable Predicate<Recipe> predicate;
+    private long voltage;
+    private boolean exactVoltage;
+    private @Nullable List<ItemStack> itemInputs;
+    private @Nullable List<FluidStack> fluidInputs;
+
+    void begin(@NotNull Predicate<Recipe> predicate) {
+        this.inUse = true;
+        this.predicate = predicate;
+        this.candidateCount = 0;
+        this.groupCount = 0;
+        this.slotCount = 0;
+    }
+
+    void begin(long voltage, boolean exactVoltage, @NotNull List<ItemStack> itemInputs,
+               @NotNull List<FluidStack> fluidInputs) {
+        this.inUse = true;
+        this.predicate = null;
+        this.voltage = voltage;
+        this.exactVoltage = exactVoltage;
+        this.itemInputs = itemInputs;
+        this.fluidInputs = fluidInputs;
+        this.candidateCount = 0;
+        this.groupCount = 0;
+        this.slotCount = 0;
+    }
+
+    /**
+     * Releases all references held for the current search.
+     */
+    void end() {
+        this.predicate = null;
+        this.itemInputs = null;
+        this.fluidInputs = null;
+        Arrays.fill(uniqueItems, null);
+        this.itemProbe.reset(ItemStack.EMPTY, 0, null);
+        this.itemNBTProbe.reset(ItemStack.EMPTY, 0, null);
+        this.oreNBTProbe.reset(0, null);
+        this.fluidProbe.clear();
+        this.inUse = false;
+    }
+
+    /**
+     * @param recipe the recipe to test
+     * @return if the recipe is valid for the current search
+     */
+    boolean canHandle(@NotNull Recipe recipe) {
+        if (predicate != null) {
+            return predicate.test(recipe);
+        }
+        if (exactVoltage && recipe.getEUt() != voltage) {
+            // if exact voltage is required, the recipe is not considered valid
+            return false;
+        }
+        if (recipe.getEUt() > voltage) {
+            // there is not enough voltage to consider the recipe valid
+            return false;
+        }
+        // noinspection DataFlowIssue
+        return recipe.matches(false, itemInputs, fluidInputs);
+    }
+
+    void addCandidate(int id) {
+        if (candidateCount == candidates.length) {
+            candidates = Arrays.copyOf(candidates, candidates.length * 2);
+        }
+        candidates[candidateCount++] = id;
+    }
+
+    void endGroup() {
+        if (groupCount == groupEnds.length) {
+            groupEnds = Arrays.copyOf(groupEnds, groupEnds.length * 2);
+        }
+        groupEnds[groupCount++] = candidateCount;
+    }
+
+    void endSlot() {
+        if (slotCount == slotEnds.length) {
+            slotEnds = Arrays.copyOf(slotEnds, slotEnds.length * 2);
+        }
+        slotEnds[slotCount++] = groupCount;
+    }
+
+    @NotNull
+    ItemStack[] uniqueItems(int size) {
+        if (uniqueItems.length < size) {
+            uniqueItems = new ItemStack[Math.max(size, uniqueItems.length * 2)];
+        }
+        return uniqueItems;
+    }
+}
@@ -0,0 +1,117 @@
+package gregtech.api.recipes.map;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.FluidStack;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * A bounded, least-recently-used cache of recipe searches that found nothing for a RecipeMap.
+ * <p>
+ * Entries are order-independent fingerprints of the item and fluid types present in the inputs, ignoring amounts.
+ * A fingerprint is only stored when no recipe in the lookup tree matched the input types at all, so it holds for any
+ * amounts and voltage. Found recipes are not cached, as the recipe chosen may depend on amounts and voltage.
+ */
+public class RecipeSearchCache {
+
+    private static final long FLUID_SALT = 0x9E3779B97F4A7C15L;
+
+    private final int maxSize;
+    private final LongLinkedOpenHashSet entries;
+
+    private long hits;
+    private long misses;
+
+    public RecipeSearchCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LongLinkedOpenHashSet(maxSize);
+    }
+
+    /**
+     * Computes the fingerprint of a set of inputs.
+     *
+     * @param items  the item inputs
+     * @param fluids the fluid inputs
+     * @return the fingerprint of the input types
+     */
+    public static long fingerprint(@NotNull List<ItemStack> items, @NotNull List<FluidStack> fluids) {
+        long fingerprint = 0;
+        for (int i = 0; i < items.size(); i++) {
+            ItemStack stack = items.get(i);
+            if (stack.isEmpty()) continue;
+
+            long hash = stack.getItem().hashCode();
+            hash = hash * 31 + stack.getMetadata();
+            NBTTagCompound tag = stack.getTagCompound();
+            hash = hash * 31 + (tag == null ? 0 : tag.hashCode());
+            // summing mixed hashes keeps the fingerprint independent of slot order
+            fingerprint += HashCommon.mix(hash);
+        }
+        for (int i = 0; i < fluids.size(); i++) {
+            FluidStack stack = fluids.get(i);
+            if (stack == null || stack.amount == 0) continue;
+
+            long hash = stack.getFluid().getName().hashCode();
+            hash = hash * 31 + (stack.tag == null ? 0 : stack.tag.hashCode());
+            fingerprint += HashCommon.mix(hash ^ FLUID_SALT);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * @param fingerprint the fingerprint to check
+     * @return if no recipe exists for the fingerprint
+     */
+    public synchronized boolean hasNoRecipe(long fingerprint) {
+        if (!entries.contains(fingerprint)) return false;
+        entries.addAndMoveToLast(fingerprint);
+        return true;
+    }
+
+    /**
+     * @param fingerprint the fingerprint no recipe exists for
+     */
+    public synchronized void putNoRecipe(long fingerprint) {
+        entries.addAndMoveToLast(fingerprint);
+        if (entries.size() > maxSize) {
+            entries.removeFirstLong();
+        }
+    }
+
+    /**
+     * Removes all cached results, without resetting statistics.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized void recordHit() {
+        hits++;
+    }
+
+    public synchronized void recordMiss() {
+        misses++;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void resetStatistics() {
+        hits = 0;
+        misses = 0;
+    }
+}
@@ -0,0 +1,139 @@
+package gregtech.api.recipes.map;
+
+import gregtech.api.recipes.Recipe;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.server.MinecraftServer;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Shares recipe search results between identical searches of a RecipeMap within the same server tick.
+ * <p>
+ * Searches are keyed by a fingerprint of the exact inputs, including their amounts, and of the voltage. Identical
+ * machines fed the same inputs therefore share one walk of the lookup tree, while a shared recipe must still be
+ * validated against the actual inputs of each machine before use. Searches which found nothing are not shared, as a
+ * colliding fingerprint could not be told apart from a real miss. All results are discarded when the tick changes,
+ * and nothing is shared without a running server.
+ */
+public class RecipeSearchCoalescer {
+
+    private static final long FLUID_SALT = 0x9E3779B97F4A7C15L;
+    private static final long VOLTAGE_SALT = 0xC2B2AE3D27D4EB4FL;
+
+    private final Long2ObjectOpenHashMap<Recipe> results = new Long2ObjectOpenHashMap<>();
+    private long tick = -1;
+
+    private long searches;
+    private long shared;
+
+    /**
+     * Computes the fingerprint of a search.
+     *
+     * @param voltage      the voltage of the search
+     * @param items        the item inputs
+     * @param fluids       the fluid inputs
+     * @param exactVoltage if the search requires exact voltage matching
+     * @return the fingerprint of the search
+     */
+    public static long fingerprint(long voltage, @NotNull List<ItemStack> items, @NotNull List<FluidStack> fluids,
+                                   boolean exactVoltage) {
+        long fingerprint = HashCommon.mix((voltage << 1 | (exactVoltage ? 1 : 0)) ^ VOLTAGE_SALT);
+        for (int i = 0; i < items.size(); i++) {
+            ItemStack stack = items.get(i);
+            if (stack.isEmpty()) continue;
+
+            long hash = stack.getItem().hashCode();
+            hash = hash * 31 + stack.getMetadata();
+            hash = hash * 31 + stack.getCount();
+            NBTTagCompound tag = stack.getTagCompound();
+            hash = hash * 31 + (tag == null ? 0 : tag.hashCode());
+            // summing mixed hashes keeps the fingerprint independent of slot order
+            fingerprint += HashCommon.mix(hash);
+        }
+        for (int i = 0; i < fluids.size(); i++) {
+            FluidStack stack = fluids.get(i);
+            if (stack == null || stack.amount == 0) continue;
+
+            long hash = stack.getFluid().getName().hashCode();
+            hash = hash * 31 + stack.amount;
+            hash = hash * 31 + (stack.tag == null ? 0 : stack.tag.hashCode());
+            fingerprint += HashCommon.mix(hash ^ FLUID_SALT);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * @param fingerprint the fingerprint to retrieve
+     * @return the recipe found this tick, or null if none was found or no search was done
+     */
+    @Nullable
+    public synchronized Recipe get(long fingerprint) {
+        if (!updateTick()) return null;
+        return results.get(fingerprint);
+    }
+
+    /**
+     * @param fingerprint the fingerprint of the search
+     * @param recipe      the recipe found
+     */
+    public synchronized void put(long fingerprint, @NotNull Recipe recipe) {
+        if (!updateTick()) return;
+        results.put(fingerprint, recipe);
+    }
+
+    /**
+     * Removes all results of the current tick, without resetting statistics.
+     */
+    public synchronized void clear() {
+        results.clear();
+    }
+
+    /**
+     * @return if results can be shared, which requires a server tick to discard them by
+     */
+    private boolean updateTick() {
+        MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+        long currentTick = server == null ? -1 : server.getTickCounter();
+        if (currentTick != tick) {
+            tick = currentTick;
+            results.clear();
+        }
+        return server != null;
+    }
+
+    public synchronized void recordSearch() {
+        searches++;
+    }
+
+    public synchronized void recordShared() {
+        shared++;
+    }
+
+    /**
+     * @return the amount of searches which were performed, rather than shared
+     */
+    public synchronized long getSearches() {
+        return searches;
+    }
+
+    /**
+     * @return the amount of searches which used the result of another search
+     */
+    public synchronized long getShared() {
+        return shared;
+    }
+
+    public synchronized void resetStatistics() {
+        searches = 0;
+        shared = 0;
+    }
+}
@@ -0,0 +1,393 @@
+package gregtech.api.util;
+
+import gregtech.common.ConfigHolder;
+
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.text.ITextComponent;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.util.text.TextComponentTranslation;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Synchronizes lists of text components, such as multiblock display text, from the server to the client.
+ * <p>
+ * Each line is split into a template and its arguments. The arguments are the plain values passed to translations,
+ * such as numbers and formatted numbers, and the text of plain string components passed to them. Everything else,
+ * including translation keys and styles, belongs to the template. A line whose template did not change only sends its
+ * changed arguments, and templates sent before are referred to by their id instead of being sent again as JSON.
+ * <p>
+ * The text is checked at most every {@link ConfigHolder.MiscOptions#displayTextSyncInterval} ticks.
+ */
+public final class DisplayTextSync {
+
+    private static final int MAX_TEMPLATES = 256;
+
+    // line operations
+    private static final byte UNCHANGED = 0;
+    private static final byte ARGUMENTS = 1;
+    private static final byte KNOWN_TEMPLATE = 2;
+    private static final byte NEW_TEMPLATE = 3;
+
+    // argument types
+    private static final byte LONG = 0;
+    private static final byte FLOAT = 1;
+    private static final byte DOUBLE = 2;
+    private static final byte STRING = 3;
+
+    private DisplayTextSync() {}
+
+    /**
+     * The server side of the synchronization, one per synchronized text and player
+     */
+    public static final class Sender {
+
+        private final List<ITextComponent> lines = new ArrayList<>();
+        private final List<Object[]> lineArguments = new ArrayList<>();
+        private final Object2IntMap<String> templateIds = new Object2IntOpenHashMap<>();
+        private final List<ITextComponent> templates = new ArrayList<>();
+
+        // the update to write, as line operations followed by their operands
+        private final List<Object> pending = new ArrayList<>();
+        private boolean pendingReset;
+        private int ticksSinceCheck = Integer.MAX_VALUE;
+
+        public Sender() {
+            templateIds.defaultReturnValue(-1);
+        }
+
+        /**
+         * Call every tick before building the text.
+         *
+         * @return if the text should be checked for changes this tick
+         */
+        public boolean shouldCheck() {
+            if (ticksSinceCheck != Integer.MAX_VALUE && ++ticksSinceCheck < ConfigHolder.misc.displayTextSyncInterval) {
+                return false;
+            }
+            ticksSinceCheck = 0;
+            return true;
+        }
+
+        /**
+         * Compares the text with the text sent before, and prepares an update if it changed.
+         *
+         * @param text the current text
+         * @return if the text changed, and the update must be written with {@link #write(PacketBuffer)}
+         */
+        public boolean update(@NotNull List<ITextComponent> text) {
+            pending.clear();
+            if (templates.size() >= MAX_TEMPLATES) {
+                // forget all templates, so that their ids can be reused
+                pendingReset = true;
+                templateIds.clear();
+                templates.clear();
+                lines.clear();
+                lineArguments.clear();
+            }
+
+            boolean changed = pendingReset || text.size() != lines.size();
+            List<Object> arguments = new ArrayList<>();
+            for (int i = 0; i < text.size(); i++) {
+                ITextComponent line = text.get(i);
+                arguments.clear();
+                collectArguments(line, arguments);
+                Object[] lineArgs = arguments.toArray();
+
+                if (i < lines.size() && sameTemplate(lines.get(i), line)) {
+                    Object[] previousArgs = lineArguments.get(i);
+                    IntList changedArgs = new IntArrayList();
+                    for (int arg = 0; arg < lineArgs.length; arg++) {
+                        if (!Objects.equals(previousArgs[arg], lineArgs[arg])) {
+                            changedArgs.add(arg);
+                        }
+                    }
+                    if (changedArgs.isEmpty()) {
+                        pending.add(UNCHANGED);
+                    } else {
+                        pending.add(ARGUMENTS);
+                        pending.add(changedArgs);
+                        pending.add(lineArgs);
+                        changed = true;
+                    }
+                    lines.set(i, line);
+                    lineArguments.set(i, lineArgs);
+                    continue;
+                }
+
+                changed = true;
+                ITextComponent template = copy(line, null, null);
+                String json = ITextComponent.Serializer.componentToJson(template);
+                int id = templateIds.getInt(json);
+                if (id >= 0) {
+                    pending.add(KNOWN_TEMPLATE);
+                    pending.add(id);
+                } else {
+                    templateIds.put(json, templates.size());
+                    templates.add(template);
+                    pending.add(NEW_TEMPLATE);
+                    pending.add(json);
+                }
+                pending.add(lineArgs);
+                if (i < lines.size()) {
+                    lines.set(i, line);
+                    lineArguments.set(i, lineArgs);
+                } else {
+                    lines.add(line);
+                    lineArguments.add(lineArgs);
+                }
+            }
+            while (lines.size() > text.size()) {
+                lines.remove(lines.size() - 1);
+                lineArguments.remove(lineArguments.size() - 1);
+            }
+            return changed;
+        }
+
+        /**
+         * Writes the update prepared by {@link #update(List)}.
+         *
+         * @param buf the buffer to write to
+         */
+        public void write(@NotNull PacketBuffer buf) {
+            buf.writeBoolean(pendingReset);
+            buf.writeVarInt(lines.size());
+            for (int i = 0; i < pending.size(); i++) {
+                byte operation = (byte) pending.get(i);
+                buf.writeByte(operation);
+                switch (operation) {
+                    case ARGUMENTS -> {
+                        IntList changedArgs = (IntList) pending.get(++i);
+                        Object[] lineArgs = (Object[]) pending.get(++i);
+                        buf.writeVarInt(changedArgs.size());
+                        for (int j = 0; j < changedArgs.size(); j++) {
+                            buf.writeVarInt(changedArgs.getInt(j));
+                            writeArgument(buf, lineArgs[changedArgs.getInt(j)]);
+                        }
+                    }
+                    case KNOWN_TEMPLATE, NEW_TEMPLATE -> {
+                        if (operation == KNOWN_TEMPLATE) {
+                            buf.writeVarInt((int) pending.get(++i));
+                        } else {
+                            buf.writeString((String) pending.get(++i));
+                        }
+                        Object[] lineArgs = (Object[]) pending.get(++i);
+                        buf.writeVarInt(lineArgs.length);
+                        for (Object arg : lineArgs) {
+                            writeArgument(buf, arg);
+                        }
+                    }
+                }
+            }
+            pending.clear();
+            pendingReset = false;
+        }
+    }
+
+    /**
+     * The client side of the synchronization
+     */
+    public static final class Receiver {
+
+        private final List<ITextComponent> templates = new ArrayList<>();
+        private final IntList lineTemplates = new IntArrayList();
+        private final List<Object[]> lineArguments = new ArrayList<>();
+        private final List<ITextComponent> lines = new ArrayList<>();
+
+        /**
+         * Reads an update written by {@link Sender#write(PacketBuffer)}.
+         *
+         * @param buf the buffer to read from
+         * @return the current text, which must not be modified
+         */
+        @NotNull
+        public List<ITextComponent> read(@NotNull PacketBuffer buf) {
+            if (buf.readBoolean()) {
+                templates.clear();
+            }
+            int count = buf.readVarInt();
+            while (lines.size() > count) {
+                lines.remove(lines.size() - 1);
+                lineTemplates.removeInt(lineTemplates.size() - 1);
+                lineArguments.remove(lineArguments.size() - 1);
+            }
+
+            for (int i = 0; i < count; i++) {
+                byte operation = buf.readByte();
+                if (operation == UNCHANGED) continue;
+
+                int template;
+                Object[] lineArgs;
+                if (operation == ARGUMENTS) {
+                    template = lineTemplates.getInt(i);
+                    lineArgs = lineArguments.get(i).clone();
+                    int changed = buf.readVarInt();
+                    for (int j = 0; j < changed; j++) {
+                        int arg = buf.readVarInt();
+                        lineArgs[arg] = readArgument(buf);
+                    }
+                } else {
+                    if (operation == KNOWN_TEMPLATE) {
+                        template = buf.readVarInt();
+                    } else {
+                        template = templates.size();
+                        templates.add(ITextComponent.Serializer.jsonToComponent(buf.readString(32767)));
+                    }
+                    lineArgs = new Object[buf.readVarInt()];
+                    for (int j = 0; j < lineArgs.length; j++) {
+                        lineArgs[j] = readArgument(buf);
+                    }
+                }
+
+                ITextComponent line = copy(templates.get(template), lineArgs, new int[1]);
+                if (i < lines.size()) {
+                    lines.set(i, line);
+                    lineTemplates.set(i, template);
+                    lineArguments.set(i, lineArgs);
+                } else {
+                    lines.add(line);
+                    lineTemplates.add(template);
+                    lineArguments.add(lineArgs);
+                }
+            }
+            return lines;
+        }
+    }
+
+    private static boolean isValueArgument(@Nullable Object arg) {
+        return arg instanceof String || arg instanceof Number;
+    }
+
+    private static boolean isTextArgument(@Nullable Object arg) {
+        return arg instanceof TextComponentString component && component.getSiblings().isEmpty();
+    }
+
+    private static void collectArguments(@NotNull ITextComponent component, @NotNull List<Object> arguments) {
+        if (component instanceof TextComponentTranslation translation) {
+            for (Object arg : translation.getFormatArgs()) {
+                if (isValueArgument(arg)) {
+                    arguments.add(arg);
+                } else if (isTextArgument(arg)) {
+                    arguments.add(((TextComponentString) arg).getText());
+                } else if (arg instanceof ITextComponent argComponent) {
+                    collectArguments(argComponent, arguments);
+                }
+            }
+        }
+        for (ITextComponent sibling : component.getSiblings()) {
+            collectArguments(sibling, arguments);
+        }
+    }
+
+    private static boolean sameTemplate(@NotNull ITextComponent a, @NotNull ITextComponent b) {
+        if (a.getClass() != b.getClass() || !a.getStyle().equals(b.getStyle()) ||
+                a.getSiblings().size() != b.getSiblings().size()) {
+            return false;
+        }
+        if (a instanceof TextComponentTranslation translationA) {
+            TextComponentTranslation translationB = (TextComponentTranslation) b;
+            if (!translationA.getKey().equals(translationB.getKey())) return false;
+            Object[] argsA = translationA.getFormatArgs();
+            Object[] argsB = translationB.getFormatArgs();
+            if (argsA.length != argsB.length) return false;
+            for (int i = 0; i < argsA.length; i++) {
+                if (!sameArgumentTemplate(argsA[i], argsB[i])) return false;
+            }
+        } else if (!a.getUnformattedComponentText().equals(b.getUnformattedComponentText())) {
+            return false;
+        }
+        for (int i = 0; i < a.getSiblings().size(); i++) {
+            if (!sameTemplate(a.getSiblings().get(i), b.getSiblings().get(i))) return false;
+        }
+        return true;
+    }
+
+    private static boolean sameArgumentTemplate(@Nullable Object a, @Nullable Object b) {
+        if (isValueArgument(a)) return isValueArgument(b);
+        if (isTextArgument(a)) {
+            return isTextArgument(b) && ((ITextComponent) a).getStyle().equals(((ITextComponent) b).getStyle());
+        }
+        if (a instanceof ITextComponent componentA) {
+            return b instanceof ITextComponent componentB && !isTextArgument(b) && sameTemplate(componentA, componentB);
+        }
+        return Objects.equals(a, b);
+    }
+
+    /**
+     * Copies a component, replacing its arguments.
+     *
+     * @param component the component to copy
+     * @param arguments the arguments to use, in the order of {@link #collectArguments(ITextComponent, List)}, or null
+     *                  to replace them with empty values
+     * @param cursor    the index of the next argument to use
+     * @return the copy
+     */
+    @NotNull
+    private static ITextComponent copy(@NotNull ITextComponent component, Object @Nullable [] arguments,
+                                       int @Nullable [] cursor) {
+        ITextComponent copy;
+        if (component instanceof TextComponentTranslation translation) {
+            Object[] args = Arrays.copyOf(translation.getFormatArgs(), translation.getFormatArgs().length);
+            for (int i = 0; i < args.length; i++) {
+                Object arg = args[i];
+                if (isValueArgument(arg)) {
+                    args[i] = arguments == null ? "" : arguments[cursor[0]++];
+                } else if (isTextArgument(arg)) {
+                    ITextComponent text = new TextComponentString(
+                            arguments == null ? "" : String.valueOf(arguments[cursor[0]++]));
+                    text.setStyle(((ITextComponent) arg).getStyle().createShallowCopy());
+                    args[i] = text;
+                } else if (arg instanceof ITextComponent argComponent) {
+                    args[i] = copy(argComponent, arguments, cursor);
+                }
+            }
+            copy = new TextComponentTranslation(translation.getKey(), args);
+        } else if (component instanceof TextComponentString string) {
+            copy = new TextComponentString(string.getText());
+        } else {
+            copy = component.createCopy();
+            copy.getSiblings().clear();
+        }
+        copy.setStyle(component.getStyle().createShallowCopy());
+        for (ITextComponent sibling : component.getSiblings()) {
+            copy.appendSibling(copy(sibling, arguments, cursor));
+        }
+        return copy;
+    }
+
+    private static void writeArgument(@NotNull PacketBuffer buf, @Nullable Object arg) {
+        if (arg instanceof Long || arg instanceof Integer || arg instanceof Short || arg instanceof Byte) {
+            buf.writeByte(LONG);
+            buf.writeVarLong(((Number) arg).longValue());
+        } else if (arg instanceof Float value) {
+            buf.writeByte(FLOAT);
+            buf.writeFloat(value);
+        } else if (arg instanceof Double value) {
+            buf.writeByte(DOUBLE);
+            buf.writeDouble(value);
+        } else {
+            buf.writeByte(STRING);
+            buf.writeString(String.valueOf(arg));
+        }
+    }
+
+    @NotNull
+    private static Object readArgument(@NotNull PacketBuffer buf) {
+        return switch (buf.readByte()) {
+            case LONG -> buf.readVarLong();
+            case FLOAT -> buf.readFloat();
+            case DOUBLE -> buf.readDouble();
+            default -> buf.readString(32767);
+        };
+    }
+}
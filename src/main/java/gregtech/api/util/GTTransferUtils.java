@@ -1,6 +1,7 @@
 package gregtech.api.util;
 
 import gregtech.api.capability.IMultipleTankHandler;
+import gregtech.api.capability.impl.ItemHandlerList;
 
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.FluidActionResult;
@@ -176,6 +177,10 @@ public class GTTransferUtils {
             return stack;
         }
 
+        if (handler instanceof ItemHandlerList handlerList) {
+            return insertItemIndexed(handlerList, stack, simulate);
+        }
+
         IntList emptySlots = new IntArrayList();
         int slots = handler.getSlots();
 
@@ -200,6 +205,73 @@ public class GTTransferUtils {
         return stack;
     }
 
+    /**
+     * Inserts items like {@link #insertItem(IItemHandler, ItemStack, boolean)}, but only visits the slots which may
+     * hold the item or are empty.
+     */
+    private static ItemStack insertItemIndexed(ItemHandlerList handler, ItemStack stack, boolean simulate) {
+        ItemStack remainder = insertItemIndexedOnce(handler, stack, simulate);
+        // slots emptied in place are only found after refreshing the index
+        if (!remainder.isEmpty() && handler.refreshIndex()) {
+            remainder = insertItemIndexedOnce(handler, remainder, simulate);
+        }
+        return remainder;
+    }
+
+    private static ItemStack insertItemIndexedOnce(ItemHandlerList handler, ItemStack stack, boolean simulate) {
+        IntList emptySlots = new IntArrayList();
+        IntList slots = handler.findSlots(stack, true);
+
+        for (int i = 0; i < slots.size(); i++) {
+            int slot = slots.getInt(i);
+            ItemStack slotStack = handler.getStackInSlot(slot);
+            if (slotStack.isEmpty()) {
+                emptySlots.add(slot);
+            } else if (ItemHandlerHelper.canItemStacksStack(stack, slotStack)) {
+                stack = handler.insertItem(slot, stack, simulate);
+                if (stack.isEmpty()) {
+                    return ItemStack.EMPTY;
+                }
+            }
+        }
+
+        for (int slot : emptySlots) {
+            stack = handler.insertItem(slot, stack, simulate);
+            if (stack.isEmpty()) {
+                return ItemStack.EMPTY;
+            }
+        }
+        return stack;
+    }
+
+    /**
+     * Extracts items of the same type as a stack from a handler, visiting only the slots which may hold them for an
+     * {@link ItemHandlerList}.
+     *
+     * @param handler  the handler to extract from
+     * @param stack    the type of the items to extract
+     * @param amount   the maximum amount to extract
+     * @param simulate whether to simulate the extraction
+     * @return the amount of items extracted
+     */
+    public static int extractItem(IItemHandler handler, ItemStack stack, int amount, boolean simulate) {
+        if (stack.isEmpty() || amount <= 0) return 0;
+        IntList slots = handler instanceof ItemHandlerList handlerList ? handlerList.findSlots(stack, false) : null;
+        int slotCount = slots == null ? handler.getSlots() : slots.size();
+
+        int extracted = 0;
+        for (int i = 0; i < slotCount; i++) {
+            int slot = slots == null ? i : slots.getInt(i);
+            ItemStack slotStack = handler.getStackInSlot(slot);
+            if (slotStack.isEmpty() || !ItemStackHashStrategy.comparingAllButCount().equals(stack, slotStack)) {
+                continue;
+            }
+            extracted += handler.extractItem(slot, amount - extracted, simulate).getCount();
+            if (extracted == amount) break;
+        }
+        return extracted;
+    }
+
     /**
      * Only inerts to empty slots. Perfect for not stackable items
      */
@@ -0,0 +1,222 @@
+package gregtech.api.util;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures the server tick time of MetaTileEntities, their traits, covers and pipes during a sampling window.
+ * <p>
+ * Callers take a timestamp with {@link #start()} before the measured work and pass it to
+ * {@link #record(Category, Object, World, long)} after it. While no window is running, {@link #start()} returns
+ * {@code 0} without reading the clock, and recording returns immediately.
+ * <p>
+ * Time is aggregated per category, key and dimension. MetaTileEntity times include the time of their traits and
+ * covers, which are additionally recorded on their own.
+ */
+public final class TickProfiler {
+
+    private static final Map<Category, Int2ObjectMap<Object2ObjectMap<Object, long[]>>> SAMPLES = new EnumMap<>(
+            Category.class);
+
+    private static boolean enabled;
+    private static long startTick;
+    private static long startTime;
+
+    static {
+        for (Category category : Category.values()) {
+            SAMPLES.put(category, new Int2ObjectOpenHashMap<>());
+        }
+    }
+
+    private TickProfiler() {}
+
+    /**
+     * @return if a sampling window is running
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the timestamp to pass to {@link #record(Category, Object, World, long)}, or 0 if not sampling
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records the time passed since a timestamp taken by {@link #start()}. Only server side work is recorded.
+     *
+     * @param category the category of the work
+     * @param key      the key to aggregate the time under, such as an id or a class
+     * @param world    the world the work was done in
+     * @param start    the timestamp taken before the work
+     */
+    public static void record(@NotNull Category category, @NotNull Object key, @Nullable World world, long start) {
+        if (start == 0L || !enabled || world == null || world.isRemote) return;
+        long time = System.nanoTime() - start;
+        long[] sample = SAMPLES.get(category)
+                .computeIfAbsent(world.provider.getDimension(), k -> new Object2ObjectOpenHashMap<>())
+                .computeIfAbsent(key, k -> new long[2]);
+        sample[0] += time;
+        sample[1]++;
+    }
+
+    /**
+     * Starts a new sampling window, discarding all samples of the previous one.
+     */
+    public static void startSampling() {
+        clear();
+        startTick = getServerTick();
+        startTime = System.nanoTime();
+        enabled = true;
+    }
+
+    /**
+     * Stops the running sampling window.
+     *
+     * @return the samples of the window, sorted by descending total time
+     */
+    @NotNull
+    public static Report stopSampling() {
+        enabled = false;
+        List<Sample> samples = new ArrayList<>();
+        for (Map.Entry<Category, Int2ObjectMap<Object2ObjectMap<Object, long[]>>> entry : SAMPLES.entrySet()) {
+            for (Int2ObjectMap.Entry<Object2ObjectMap<Object, long[]>> dimEntry : entry.getValue()
+                    .int2ObjectEntrySet()) {
+                for (Object2ObjectMap.Entry<Object, long[]> keyEntry : dimEntry.getValue().object2ObjectEntrySet()) {
+                    long[] sample = keyEntry.getValue();
+                    samples.add(new Sample(entry.getKey(), getName(keyEntry.getKey()), dimEntry.getIntKey(),
+                            sample[0], sample[1]));
+                }
+            }
+        }
+        samples.sort(Comparator.comparingLong(Sample::getNanos).reversed());
+        Report report = new Report(samples, Math.max(1, getServerTick() - startTick), System.nanoTime() - startTime);
+        clear();
+        return report;
+    }
+
+    private static void clear() {
+        for (Int2ObjectMap<?> samples : SAMPLES.values()) {
+            samples.clear();
+        }
+    }
+
+    @NotNull
+    private static String getName(@NotNull Object key) {
+        if (key instanceof Class<?> clazz) return clazz.getName();
+        if (key instanceof ResourceLocation location) return location.toString();
+        return key.toString();
+    }
+
+    private static long getServerTick() {
+        MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+        return server == null ? 0 : server.getTickCounter();
+    }
+
+    public enum Category {
+
+        METATILEENTITY("mte"),
+        TRAIT("trait"),
+        COVER("cover"),
+        PIPE("pipe");
+
+        private final String name;
+
+        Category(@NotNull String name) {
+            this.name = name;
+        }
+
+        @NotNull
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static final class Sample {
+
+        private final Category category;
+        private final String key;
+        private final int dimension;
+        private final long nanos;
+        private final long calls;
+
+        private Sample(@NotNull Category category, @NotNull String key, int dimension, long nanos, long calls) {
+            this.category = category;
+            this.key = key;
+            this.dimension = dimension;
+            this.nanos = nanos;
+            this.calls = calls;
+        }
+
+        public @NotNull Category getCategory() {
+            return category;
+        }
+
+        public @NotNull String getKey() {
+            return key;
+        }
+
+        public int getDimension() {
+            return dimension;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        public long getCalls() {
+            return calls;
+        }
+    }
+
+    public static final class Report {
+
+        private final List<Sample> samples;
+        private final long ticks;
+        private final long wallNanos;
+
+        private Report(@NotNull List<Sample> samples, long ticks, long wallNanos) {
+            this.samples = samples;
+            this.ticks = ticks;
+            this.wallNanos = wallNanos;
+        }
+
+        /**
+         * @return the samples, sorted by descending total time
+         */
+        public @NotNull List<Sample> getSamples() {
+            return samples;
+        }
+
+        /**
+         * @return the amount of server ticks the window lasted
+         */
+        public long getTicks() {
+            return ticks;
+        }
+
+        /**
+         * @return the real time the window lasted, in nanoseconds
+         */
+        public long getWallNanos() {
+            return wallNanos;
+        }
+    }
+}
@@ -10,6 +10,7 @@ import gregtech.core.network.packets.PacketFluidVeinList;
 
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldProvider;
 import net.minecraft.world.biome.Biome;
@@ -17,6 +18,12 @@ import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.relauncher.Side;
 
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -28,8 +35,11 @@ import java.util.Random;
 public class BedrockFluidVeinHandler {
 
     public final static LinkedHashMap<BedrockFluidDepositDefinition, Integer> veinList = new LinkedHashMap<>();
-    private final static Map<Integer, HashMap<Integer, Integer>> totalWeightMap = new HashMap<>();
-    public static HashMap<ChunkPosDimension, FluidVeinWorldEntry> veinCache = new HashMap<>();
+    private final static Int2ObjectMap<Int2IntMap> totalWeightMap = new Int2ObjectOpenHashMap<>();
+    /**
+     * Veins by dimension and by {@link ChunkPos#asLong(int, int) packed} vein coordinates
+     */
+    public static final Int2ObjectMap<Long2ObjectMap<FluidVeinWorldEntry>> veinCache = new Int2ObjectOpenHashMap<>();
 
     /**
      * 1: Original version
@@ -57,10 +67,10 @@ public class BedrockFluidVeinHandler {
         if (world.isRemote)
             return null;
 
-        ChunkPosDimension coords = new ChunkPosDimension(world.provider.getDimension(), getVeinCoord(chunkX),
-                getVeinCoord(chunkZ));
+        Long2ObjectMap<FluidVeinWorldEntry> dimensionVeins = getDimensionVeins(world.provider.getDimension());
+        long coords = ChunkPos.asLong(getVeinCoord(chunkX), getVeinCoord(chunkZ));
 
-        FluidVeinWorldEntry worldEntry = veinCache.get(coords);
+        FluidVeinWorldEntry worldEntry = dimensionVeins.get(coords);
         if (worldEntry == null) {
             BedrockFluidDepositDefinition definition = null;
 
@@ -96,11 +106,25 @@ public class BedrockFluidVeinHandler {
             }
 
             worldEntry = new FluidVeinWorldEntry(definition, maximumYield, MAXIMUM_VEIN_OPERATIONS);
-            veinCache.put(coords, worldEntry);
+            dimensionVeins.put(coords, worldEntry);
         }
         return worldEntry;
     }
 
+    /**
+     * @param dimension the dimension
+     * @return the veins of the dimension by packed vein coordinates
+     */
+    @NotNull
+    public static Long2ObjectMap<FluidVeinWorldEntry> getDimensionVeins(int dimension) {
+        Long2ObjectMap<FluidVeinWorldEntry> dimensionVeins = veinCache.get(dimension);
+        if (dimensionVeins == null) {
+            dimensionVeins = new Long2ObjectOpenHashMap<>();
+            veinCache.put(dimension, dimensionVeins);
+        }
+        return dimensionVeins;
+    }
+
     /**
      * Gets the total weight of all veins for the given dimension ID and biome type
      *
@@ -110,15 +134,17 @@ public class BedrockFluidVeinHandler {
      */
     public static int getTotalWeight(@NotNull WorldProvider provider, Biome biome) {
         int dim = provider.getDimension();
-        if (!totalWeightMap.containsKey(dim)) {
-            totalWeightMap.put(dim, new HashMap<>());
+        Int2IntMap dimMap = totalWeightMap.get(dim);
+        if (dimMap == null) {
+            dimMap = new Int2IntOpenHashMap();
+            dimMap.defaultReturnValue(Integer.MIN_VALUE);
+            totalWeightMap.put(dim, dimMap);
         }
 
-        Map<Integer, Integer> dimMap = totalWeightMap.get(dim);
         int biomeID = Biome.getIdForBiome(biome);
-
-        if (dimMap.containsKey(biomeID)) {
-            return dimMap.get(biomeID);
+        int cachedWeight = dimMap.get(biomeID);
+        if (cachedWeight != Integer.MIN_VALUE) {
+            return cachedWeight;
         }
 
         int totalWeight = 0;
@@ -150,10 +176,11 @@ public class BedrockFluidVeinHandler {
         totalWeightMap.clear();
         if (FMLCommonHandler.instance().getEffectiveSide() == Side.SERVER && !mutePackets) {
             HashMap<FluidVeinWorldEntry, Integer> packetMap = new HashMap<>();
-            for (Map.Entry<ChunkPosDimension, FluidVeinWorldEntry> entry : BedrockFluidVeinHandler.veinCache
-                    .entrySet()) {
-                if (entry.getKey() != null && entry.getValue() != null)
-                    packetMap.put(entry.getValue(), entry.getValue().getDefinition().getWeight());
+            for (Long2ObjectMap<FluidVeinWorldEntry> dimensionVeins : veinCache.values()) {
+                for (FluidVeinWorldEntry entry : dimensionVeins.values()) {
+                    if (entry != null)
+                        packetMap.put(entry, entry.getDefinition().getWeight());
+                }
             }
             GregTechAPI.networkHandler.sendToAll(new PacketFluidVeinList(packetMap));
         }
@@ -305,15 +332,25 @@ public class BedrockFluidVeinHandler {
             info.operationsRemaining = tag.getInteger("operationsRemaining");
 
             if (tag.hasKey("vein")) {
-                String s = tag.getString("vein");
-                for (BedrockFluidDepositDefinition definition : veinList.keySet()) {
-                    // old save data can have deposit names with native separators, get rid of those
-                    if (FileUtility.nativeSepToSlash(s).equalsIgnoreCase(definition.getDepositName()))
-                        info.vein = definition;
-                }
+                info.vein = getDefinition(tag.getString("vein"));
             }
 
             return info;
         }
+
+        /**
+         * @param name the name of the deposit
+         * @return the registered deposit with the name, or null if there is none
+         */
+        @Nullable
+        public static BedrockFluidDepositDefinition getDefinition(@NotNull String name) {
+            BedrockFluidDepositDefinition found = null;
+            for (BedrockFluidDepositDefinition definition : veinList.keySet()) {
+                // old save data can have deposit names with native separators, get rid of those
+                if (FileUtility.nativeSepToSlash(name).equalsIgnoreCase(definition.getDepositName()))
+                    found = definition;
+            }
+            return found;
+        }
     }
 }
@@ -1,43 +1,59 @@
 package gregtech.api.worldgen.bedrockFluids;
 
 import gregtech.api.GTValues;
+import gregtech.api.worldgen.bedrockFluids.BedrockFluidVeinHandler.FluidVeinWorldEntry;
+import gregtech.api.worldgen.config.BedrockFluidDepositDefinition;
 
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.storage.WorldSavedData;
+import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.relauncher.Side;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Map;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
+/**
+ * Saves the bedrock fluid veins of all dimensions.
+ * <p>
+ * The veins of a dimension are stored as one byte array of fixed size records, holding the packed vein coordinates,
+ * an index into the list of deposit names, the fluid yield and the remaining operations. Older saves stored one
+ * compound per vein in the {@code veinInfo} list, which is still read.
+ */
 public class BedrockFluidVeinSaveData extends WorldSavedData {
 
     private static BedrockFluidVeinSaveData INSTANCE;
     public static final String dataName = GTValues.MODID + ".bedrockFluidVeinData";
 
+    // packed coordinates, deposit index, fluid yield, operations remaining
+    private static final int RECORD_SIZE = Long.BYTES + Short.BYTES + Integer.BYTES + Integer.BYTES;
+
     public BedrockFluidVeinSaveData(String s) {
         super(s);
     }
 
     @Override
     public void readFromNBT(NBTTagCompound nbt) {
-        NBTTagList veinList = nbt.getTagList("veinInfo", 10);
         BedrockFluidVeinHandler.veinCache.clear();
-        for (int i = 0; i < veinList.tagCount(); i++) {
-            NBTTagCompound tag = veinList.getCompoundTagAt(i);
-            ChunkPosDimension coords = ChunkPosDimension.readFromNBT(tag);
-            if (coords != null) {
-                BedrockFluidVeinHandler.FluidVeinWorldEntry info = BedrockFluidVeinHandler.FluidVeinWorldEntry
-                        .readFromNBT(tag.getCompoundTag("info"));
-                BedrockFluidVeinHandler.veinCache.put(coords, info);
-            }
+        boolean empty;
+        if (nbt.hasKey("veinData", Constants.NBT.TAG_COMPOUND)) {
+            empty = readVeinData(nbt.getCompoundTag("veinData"));
+        } else {
+            empty = readLegacyVeinInfo(nbt.getTagList("veinInfo", Constants.NBT.TAG_COMPOUND));
         }
 
         if (nbt.hasKey("version")) {
             BedrockFluidVeinHandler.saveDataVersion = nbt.getInteger("version");
-        } else if (veinList.isEmpty()) {
+        } else if (empty) {
             // there are no veins, so there is no data to be changed or lost by bumping the version
             BedrockFluidVeinHandler.saveDataVersion = BedrockFluidVeinHandler.MAX_FLUID_SAVE_DATA_VERSION;
         } else {
@@ -46,18 +62,99 @@ public class BedrockFluidVeinSaveData extends WorldSavedData {
         }
     }
 
+    /**
+     * @return if there were no veins
+     */
+    private static boolean readLegacyVeinInfo(@NotNull NBTTagList veinList) {
+        for (int i = 0; i < veinList.tagCount(); i++) {
+            NBTTagCompound tag = veinList.getCompoundTagAt(i);
+            ChunkPosDimension coords = ChunkPosDimension.readFromNBT(tag);
+            if (coords != null) {
+                FluidVeinWorldEntry info = FluidVeinWorldEntry.readFromNBT(tag.getCompoundTag("info"));
+                BedrockFluidVeinHandler.getDimensionVeins(coords.dimension)
+                        .put(ChunkPos.asLong(coords.x, coords.z), info);
+            }
+        }
+        return veinList.isEmpty();
+    }
+
+    /**
+     * @return if there were no veins
+     */
+    private static boolean readVeinData(@NotNull NBTTagCompound veinData) {
+        NBTTagList names = veinData.getTagList("deposits", Constants.NBT.TAG_STRING);
+        BedrockFluidDepositDefinition[] deposits = new BedrockFluidDepositDefinition[names.tagCount()];
+        for (int i = 0; i < deposits.length; i++) {
+            deposits[i] = FluidVeinWorldEntry.getDefinition(names.getStringTagAt(i));
+        }
+
+        boolean empty = true;
+        NBTTagList dimensions = veinData.getTagList("dimensions", Constants.NBT.TAG_COMPOUND);
+        for (int i = 0; i < dimensions.tagCount(); i++) {
+            NBTTagCompound tag = dimensions.getCompoundTagAt(i);
+            ByteBuffer records = ByteBuffer.wrap(tag.getByteArray("veins"));
+            int count = records.remaining() / RECORD_SIZE;
+            if (count == 0) continue;
+            empty = false;
+
+            Long2ObjectMap<FluidVeinWorldEntry> dimensionVeins = BedrockFluidVeinHandler.getDimensionVeins(
+                    tag.getInteger("dimension"));
+            for (int j = 0; j < count; j++) {
+                long coords = records.getLong();
+                int deposit = records.getShort();
+                int fluidYield = records.getInt();
+                int operationsRemaining = records.getInt();
+                dimensionVeins.put(coords, new FluidVeinWorldEntry(
+                        deposit >= 0 && deposit < deposits.length ? deposits[deposit] : null,
+                        fluidYield, operationsRemaining));
+            }
+        }
+        return empty;
+    }
+
     @Override
     public @NotNull NBTTagCompound writeToNBT(@NotNull NBTTagCompound nbt) {
-        NBTTagList oilList = new NBTTagList();
-        for (Map.Entry<ChunkPosDimension, BedrockFluidVeinHandler.FluidVeinWorldEntry> e : BedrockFluidVeinHandler.veinCache
-                .entrySet()) {
-            if (e.getKey() != null && e.getValue() != null) {
-                NBTTagCompound tag = e.getKey().writeToNBT();
-                tag.setTag("info", e.getValue().writeToNBT());
-                oilList.appendTag(tag);
+        NBTTagList names = new NBTTagList();
+        Object2IntMap<BedrockFluidDepositDefinition> depositIndices = new Object2IntOpenHashMap<>();
+        depositIndices.defaultReturnValue(-1);
+
+        NBTTagList dimensions = new NBTTagList();
+        for (Int2ObjectMap.Entry<Long2ObjectMap<FluidVeinWorldEntry>> dimensionEntry : BedrockFluidVeinHandler
+                .veinCache.int2ObjectEntrySet()) {
+            Long2ObjectMap<FluidVeinWorldEntry> dimensionVeins = dimensionEntry.getValue();
+            if (dimensionVeins.isEmpty()) continue;
+
+            ByteBuffer records = ByteBuffer.allocate(dimensionVeins.size() * RECORD_SIZE);
+            for (Long2ObjectMap.Entry<FluidVeinWorldEntry> e : dimensionVeins.long2ObjectEntrySet()) {
+                FluidVeinWorldEntry info = e.getValue();
+                if (info == null) continue;
+
+                int deposit = -1;
+                BedrockFluidDepositDefinition definition = info.getDefinition();
+                if (definition != null) {
+                    deposit = depositIndices.getInt(definition);
+                    if (deposit < 0) {
+                        deposit = names.tagCount();
+                        depositIndices.put(definition, deposit);
+                        names.appendTag(new NBTTagString(definition.getDepositName()));
+                    }
+                }
+                records.putLong(e.getLongKey());
+                records.putShort((short) deposit);
+                records.putInt(info.getFluidYield());
+                records.putInt(info.getOperationsRemaining());
             }
+
+            NBTTagCompound tag = new NBTTagCompound();
+            tag.setInteger("dimension", dimensionEntry.getIntKey());
+            tag.setByteArray("veins", Arrays.copyOf(records.array(), records.position()));
+            dimensions.appendTag(tag);
         }
-        nbt.setTag("veinInfo", oilList);
+
+        NBTTagCompound veinData = new NBTTagCompound();
+        veinData.setTag("deposits", names);
+        veinData.setTag("dimensions", dimensions);
+        nbt.setTag("veinData", veinData);
         nbt.setInteger("version", BedrockFluidVeinHandler.saveDataVersion);
 
         return nbt;
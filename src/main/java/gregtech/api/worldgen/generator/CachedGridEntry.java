@@ -21,41 +21,119 @@ import net.minecraft.world.chunk.Chunk;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import it.unimi.dsi.fastutil.longs.*;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import org.apache.commons.lang3.tuple.MutablePair;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IBlockModifierAccess {
 
     private static final Map<World, Cache<Long, CachedGridEntry>> gridEntryCache = new WeakHashMap<>();
+    private static ExecutorService layoutExecutor;
+    private static long createdEntries;
 
     public static CachedGridEntry getOrCreateEntry(World world, int gridX, int gridZ, int primerChunkX,
                                                    int primerChunkZ) {
+        return getOrCreateEntries(world, gridX, gridZ, 1, 1, primerChunkX, primerChunkZ)[0];
+    }
+
+    /**
+     * Gets the entries of a rectangle of grid cells, creating the missing ones.
+     * <p>
+     * The vein layout of a cell only depends on the world seed, the cell coordinates and the terrain height, which is
+     * read from the world beforehand. With {@link ConfigHolder.WorldGenOptions#asyncVeinLayout}, the layouts of all
+     * missing cells are therefore computed in parallel, and this method returns once all of them are done.
+     *
+     * @return the entries, ordered by x and then by z
+     */
+    public static CachedGridEntry[] getOrCreateEntries(World world, int minGridX, int minGridZ, int sizeX, int sizeZ,
+                                                       int primerChunkX, int primerChunkZ) {
         Cache<Long, CachedGridEntry> currentValue = gridEntryCache.get(world);
         if (currentValue == null) {
             currentValue = createGridCache();
             gridEntryCache.put(world, currentValue);
         }
-        Long gridEntryKey = (long) gridX << 32 | gridZ & 0xFFFFFFFFL;
-        CachedGridEntry gridEntry = currentValue.getIfPresent(gridEntryKey);
-        if (gridEntry == null) {
-            gridEntry = new CachedGridEntry(world, gridX, gridZ, primerChunkX, primerChunkZ);
-            currentValue.put(gridEntryKey, gridEntry);
+        CachedGridEntry[] entries = new CachedGridEntry[sizeX * sizeZ];
+        List<CachedGridEntry> created = new ArrayList<>();
+        for (int x = 0; x < sizeX; x++) {
+            for (int z = 0; z < sizeZ; z++) {
+                int gridX = minGridX + x;
+                int gridZ = minGridZ + z;
+                Long gridEntryKey = (long) gridX << 32 | gridZ & 0xFFFFFFFFL;
+                CachedGridEntry gridEntry = currentValue.getIfPresent(gridEntryKey);
+                if (gridEntry == null) {
+                    gridEntry = new CachedGridEntry(world, gridX, gridZ, primerChunkX, primerChunkZ, false);
+                    currentValue.put(gridEntryKey, gridEntry);
+                    created.add(gridEntry);
+                }
+                entries[x * sizeZ + z] = gridEntry;
+            }
         }
-        return gridEntry;
+        createdEntries += created.size();
+        generateLayouts(created);
+        return entries;
+    }
+
+    private static void generateLayouts(List<CachedGridEntry> entries) {
+        if (entries.size() <= 1 || !ConfigHolder.worldgen.asyncVeinLayout) {
+            entries.forEach(CachedGridEntry::triggerVeinsGeneration);
+            return;
+        }
+        ExecutorService executor = getLayoutExecutor();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[entries.size() - 1];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = CompletableFuture.runAsync(entries.get(i + 1)::triggerVeinsGeneration, executor);
+        }
+        // the server thread would wait anyway, so it computes a layout itself
+        entries.get(0).triggerVeinsGeneration();
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw e;
+        }
+    }
+
+    private static ExecutorService getLayoutExecutor() {
+        if (layoutExecutor == null) {
+            int threads = ConfigHolder.worldgen.veinLayoutThreads;
+            if (threads <= 0) {
+                threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+            }
+            layoutExecutor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                    .setNameFormat("GregTech Vein Layout #%d")
+                    .setDaemon(true)
+                    .build());
+        }
+        return layoutExecutor;
     }
 
     private static Cache<Long, CachedGridEntry> createGridCache() {
         return CacheBuilder.newBuilder()
-                .maximumSize(300)
+                .maximumSize(ConfigHolder.worldgen.gridEntryCacheSize)
                 .expireAfterAccess(5L, TimeUnit.MINUTES)
                 .build();
     }
 
+    /**
+     * @return the amount of grid entries created since the last reset
+     */
+    public static long getCreatedEntries() {
+        return createdEntries;
+    }
+
+    public static void resetStatistics() {
+        createdEntries = 0;
+    }
+
     private final Long2ObjectMap<ChunkDataEntry> dataByChunkPos = new Long2ObjectOpenHashMap<>();
     private static final Comparator<OreDepositDefinition> COMPARATOR = Comparator
             .comparing(OreDepositDefinition::getPriority).reversed();
@@ -70,7 +148,7 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
     private final int gridX;
     private final int gridZ;
     private final List<Entry<Integer, OreDepositDefinition>> cachedDepositMap;
-    private GTWorldGenCapability masterEntry;
+    private final GTWorldGenCapability masterEntry;
     private final int worldSeaLevel;
     private Map<OreDepositDefinition, BlockPos> veinGeneratedMap;
 
@@ -78,6 +156,11 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
     private OreDepositDefinition currentOreVein;
 
     public CachedGridEntry(World world, int gridX, int gridZ, int primerChunkX, int primerChunkZ) {
+        this(world, gridX, gridZ, primerChunkX, primerChunkZ, true);
+    }
+
+    private CachedGridEntry(World world, int gridX, int gridZ, int primerChunkX, int primerChunkZ,
+                            boolean generateVeins) {
         this.gridX = gridX;
         this.gridZ = gridZ;
         long worldSeed = world.getSeed();
@@ -92,21 +175,27 @@ public class CachedGridEntry implements GridEntryInfo, IBlockGeneratorAccess, IB
                 WorldGenRegistry.INSTANCE.getCachedBiomeVeins(world.provider, currentBiome));
 
         this.worldSeaLevel = world.getSeaLevel();
-        this.masterEntry = searchMasterOrNull(world);
-        if (masterEntry == null) {
+        GTWorldGenCapability master = searchMasterOrNull(world);
+        if (master == null) {
             Chunk primerChunk = world.getChunk(primerChunkX, primerChunkZ);
             BlockPos heightSpot = findOptimalSpot(gridX, gridZ, primerChunkX, primerChunkZ);
             heightSpot = heightSpot.add(primerChunkX * 16, 0, primerChunkZ * 16);
             int masterHeight = world.getHeight(heightSpot).getY();
             int masterBottomHeight = world.getTopSolidOrLiquidBlock(heightSpot).getY();
-            this.masterEntry = primerChunk.getCapability(GTWorldGenCapability.CAPABILITY, null);
-            if (this.masterEntry == null) {
-                this.masterEntry = new GTWorldGenCapability();
+            master = primerChunk.getCapability(GTWorldGenCapability.CAPABILITY, null);
+            if (master == null) {
+                master = new GTWorldGenCapability();
             }
-            this.masterEntry.setMaxHeight(masterHeight, masterBottomHeight);
+            master.setMaxHeight(masterHeight, masterBottomHeight);
         }
+        // the capability is shared with other entries primed by the same chunk, which may be created before
+        // this entry generates its veins, so the heights are copied
+        this.masterEntry = new GTWorldGenCapability();
+        this.masterEntry.setFrom(master);
 
-        triggerVeinsGeneration();
+        if (generateVeins) {
+            triggerVeinsGeneration();
+        }
     }
 
     private static BlockPos findOptimalSpot(int gridX, int gridZ, int chunkX, int chunkZ) {
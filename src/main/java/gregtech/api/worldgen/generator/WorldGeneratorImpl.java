@@ -34,6 +34,9 @@ public class WorldGeneratorImpl implements IWorldGenerator {
     public static final int GRID_SIZE_X = 3;
     public static final int GRID_SIZE_Z = 3;
 
+    private static long populatedChunks;
+    private static long populateNanos;
+
     private WorldGeneratorImpl() {}
 
     @SubscribeEvent(priority = EventPriority.HIGH)
@@ -60,15 +63,36 @@ public class WorldGeneratorImpl implements IWorldGenerator {
 
     private static void generateInternal(World world, int selfGridX, int selfGridZ, int chunkX, int chunkZ,
                                          Random random) {
+        long startTime = System.nanoTime();
         int halfSizeX = (GRID_SIZE_X - 1) / 2;
         int halfSizeZ = (GRID_SIZE_Z - 1) / 2;
-        for (int gridX = -halfSizeX; gridX <= halfSizeX; gridX++) {
-            for (int gridZ = -halfSizeZ; gridZ <= halfSizeZ; gridZ++) {
-                CachedGridEntry cachedGridEntry = CachedGridEntry.getOrCreateEntry(world, selfGridX + gridX,
-                        selfGridZ + gridZ, chunkX, chunkZ);
-                cachedGridEntry.populateChunk(world, chunkX, chunkZ, random);
-            }
+        CachedGridEntry[] entries = CachedGridEntry.getOrCreateEntries(world, selfGridX - halfSizeX,
+                selfGridZ - halfSizeZ, halfSizeX * 2 + 1, halfSizeZ * 2 + 1, chunkX, chunkZ);
+        for (CachedGridEntry cachedGridEntry : entries) {
+            cachedGridEntry.populateChunk(world, chunkX, chunkZ, random);
         }
+        populatedChunks++;
+        populateNanos += System.nanoTime() - startTime;
+    }
+
+    /**
+     * @return the amount of chunks populated with veins since the last reset
+     */
+    public static long getPopulatedChunks() {
+        return populatedChunks;
+    }
+
+    /**
+     * @return the time spent populating chunks with veins since the last reset, in nanoseconds
+     */
+    public static long getPopulateNanos() {
+        return populateNanos;
+    }
+
+    public static void resetStatistics() {
+        populatedChunks = 0;
+        populateNanos = 0;
+        CachedGridEntry.resetStatistics();
     }
 
     private static void generateRubberTree(Random random, long seed, Chunk chunk, double baseScale) {
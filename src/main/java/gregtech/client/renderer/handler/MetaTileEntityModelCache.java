@@ -0,0 +1,324 @@
+package gregtech.client.renderer.handler;
+
+import gregtech.api.metatileentity.MetaTileEntity;
+import gregtech.client.renderer.cclop.LightMapOperation;
+import gregtech.common.ConfigHolder;
+
+import net.minecraft.client.renderer.BufferBuilder;
+import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
+import net.minecraft.client.renderer.vertex.VertexFormat;
+import net.minecraft.util.BlockRenderLayer;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+import codechicken.lib.render.CCModel;
+import codechicken.lib.render.CCRenderState;
+import codechicken.lib.render.pipeline.ColourMultiplier;
+import codechicken.lib.render.pipeline.IVertexOperation;
+import codechicken.lib.vec.Matrix4;
+import codechicken.lib.vec.Translation;
+import codechicken.lib.vec.Vertex5;
+import com.github.bsideup.jabel.Desugar;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.opengl.GL11;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Caches the baked block rendering of MetaTileEntities with a static look.
+ * <p>
+ * A MetaTileEntity opts in through {@link MetaTileEntity#hasStaticRendering()} and returns a key from
+ * {@link MetaTileEntity#getRenderStateKey()}. Its faces are rendered once per distinct key, facing, painting color,
+ * render layer and visible sides into a model in block coordinates, which is reused by every equal MetaTileEntity.
+ * Only the translation to the block position and the lighting are applied when rendering a model.
+ * <p>
+ * Baking captures the faces emitted through {@link gregtech.client.renderer.texture.Textures#renderFace}. Rendering
+ * anything else, or faces whose lighting can not be restored, falls back to immediate rendering for that key.
+ */
+@SideOnly(Side.CLIENT)
+public final class MetaTileEntityModelCache {
+
+    // brightness no face can have, to detect faces without lighting
+    private static final int NO_BRIGHTNESS = 0x7FFF7FFF;
+    // the brightness of emissive faces, the only one not depending on the position
+    private static final int FULL_BRIGHTNESS = 240 << 16 | 240;
+
+    private static final ThreadLocal<BufferBuilder> BAKE_BUFFERS = ThreadLocal
+            .withInitial(() -> new BufferBuilder(0x4000));
+    private static final ThreadLocal<Builder> BUILDERS = new ThreadLocal<>();
+
+    private static Cache<Key, Optional<Model>> cache;
+
+    private MetaTileEntityModelCache() {}
+
+    /**
+     * @param metaTileEntity the MetaTileEntity to render
+     * @param renderLayer    the layer being rendered
+     * @param sideMask       the sides of the block which are rendered
+     * @param renderState    the render state, bound to buffer
+     * @param buffer         the buffer being rendered to
+     * @return the model, or null if the MetaTileEntity has to be rendered immediately
+     */
+    @Nullable
+    public static Model get(@NotNull MetaTileEntity metaTileEntity, @NotNull BlockRenderLayer renderLayer,
+                            boolean @NotNull [] sideMask, @NotNull CCRenderState renderState,
+                            @NotNull BufferBuilder buffer) {
+        if (ConfigHolder.client.machineModelCacheSize <= 0) return null;
+        if (!metaTileEntity.hasStaticRendering()) return null;
+        Object state = metaTileEntity.getRenderStateKey();
+        if (state == null) return null;
+
+        int sides = 0;
+        for (int i = 0; i < sideMask.length; i++) {
+            if (sideMask[i]) sides |= 1 << i;
+        }
+        Key key = new Key(metaTileEntity.metaTileEntityId, renderLayer, sides, metaTileEntity.getFrontFacing(),
+                metaTileEntity.getPaintingColorForRendering(), ConfigHolder.client.machinesEmissiveTextures, state);
+
+        if (cache == null) {
+            synchronized (MetaTileEntityModelCache.class) {
+                if (cache == null) {
+                    cache = CacheBuilder.newBuilder()
+                            .maximumSize(ConfigHolder.client.machineModelCacheSize)
+                            .build();
+                }
+            }
+        }
+        try {
+            return cache.get(key, () -> Optional.ofNullable(bake(metaTileEntity, renderState, buffer))).orElse(null);
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private static Model bake(@NotNull MetaTileEntity metaTileEntity, @NotNull CCRenderState renderState,
+                              @NotNull BufferBuilder buffer) {
+        BufferBuilder bakeBuffer = BAKE_BUFFERS.get();
+        bakeBuffer.begin(GL11.GL_QUADS, DefaultVertexFormats.BLOCK);
+        Builder builder = new Builder(bakeBuffer);
+        BUILDERS.set(builder);
+        try {
+            renderState.bind(bakeBuffer);
+            metaTileEntity.renderMetaTileEntity(renderState, new Matrix4(),
+                    new IVertexOperation[] { builder.lightMarker });
+            return builder.build();
+        } finally {
+            BUILDERS.remove();
+            bakeBuffer.finishDrawing();
+            renderState.bind(buffer);
+        }
+    }
+
+    /**
+     * @return the builder capturing the faces rendered on this thread, or null if nothing is being baked
+     */
+    @Nullable
+    public static Builder getBuilder() {
+        return BUILDERS.get();
+    }
+
+    /**
+     * Drops all models, as their textures may have changed.
+     */
+    public static void invalidate() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    @Desugar
+    private record Key(@NotNull ResourceLocation metaTileEntityId, @NotNull BlockRenderLayer renderLayer, int sides,
+                       @NotNull EnumFacing frontFacing, int paintingColor, boolean emissiveTextures,
+                       @NotNull Object state) {}
+
+    /**
+     * The baked faces of a MetaTileEntity, split into consecutive parts of the same color and lighting to keep their
+     * order
+     */
+    public static final class Model {
+
+        private final CCModel[] models;
+        private final ColourMultiplier[] colours;
+        // the fixed brightness of each part, or NO_BRIGHTNESS
+        private final int[] brightness;
+        private final boolean[] lit;
+
+        private Model(CCModel[] models, ColourMultiplier[] colours, int[] brightness, boolean[] lit) {
+            this.models = models;
+            this.colours = colours;
+            this.brightness = brightness;
+            this.lit = lit;
+        }
+
+        public void render(@NotNull CCRenderState renderState, @NotNull BlockPos pos) {
+            Translation translation = new Translation(pos);
+            for (int i = 0; i < models.length; i++) {
+                List<IVertexOperation> pipeline = new ArrayList<>(4);
+                pipeline.add(translation);
+                if (lit[i]) pipeline.add(renderState.lightMatrix);
+                if (brightness[i] != NO_BRIGHTNESS) {
+                    pipeline.add(new LightMapOperation(brightness[i] & 0xFFFF, brightness[i] >>> 16));
+                }
+                pipeline.add(colours[i]);
+                renderState.setPipeline(models[i], 0, models[i].verts.length,
+                        pipeline.toArray(new IVertexOperation[0]));
+                renderState.render();
+            }
+        }
+    }
+
+    /**
+     * Reads back the faces rendered into the bake buffer.
+     */
+    public static final class Builder {
+
+        private final BufferBuilder bakeBuffer;
+        private final LightMarker lightMarker = new LightMarker();
+
+        private final List<CCModel> models = new ArrayList<>();
+        private final List<ColourMultiplier> colours = new ArrayList<>();
+        private final List<Integer> brightness = new ArrayList<>();
+        private final List<Boolean> lit = new ArrayList<>();
+        private final List<Vertex5> vertices = new ArrayList<>();
+        private int partColour;
+        private int partBrightness;
+        private boolean partLit;
+        private int readVertices;
+        private boolean failed;
+
+        private Builder(BufferBuilder bakeBuffer) {
+            this.bakeBuffer = bakeBuffer;
+        }
+
+        /**
+         * Called before a face is rendered
+         */
+        public void beginFace(@NotNull CCRenderState renderState) {
+            // anything rendered outside of faces can not be assigned a lighting
+            if (bakeBuffer.getVertexCount() != readVertices) failed = true;
+            lightMarker.used = false;
+            renderState.brightness = NO_BRIGHTNESS;
+        }
+
+        /**
+         * Called after a face is rendered
+         */
+        public void endFace() {
+            int vertexCount = bakeBuffer.getVertexCount();
+            if (failed || vertexCount == readVertices) {
+                readVertices = vertexCount;
+                return;
+            }
+
+            VertexFormat format = bakeBuffer.getVertexFormat();
+            ByteBuffer data = bakeBuffer.getByteBuffer();
+            int colourOffset = format.getColorOffset();
+            int uvOffset = format.getUvOffsetById(0);
+            int lightmapOffset = format.getUvOffsetById(1);
+
+            for (int quad = readVertices; quad + 4 <= vertexCount; quad += 4) {
+                int colour = 0;
+                int faceBrightness = 0;
+                for (int i = quad; i < quad + 4; i++) {
+                    int offset = i * format.getSize();
+                    vertices.add(new Vertex5(data.getFloat(offset), data.getFloat(offset + 4),
+                            data.getFloat(offset + 8), data.getFloat(offset + uvOffset),
+                            data.getFloat(offset + uvOffset + 4)));
+                    // stored as the bytes r, g, b, a
+                    int vertexColour = (data.get(offset + colourOffset) & 0xFF) << 24 |
+                            (data.get(offset + colourOffset + 1) & 0xFF) << 16 |
+                            (data.get(offset + colourOffset + 2) & 0xFF) << 8 |
+                            (data.get(offset + colourOffset + 3) & 0xFF);
+                    int vertexBrightness = (data.getShort(offset + lightmapOffset + 2) & 0xFFFF) << 16 |
+                            (data.getShort(offset + lightmapOffset) & 0xFFFF);
+                    if (i == quad) {
+                        colour = vertexColour;
+                        faceBrightness = vertexBrightness;
+                    } else if (colour != vertexColour || faceBrightness != vertexBrightness) {
+                        // per vertex colors or lighting can not be restored
+                        failed = true;
+                    }
+                }
+                // faces need to be lit by either the light matrix or full brightness
+                if (faceBrightness != NO_BRIGHTNESS && faceBrightness != FULL_BRIGHTNESS) failed = true;
+                if (!lightMarker.used && faceBrightness == NO_BRIGHTNESS) failed = true;
+                if (failed) break;
+
+                // the face vertices were just added, so split them off into a new part if needed
+                if (colour != partColour || faceBrightness != partBrightness || lightMarker.used != partLit) {
+                    List<Vertex5> face = new ArrayList<>(vertices.subList(vertices.size() - 4, vertices.size()));
+                    vertices.subList(vertices.size() - 4, vertices.size()).clear();
+                    flush();
+                    vertices.addAll(face);
+                    partColour = colour;
+                    partBrightness = faceBrightness;
+                    partLit = lightMarker.used;
+                }
+            }
+            readVertices = vertexCount;
+        }
+
+        private void flush() {
+            if (vertices.isEmpty()) return;
+            CCModel model = CCModel.quadModel(vertices.size());
+            for (int i = 0; i < vertices.size(); i++) {
+                model.verts[i] = vertices.get(i);
+            }
+            models.add(model.computeNormals());
+            colours.add(new ColourMultiplier(partColour));
+            brightness.add(partBrightness);
+            lit.add(partLit);
+            vertices.clear();
+        }
+
+        @Nullable
+        private Model build() {
+            if (failed || bakeBuffer.getVertexCount() != readVertices) return null;
+            flush();
+            int[] partBrightness = new int[brightness.size()];
+            boolean[] partLit = new boolean[lit.size()];
+            for (int i = 0; i < partBrightness.length; i++) {
+                partBrightness[i] = brightness.get(i);
+                partLit[i] = lit.get(i);
+            }
+            return new Model(models.toArray(new CCModel[0]), colours.toArray(new ColourMultiplier[0]),
+                    partBrightness, partLit);
+        }
+    }
+
+    /**
+     * Takes the place of the light matrix while baking, to mark the faces it would have lit
+     */
+    private static final class LightMarker implements IVertexOperation {
+
+        private static final int operationIndex = CCRenderState.registerOperation();
+
+        private boolean used;
+
+        @Override
+        public boolean load(CCRenderState renderState) {
+            return true;
+        }
+
+        @Override
+        public void operate(CCRenderState renderState) {
+            this.used = true;
+        }
+
+        @Override
+        public int operationID() {
+            return operationIndex;
+        }
+    }
+}
@@ -67,6 +67,7 @@ public class MetaTileEntityRenderer implements ICCBlockRenderer, IItemRenderer {
     public void onModelsBake(ModelBakeEvent event) {
         GTLog.logger.info("Injected MetaTileEntity render model");
         event.getModelRegistry().putObject(MODEL_LOCATION, this);
+        MetaTileEntityModelCache.invalidate();
     }
 
     @Override
@@ -108,8 +109,14 @@ public class MetaTileEntityRenderer implements ICCBlockRenderer, IItemRenderer {
         Textures.RENDER_STATE.set(new CubeRendererState(renderLayer, sideMask, world));
         if (metaTileEntity.canRenderInLayer(renderLayer)) {
             renderState.lightMatrix.locate(world, pos);
-            IVertexOperation[] pipeline = new IVertexOperation[] { renderState.lightMatrix };
-            metaTileEntity.renderMetaTileEntity(renderState, translation.copy(), pipeline);
+            MetaTileEntityModelCache.Model model = MetaTileEntityModelCache.get(metaTileEntity, renderLayer, sideMask,
+                    renderState, buffer);
+            if (model != null) {
+                model.render(renderState, pos);
+            } else {
+                IVertexOperation[] pipeline = new IVertexOperation[] { renderState.lightMatrix };
+                metaTileEntity.renderMetaTileEntity(renderState, translation.copy(), pipeline);
+            }
         }
 
         metaTileEntity.renderCovers(renderState, translation.copy(), renderLayer);
@@ -49,6 +49,12 @@ public final class OpticalPipeRenderer extends PipeRenderer {
         }
     }
 
+    @Override
+    protected int getModelState(IPipeTile<?, ?> pipeTile) {
+        return !ConfigHolder.client.preventAnimatedCables && pipeTile instanceof TileEntityOpticalPipe opticalPipe &&
+                opticalPipe.isActive() ? 1 : 0;
+    }
+
     @Override
     public TextureAtlasSprite getParticleTexture(IPipeType<?> pipeType, @Nullable Material material) {
         return Textures.OPTICAL_PIPE_SIDE;
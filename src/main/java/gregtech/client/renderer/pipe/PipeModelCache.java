@@ -0,0 +1,176 @@
+package gregtech.client.renderer.pipe;
+
+import gregtech.api.pipenet.block.IPipeType;
+import gregtech.api.unification.material.Material;
+import gregtech.common.ConfigHolder;
+
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+import codechicken.lib.colour.ColourRGBA;
+import codechicken.lib.render.BlockRenderer;
+import codechicken.lib.render.CCModel;
+import codechicken.lib.render.CCRenderState;
+import codechicken.lib.render.pipeline.ColourMultiplier;
+import codechicken.lib.render.pipeline.IVertexOperation;
+import codechicken.lib.vec.Cuboid6;
+import codechicken.lib.vec.Translation;
+import codechicken.lib.vec.Vertex5;
+import codechicken.lib.vec.uv.UVTransformation;
+import com.github.bsideup.jabel.Desugar;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Caches the baked quads of pipe bodies for chunk rendering.
+ * <p>
+ * Pipes looking the same share a model, which holds the textured and colored faces in block coordinates. Only the
+ * translation to the pipe position and the lighting are applied when rendering it. Models are kept until the
+ * resources are reloaded, up to the configured amount.
+ */
+@SideOnly(Side.CLIENT)
+public final class PipeModelCache {
+
+    private static Cache<Key, Optional<PipeModel>> cache;
+
+    private PipeModelCache() {}
+
+    /**
+     * @return the cached model, or null if the cache is disabled or the pipe can not be baked
+     */
+    @Nullable
+    static PipeModel get(@NotNull Key key, @NotNull PipeModelBaker baker) {
+        if (ConfigHolder.client.pipeModelCacheSize <= 0) return null;
+        if (cache == null) {
+            synchronized (PipeModelCache.class) {
+                if (cache == null) {
+                    cache = CacheBuilder.newBuilder()
+                            .maximumSize(ConfigHolder.client.pipeModelCacheSize)
+                            .build();
+                }
+            }
+        }
+        try {
+            return cache.get(key, () -> Optional.ofNullable(baker.bake())).orElse(null);
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Drops all models, as their textures may have changed.
+     */
+    public static void invalidate() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Everything the baked faces of a pipe depend on
+     */
+    @Desugar
+    record Key(@NotNull PipeRenderer renderer, @NotNull IPipeType<?> pipeType, @Nullable Material material,
+               int connections, int blockedConnections, int paintingColor, boolean painted, int state) {}
+
+    @FunctionalInterface
+    interface PipeModelBaker {
+
+        @Nullable
+        PipeModel bake();
+    }
+
+    /**
+     * The baked faces of a pipe, split into consecutive parts of the same color to keep their order
+     */
+    static final class PipeModel {
+
+        private final CCModel[] models;
+        private final ColourMultiplier[] colours;
+
+        private PipeModel(CCModel[] models, ColourMultiplier[] colours) {
+            this.models = models;
+            this.colours = colours;
+        }
+
+        void render(@NotNull CCRenderState renderState, @NotNull BlockPos pos) {
+            Translation translation = new Translation(pos);
+            for (int i = 0; i < models.length; i++) {
+                renderState.setPipeline(models[i], 0, models[i].verts.length, translation, renderState.lightMatrix,
+                        colours[i]);
+                renderState.render();
+            }
+        }
+    }
+
+    /**
+     * Collects the faces of a pipe instead of rendering them.
+     */
+    static final class Builder {
+
+        private final List<CCModel> models = new ArrayList<>();
+        private final List<ColourMultiplier> colours = new ArrayList<>();
+        private final List<Vertex5> vertices = new ArrayList<>();
+        private int colour = -1;
+        private boolean failed;
+
+        void addFace(@NotNull BlockRenderer.BlockFace blockFace, @NotNull IVertexOperation[] pipeline,
+                     @NotNull EnumFacing side, @NotNull Cuboid6 cuboid) {
+            if (failed) return;
+            blockFace.loadCuboidFace(cuboid, side.getIndex());
+            Vertex5[] faceVertices = new Vertex5[blockFace.verts.length];
+            for (int i = 0; i < faceVertices.length; i++) {
+                faceVertices[i] = blockFace.verts[i].copy();
+            }
+
+            int faceColour = -1;
+            for (IVertexOperation operation : pipeline) {
+                if (operation instanceof UVTransformation transformation) {
+                    for (Vertex5 vertex : faceVertices) {
+                        transformation.apply(vertex.uv);
+                    }
+                } else if (operation instanceof ColourMultiplier multiplier) {
+                    faceColour = ColourRGBA.multiply(faceColour, multiplier.colour);
+                } else {
+                    // operations depending on the position can not be baked
+                    failed = true;
+                    return;
+                }
+            }
+
+            if (faceColour != colour) {
+                flush();
+                colour = faceColour;
+            }
+            Collections.addAll(vertices, faceVertices);
+        }
+
+        private void flush() {
+            if (vertices.isEmpty()) return;
+            CCModel model = CCModel.quadModel(vertices.size());
+            for (int i = 0; i < vertices.size(); i++) {
+                model.verts[i] = vertices.get(i);
+            }
+            models.add(model.computeNormals());
+            colours.add(new ColourMultiplier(colour));
+            vertices.clear();
+        }
+
+        @Nullable
+        PipeModel build() {
+            if (failed) return null;
+            flush();
+            return new PipeModel(models.toArray(new CCModel[0]), colours.toArray(new ColourMultiplier[0]));
+        }
+    }
+}
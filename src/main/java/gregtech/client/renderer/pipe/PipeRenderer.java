@@ -78,6 +78,8 @@ public abstract class PipeRenderer implements ICCBlockRenderer, IItemRenderer {
     private static final EnumMap<EnumFacing, EnumMap<Border, EnumFacing>> FACE_BORDER_MAP = new EnumMap<>(
             EnumFacing.class);
     private static final Int2ObjectMap<IVertexOperation[]> RESTRICTOR_MAP = new Int2ObjectOpenHashMap<>();
+    // collects the rendered faces while baking a pipe model
+    private static final ThreadLocal<PipeModelCache.Builder> BAKING = new ThreadLocal<>();
 
     @SuppressWarnings("unused")
     public static void initializeRestrictor(TextureMap map) {
@@ -141,6 +143,7 @@ public abstract class PipeRenderer implements ICCBlockRenderer, IItemRenderer {
     @SubscribeEvent
     public void onModelsBake(ModelBakeEvent event) {
         event.getModelRegistry().putObject(modelLocation, this);
+        PipeModelCache.invalidate();
     }
 
     public abstract void buildRenderer(PipeRenderContext renderContext, BlockPipe<?, ?, ?> blockPipe,
@@ -195,33 +198,86 @@ public abstract class PipeRenderer implements ICCBlockRenderer, IItemRenderer {
 
         if (pipeType != null) {
             BlockRenderLayer renderLayer = MinecraftForgeClient.getRenderLayer();
-            boolean[] sideMask = new boolean[EnumFacing.VALUES.length];
-            for (EnumFacing side : EnumFacing.VALUES) {
-                sideMask[side.getIndex()] = state.shouldSideBeRendered(world, pos, side);
-            }
-            Textures.RENDER_STATE.set(new CubeRendererState(renderLayer, sideMask, world));
             if (canRenderInLayer(renderLayer)) {
                 renderState.lightMatrix.locate(world, pos);
-                PipeRenderContext renderContext = new PipeRenderContext(pos, renderState.lightMatrix, connectedSidesMap,
-                        blockedConnections, pipeType.getThickness());
-                renderContext.color = GTUtility.convertRGBtoOpaqueRGBA_CL(getPipeColor(pipeMaterial, paintingColor));
-                buildRenderer(renderContext, blockPipe, pipeTile, pipeType, pipeMaterial);
+                PipeModelCache.PipeModel model = null;
                 if (renderLayer == BlockRenderLayer.CUTOUT) {
-                    renderPipeBlock(renderState, renderContext);
-                    renderFrame(pipeTile, pos, renderState, connectedSidesMap);
+                    PipeModelCache.Key key = new PipeModelCache.Key(this, pipeType, pipeMaterial, connectedSidesMap,
+                            blockedConnections, paintingColor, pipeTile.isPainted(), getModelState(pipeTile));
+                    model = PipeModelCache.get(key, () -> bakePipeModel(blockPipe, pipeTile, pipeType, pipeMaterial,
+                            connectedSidesMap, blockedConnections, paintingColor));
+                }
+
+                if (model != null) {
+                    model.render(renderState, pos);
                 } else {
-                    renderOtherLayers(renderLayer, renderState, renderContext);
+                    PipeRenderContext renderContext = new PipeRenderContext(pos, renderState.lightMatrix,
+                            connectedSidesMap, blockedConnections, pipeType.getThickness());
+                    renderContext.color = GTUtility
+                            .convertRGBtoOpaqueRGBA_CL(getPipeColor(pipeMaterial, paintingColor));
+                    buildRenderer(renderContext, blockPipe, pipeTile, pipeType, pipeMaterial);
+                    if (renderLayer == BlockRenderLayer.CUTOUT) {
+                        renderPipeBlock(renderState, renderContext);
+                    } else {
+                        renderOtherLayers(renderLayer, renderState, renderContext);
+                    }
+                }
+                if (renderLayer == BlockRenderLayer.CUTOUT) {
+                    renderFrame(pipeTile, pos, renderState, connectedSidesMap);
                 }
             }
 
             CoverHolder coverHolder = pipeTile.getCoverableImplementation();
-            coverHolder.renderCovers(renderState, new Matrix4().translate(pos.getX(), pos.getY(), pos.getZ()),
-                    renderLayer);
-            Textures.RENDER_STATE.remove();
+            if (coverHolder.hasAnyCover()) {
+                // only covers use the cube renderer state
+                boolean[] sideMask = new boolean[EnumFacing.VALUES.length];
+                for (EnumFacing side : EnumFacing.VALUES) {
+                    sideMask[side.getIndex()] = state.shouldSideBeRendered(world, pos, side);
+                }
+                Textures.RENDER_STATE.set(new CubeRendererState(renderLayer, sideMask, world));
+                coverHolder.renderCovers(renderState, new Matrix4().translate(pos.getX(), pos.getY(), pos.getZ()),
+                        renderLayer);
+                Textures.RENDER_STATE.remove();
+            }
         }
         return true;
     }
 
+    /**
+     * Renders the body of a pipe without position and lighting into a model.
+     *
+     * @return the model, or null if the renderer uses operations which can not be baked
+     */
+    @Nullable
+    private PipeModelCache.PipeModel bakePipeModel(BlockPipe<?, ?, ?> blockPipe, IPipeTile<?, ?> pipeTile,
+                                                   IPipeType<?> pipeType, @Nullable Material pipeMaterial,
+                                                   int connections, int blockedConnections, int paintingColor) {
+        PipeRenderContext renderContext = new PipeRenderContext(connections, blockedConnections,
+                pipeType.getThickness());
+        renderContext.color = GTUtility.convertRGBtoOpaqueRGBA_CL(getPipeColor(pipeMaterial, paintingColor));
+        buildRenderer(renderContext, blockPipe, pipeTile, pipeType, pipeMaterial);
+
+        PipeModelCache.Builder builder = new PipeModelCache.Builder();
+        BAKING.set(builder);
+        try {
+            renderPipeBlock(CCRenderState.instance(), renderContext);
+        } finally {
+            BAKING.remove();
+        }
+        return builder.build();
+    }
+
+    /**
+     * Override if {@link #buildRenderer} depends on pipe tile state besides its type, material, connections and
+     * painting, so that pipes in different states do not share a cached model.
+     *
+     * @param pipeTile the pipe to render
+     * @return a value identifying the render state of the pipe
+     */
+    protected int getModelState(IPipeTile<?, ?> pipeTile) {
+        return 0;
+    }
+
     private static void renderFrame(IPipeTile<?, ?> pipeTile, BlockPos pos, CCRenderState renderState,
                                     int connections) {
         Material frameMaterial = pipeTile.getFrameMaterial();
@@ -343,6 +399,11 @@ public abstract class PipeRenderer implements ICCBlockRenderer, IItemRenderer {
     protected void renderFace(CCRenderState renderState, IVertexOperation[] pipeline, EnumFacing side,
                               Cuboid6 cuboid6) {
         BlockRenderer.BlockFace blockFace = blockFaces.get();
+        PipeModelCache.Builder builder = BAKING.get();
+        if (builder != null) {
+            builder.addFace(blockFace, pipeline, side, cuboid6);
+            return;
+        }
         blockFace.loadCuboidFace(cuboid6, side.getIndex());
         renderState.setPipeline(blockFace, 0, blockFace.verts.length, pipeline);
         renderState.render();
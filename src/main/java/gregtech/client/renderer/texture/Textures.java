@@ -7,6 +7,7 @@ import gregtech.api.util.GTLog;
 import gregtech.client.renderer.CubeRendererState;
 import gregtech.client.renderer.ICubeRenderer;
 import gregtech.client.renderer.cclop.UVMirror;
+import gregtech.client.renderer.handler.MetaTileEntityModelCache;
 import gregtech.client.renderer.texture.cube.AlignedOrientedOverlayRenderer;
 import gregtech.client.renderer.texture.cube.LDPipeOverlayRenderer;
 import gregtech.client.renderer.texture.cube.OrientedOverlayRenderer;
@@ -727,9 +728,12 @@ public class Textures {
         if (face.getIndex() == 0) {
             uvList.prepend(new UVMirror(0, 0, bounds.min.z, bounds.max.z));
         }
+        MetaTileEntityModelCache.Builder builder = MetaTileEntityModelCache.getBuilder();
+        if (builder != null) builder.beginFace(renderState);
         renderState.setPipeline(blockFace, 0, blockFace.verts.length,
                 ArrayUtils.addAll(ops, new TransformationList(translation), uvList));
         renderState.render();
+        if (builder != null) builder.endFace();
     }
 
     // TODO Could maybe be cleaned up?
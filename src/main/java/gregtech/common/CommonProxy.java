@@ -9,6 +9,8 @@ import gregtech.api.items.toolitem.IGTTool;
 import gregtech.api.metatileentity.registry.MTERegistry;
 import gregtech.api.recipes.GTRecipeInputCache;
 import gregtech.api.recipes.ModHandler;
+import gregtech.api.recipes.RecipeLookupHints;
+import gregtech.api.recipes.RecipeMap;
 import gregtech.api.recipes.ingredients.GTRecipeOreInput;
 import gregtech.api.recipes.properties.impl.FusionEUToStartProperty;
 import gregtech.api.unification.material.Material;
@@ -338,6 +340,8 @@ public class CommonProxy {
 
         GTLog.logger.info("Registering recipes...");
 
+        RecipeMap.startStagingRecipes();
+        RecipeLookupHints.apply();
         GTRecipeManager.load();
     }
 
@@ -409,6 +413,8 @@ public class CommonProxy {
     }
 
     public void onPostLoad() {
+        RecipeMap.buildStagedRecipes();
+        RecipeLookupHints.store();
         if (ConfigHolder.compat.removeSmeltingForEBFMetals) {
             ModHandler.removeSmeltingEBFMetals();
         }
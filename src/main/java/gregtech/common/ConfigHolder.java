@@ -160,6 +160,34 @@ public class ConfigHolder {
                 "This does NOT apply to the World Accelerator, but to external effects like Time in a Bottle.",
                 "Default: true" })
         public boolean allowTickAcceleration = true;
+
+        @Config.Comment({ "Whether formed multiblocks should only recheck their structure when a block in it changes.",
+                "When disabled, formed multiblocks recheck their structure every second.",
+                "Default: true" })
+        public boolean eventDrivenStructureChecks = true;
+
+        @Config.Comment({ "The interval in ticks at which formed multiblocks recheck their structure anyway,",
+                "when event driven structure checks are enabled.",
+                "Catches block changes which bypass the usual notifications.", "Default: 600 (30 seconds)" })
+        @Config.RangeInt(min = 20)
+        public int structureFallbackCheckInterval = 600;
+
+        @Config.Comment({ "Whether fluid pipes should be solved once per pipe network, instead of every pipe",
+                "distributing its own fluid to its neighbours.",
+                "Fluid can travel through several pipes per update, and networks without fluid are not updated.",
+                "Default: false" })
+        public boolean fluidPipeNetSolver = false;
+
+        @Config.Comment({ "The maximum amount of outdated cable and item pipe routes rebuilt per pipe network per tick.",
+                "Outdated routes are still used until they are rebuilt.", "Default: 4" })
+        @Config.RangeInt(min = 1)
+        public int routeRebuildsPerTick = 4;
+
+        @Config.Comment({ "The maximum amount of ticks idle machines stop ticking for, before checking their recipes again.",
+                "Machines wake up earlier when their inventories, redstone input, energy or covers change.",
+                "Set to 0 to keep idle machines ticking.", "Default: 100" })
+        @Config.RangeInt(min = 0)
+        public int idleMachineSleepTicks = 100;
     }
 
     public static class WorldGenOptions {
@@ -173,6 +201,23 @@ public class ConfigHolder {
         @Config.Comment({ "Whether veins should be generated in the center of chunks.", "Default: true" })
         public boolean generateVeinsInCenterOfChunk = true;
 
+        @Config.Comment({ "Whether the vein layouts of several new 3x3 chunk sections should be computed in parallel.",
+                "Does not change the generated veins.", "Default: false" })
+        public boolean asyncVeinLayout = false;
+
+        @Config.Comment({ "The amount of threads computing vein layouts in parallel, when enabled.",
+                "Set to 0 to use one less than the amount of available processors.", "Default: 0" })
+        @Config.RangeInt(min = 0)
+        @Config.RequiresMcRestart
+        public int veinLayoutThreads = 0;
+
+        @Config.Comment({ "The amount of 3x3 chunk sections to keep vein layouts for per dimension.",
+                "Evicted sections are computed again when a chunk next to them generates.",
+                "When pregenerating, use at least 8 times the pregeneration radius in chunks.", "Default: 300" })
+        @Config.RangeInt(min = 9)
+        @Config.RequiresWorldRestart
+        public int gridEntryCacheSize = 300;
+
         @Config.Comment({ "Whether to disable Vanilla ore generation in world.", "Default: true" })
         public boolean disableVanillaOres = true;
 
@@ -278,6 +323,36 @@ public class ConfigHolder {
                 "Whether to nerf the output amounts of the first circuit in a set to 1 (from 2) and SoC to 2 (from 4).",
                 "Default: false" })
         public boolean harderCircuitRecipes = false;
+
+        @Config.Comment({ "Whether to search for recipes using a compiled, array-based form of the recipe lookup tree.",
+                "This avoids allocating during searches, at the cost of some memory per RecipeMap.",
+                "Default: false" })
+        public boolean compiledRecipeLookup = false;
+
+        @Config.Comment({ "The amount of failed recipe searches each RecipeMap remembers, keyed by the types of inputs.",
+                "Lets machines skip searches for inputs no recipe can use, whatever their amounts.",
+                "Set to 0 to disable.", "Default: 0" })
+        @Config.RangeInt(min = 0, max = 65536)
+        @Config.RequiresMcRestart
+        public int recipeSearchCacheSize = 0;
+
+        @Config.Comment({ "Whether identical recipe searches of a RecipeMap within the same tick share one search.",
+                "Helps when many identical machines are fed the same inputs. Each machine still checks the result.",
+                "Default: false" })
+        public boolean coalesceRecipeSearches = false;
+
+        @Config.Comment({ "Whether to build the recipe lookup trees of all RecipeMaps in parallel during startup.",
+                "Recipes registered while loading are staged, and added to their trees at the end of loading.",
+                "Default: false" })
+        @Config.RequiresMcRestart
+        public boolean parallelRecipeLookupBuild = false;
+
+        @Config.Comment({ "Whether to remember the size of each RecipeMap's recipe lookup tree across restarts.",
+                "The trees are then presized during startup, as long as mods, configs and scripts did not change.",
+                "Also logs the time recipe registration takes with and without these hints.",
+                "Default: false" })
+        @Config.RequiresMcRestart
+        public boolean persistRecipeLookupHints = false;
     }
 
     public static class CompatibilityOptions {
@@ -366,6 +441,15 @@ public class ConfigHolder {
 
         @Config.Comment({ "Whether to give the terminal to new players on login", "Default: true" })
         public boolean spawnTerminal = true;
+
+        @Config.Comment({ "Whether to send machine and pipe updates to clients in one packet per chunk per tick,",
+                "instead of one vanilla tile entity update packet per block.", "Default: true" })
+        public boolean batchCustomDataSync = true;
+
+        @Config.Comment({ "The interval in ticks at which the text of open GUIs, such as multiblock displays,",
+                "is checked for changes and sent to players.", "Default: 1" })
+        @Config.RangeInt(min = 1, max = 100)
+        public int displayTextSyncInterval = 1;
     }
 
     public static class ClientOptions {
@@ -459,6 +543,20 @@ public class ConfigHolder {
                 "Default: true" })
         public boolean enableFancyChestRender = true;
 
+        @Config.Comment({ "The amount of baked pipe and cable models to keep for chunk rendering.",
+                "Pipes with the same type, material, connections and color share a model.",
+                "0 disables the cache.", "Default: 4096" })
+        @Config.RangeInt(min = 0)
+        @Config.RequiresMcRestart
+        public int pipeModelCacheSize = 4096;
+
+        @Config.Comment({ "The amount of baked machine models to keep for chunk rendering.",
+                "Machines of the same type, facing, color and state share a model.",
+                "0 disables the cache.", "Default: 2048" })
+        @Config.RangeInt(min = 0)
+        @Config.RequiresMcRestart
+        public int machineModelCacheSize = 2048;
+
         public static class GuiConfig {
 
             @Config.Comment({ "The scrolling speed of widgets", "Default: 13" })
@@ -692,6 +790,16 @@ public class ConfigHolder {
         @Config.RangeInt(min = 1, max = 100)
         @Config.SlidingOption
         public int magnetDelay = 10;
+
+        @Config.Comment({ "The amount of logs searched per tick when felling a tree.",
+                "Large trees are searched over multiple ticks while already being felled.", "Default: 256" })
+        @Config.RangeInt(min = 1)
+        public int treeFellingSearchBudget = 256;
+
+        @Config.Comment({ "The maximum amount of logs broken by felling a single tree.", "0 removes the limit.",
+                "Default: 0" })
+        @Config.RangeInt(min = 0)
+        public int treeFellingMaxBlocks = 0;
     }
 
     public static class ArmorHud {
@@ -0,0 +1,62 @@
+package gregtech.common.command;
+
+import gregtech.api.pipenet.RoutePathCache;
+import gregtech.common.pipelike.itempipe.net.ItemPipeNet;
+import gregtech.common.pipelike.itempipe.net.WorldItemPipeNet;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.world.WorldServer;
+
+import org.jetbrains.annotations.NotNull;
+
+public class CommandPipeStats extends CommandBase {
+
+    @NotNull
+    @Override
+    public String getName() {
+        return "pipestats";
+    }
+
+    @NotNull
+    @Override
+    public String getUsage(@NotNull ICommandSender sender) {
+        return "gregtech.command.pipestats.usage";
+    }
+
+    @Override
+    public void execute(@NotNull MinecraftServer server, @NotNull ICommandSender sender, String @NotNull [] args) {
+        if (args.length > 0 && "reset".equals(args[0])) {
+            RoutePathCache.resetStatistics();
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.pipestats.reset"));
+            return;
+        }
+
+        long rebuilds = RoutePathCache.getTotalRebuilds();
+        long ticks = RoutePathCache.getRebuildTicks();
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.pipestats.routes", rebuilds, ticks,
+                String.format("%.1f", ticks == 0 ? 0.0 : (double) rebuilds / ticks),
+                RoutePathCache.getPeakRebuildsPerTick()));
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.pipestats.latency",
+                String.format("%.3f", rebuilds == 0 ? 0.0 : RoutePathCache.getTotalRebuildNanos() / 1e6 / rebuilds),
+                String.format("%.3f", RoutePathCache.getMaxRebuildNanos() / 1e6)));
+
+        int nets = 0;
+        int sources = 0;
+        int routes = 0;
+        int maxRoutes = 0;
+        for (WorldServer world : server.worlds) {
+            for (ItemPipeNet net : WorldItemPipeNet.getWorldPipeNet(world).getPipeNets()) {
+                int netRoutes = net.getRouteCache().getRouteCount();
+                nets++;
+                sources += net.getRouteCache().getSourceCount();
+                routes += netRoutes;
+                maxRoutes = Math.max(maxRoutes, netRoutes);
+            }
+        }
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.pipestats.item_routes", nets, sources,
+                routes, String.format("%.1f", nets == 0 ? 0.0 : (double) routes / nets), maxRoutes));
+    }
+}
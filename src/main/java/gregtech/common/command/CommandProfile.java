@@ -0,0 +1,142 @@
+package gregtech.common.command;
+
+import gregtech.api.util.FileUtility;
+import gregtech.api.util.GTLog;
+import gregtech.api.util.TickProfiler;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentTranslation;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+public class CommandProfile extends CommandBase {
+
+    private static final int DEFAULT_ENTRIES = 10;
+
+    @NotNull
+    @Override
+    public String getName() {
+        return "profile";
+    }
+
+    @NotNull
+    @Override
+    public String getUsage(@NotNull ICommandSender sender) {
+        return "gregtech.command.profile.usage";
+    }
+
+    @Override
+    public void execute(@NotNull MinecraftServer server, @NotNull ICommandSender sender,
+                        String @NotNull [] args) throws CommandException {
+        if (args.length == 0) throw new WrongUsageException(getUsage(sender));
+        switch (args[0]) {
+            case "start" -> {
+                TickProfiler.startSampling();
+                sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.started"));
+            }
+            case "stop" -> {
+                if (!TickProfiler.isEnabled()) {
+                    throw new CommandException("gregtech.command.profile.not_running");
+                }
+                int entries = args.length > 1 ? parseInt(args[1], 1) : DEFAULT_ENTRIES;
+                TickProfiler.Report report = TickProfiler.stopSampling();
+                sendReport(sender, report, entries);
+                writeReport(server, sender, report);
+            }
+            default -> throw new WrongUsageException(getUsage(sender));
+        }
+    }
+
+    private static void sendReport(@NotNull ICommandSender sender, @NotNull TickProfiler.Report report,
+                                   int entries) {
+        long ticks = report.getTicks();
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.header", ticks,
+                String.format("%.1f", report.getWallNanos() / 1e9)));
+        List<TickProfiler.Sample> samples = report.getSamples();
+        for (int i = 0; i < Math.min(entries, samples.size()); i++) {
+            TickProfiler.Sample sample = samples.get(i);
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.entry",
+                    sample.getCategory().getName(), sample.getKey(), sample.getDimension(),
+                    String.format("%.3f", sample.getNanos() / 1e6 / ticks),
+                    String.format("%.1f", (double) sample.getCalls() / ticks)));
+        }
+    }
+
+    private static void writeReport(@NotNull MinecraftServer server, @NotNull ICommandSender sender,
+                                    @NotNull TickProfiler.Report report) {
+        String name = "tick-profile-" + new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date());
+        File directory = server.getFile("gregtech/profiles");
+        File json = new File(directory, name + ".json");
+        if (!FileUtility.saveJson(json, toJson(report))) return;
+
+        File csv = new File(directory, name + ".csv");
+        try {
+            Files.write(csv.toPath(), toCsv(report), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            GTLog.logger.error("Failed to save tick profile to {}", csv, e);
+            return;
+        }
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.saved", csv.getPath(),
+                json.getPath()));
+    }
+
+    @NotNull
+    private static JsonObject toJson(@NotNull TickProfiler.Report report) {
+        JsonObject object = new JsonObject();
+        object.addProperty("ticks", report.getTicks());
+        object.addProperty("wallNanos", report.getWallNanos());
+        JsonArray samples = new JsonArray();
+        for (TickProfiler.Sample sample : report.getSamples()) {
+            JsonObject entry = new JsonObject();
+            entry.addProperty("category", sample.getCategory().getName());
+            entry.addProperty("key", sample.getKey());
+            entry.addProperty("dimension", sample.getDimension());
+            entry.addProperty("nanos", sample.getNanos());
+            entry.addProperty("calls", sample.getCalls());
+            samples.add(entry);
+        }
+        object.add("samples", samples);
+        return object;
+    }
+
+    @NotNull
+    private static List<String> toCsv(@NotNull TickProfiler.Report report) {
+        List<String> lines = new ArrayList<>(report.getSamples().size() + 1);
+        lines.add("category,key,dimension,nanos,calls,nanos_per_tick,nanos_per_call");
+        for (TickProfiler.Sample sample : report.getSamples()) {
+            lines.add(String.join(",", sample.getCategory().getName(), sample.getKey(),
+                    String.valueOf(sample.getDimension()), String.valueOf(sample.getNanos()),
+                    String.valueOf(sample.getCalls()), String.valueOf(sample.getNanos() / report.getTicks()),
+                    String.valueOf(sample.getNanos() / Math.max(1, sample.getCalls()))));
+        }
+        return lines;
+    }
+
+    @NotNull
+    @Override
+    public List<String> getTabCompletions(@NotNull MinecraftServer server, @NotNull ICommandSender sender,
+                                          String @NotNull [] args, @Nullable BlockPos targetPos) {
+        if (args.length == 1) {
+            return getListOfStringsMatchingLastWord(args, "start", "stop");
+        }
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,70 @@
+package gregtech.common.command;
+
+import gregtech.api.recipes.RecipeMap;
+import gregtech.api.recipes.map.RecipeSearchCache;
+import gregtech.api.recipes.map.RecipeSearchCoalescer;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentTranslation;
+
+import org.jetbrains.annotations.NotNull;
+
+public class CommandRecipeStats extends CommandBase {
+
+    @NotNull
+    @Override
+    public String getName() {
+        return "recipestats";
+    }
+
+    @NotNull
+    @Override
+    public String getUsage(@NotNull ICommandSender sender) {
+        return "gregtech.command.recipestats.usage";
+    }
+
+    @Override
+    public void execute(@NotNull MinecraftServer server, @NotNull ICommandSender sender, String @NotNull [] args) {
+        boolean reset = args.length > 0 && "reset".equals(args[0]);
+        boolean empty = true;
+        for (RecipeMap<?> recipeMap : RecipeMap.getRecipeMaps()) {
+            RecipeSearchCache cache = recipeMap.getSearchCache();
+            RecipeSearchCoalescer coalescer = recipeMap.getSearchCoalescer();
+            if (reset) {
+                if (cache != null) cache.resetStatistics();
+                if (coalescer != null) coalescer.resetStatistics();
+                continue;
+            }
+
+            if (cache != null) {
+                long hits = cache.getHits();
+                long misses = cache.getMisses();
+                if (hits + misses != 0) {
+                    empty = false;
+                    sender.sendMessage(new TextComponentTranslation("gregtech.command.recipestats.cache",
+                            recipeMap.unlocalizedName, hits, misses,
+                            String.format("%.1f", 100.0 * hits / (hits + misses)), cache.size()));
+                }
+            }
+
+            if (coalescer != null) {
+                long searches = coalescer.getSearches();
+                long shared = coalescer.getShared();
+                if (searches + shared != 0) {
+                    empty = false;
+                    sender.sendMessage(new TextComponentTranslation("gregtech.command.recipestats.coalesce",
+                            recipeMap.unlocalizedName, searches + shared, searches,
+                            String.format("%.1f", 100.0 * shared / (searches + shared))));
+                }
+            }
+        }
+
+        if (reset) {
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.recipestats.reset"));
+        } else if (empty) {
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.recipestats.empty"));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package gregtech.common.command;
+
+import gregtech.core.network.CustomDataBatcher;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentTranslation;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class CommandSyncStats extends CommandBase {
+
+    private static final int MAX_ENTRIES = 10;
+
+    @NotNull
+    @Override
+    public String getName() {
+        return "syncstats";
+    }
+
+    @NotNull
+    @Override
+    public String getUsage(@NotNull ICommandSender sender) {
+        return "gregtech.command.syncstats.usage";
+    }
+
+    @Override
+    public void execute(@NotNull MinecraftServer server, @NotNull ICommandSender sender, String @NotNull [] args) {
+        if (args.length > 0 && "reset".equals(args[0])) {
+            CustomDataBatcher.resetStatistics();
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.syncstats.reset"));
+            return;
+        }
+
+        List<Object2LongMap.Entry<Class<?>>> entries = new ArrayList<>(
+                CustomDataBatcher.getBytesByClass().object2LongEntrySet());
+        if (entries.isEmpty()) {
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.syncstats.empty"));
+            return;
+        }
+        entries.sort(Comparator.comparingLong(Object2LongMap.Entry<Class<?>>::getLongValue).reversed());
+
+        long ticks = CustomDataBatcher.getStatisticsTicks();
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.syncstats.header", ticks));
+        for (int i = 0; i < Math.min(MAX_ENTRIES, entries.size()); i++) {
+            Object2LongMap.Entry<Class<?>> entry = entries.get(i);
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.syncstats.entry",
+                    entry.getKey().getSimpleName(), String.format("%.1f", (double) entry.getLongValue() / ticks)));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package gregtech.common.command.worldgen;
+
+import gregtech.api.worldgen.generator.CachedGridEntry;
+import gregtech.api.worldgen.generator.WorldGeneratorImpl;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentTranslation;
+
+import org.jetbrains.annotations.NotNull;
+
+public class CommandWorldgenStats extends CommandBase {
+
+    @NotNull
+    @Override
+    public String getName() {
+        return "stats";
+    }
+
+    @NotNull
+    @Override
+    public String getUsage(@NotNull ICommandSender sender) {
+        return "gregtech.command.worldgen.stats.usage";
+    }
+
+    @Override
+    public void execute(@NotNull MinecraftServer server, @NotNull ICommandSender sender, String @NotNull [] args) {
+        if (args.length > 0 && "reset".equals(args[0])) {
+            WorldGeneratorImpl.resetStatistics();
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.stats.reset"));
+            return;
+        }
+
+        long chunks = WorldGeneratorImpl.getPopulatedChunks();
+        double seconds = WorldGeneratorImpl.getPopulateNanos() / 1e9;
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.stats.chunks", chunks,
+                String.format("%.3f", chunks == 0 ? 0 : seconds * 1000 / chunks),
+                String.format("%.1f", seconds == 0 ? 0 : chunks / seconds)));
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.worldgen.stats.entries",
+                CachedGridEntry.getCreatedEntries()));
+    }
+}
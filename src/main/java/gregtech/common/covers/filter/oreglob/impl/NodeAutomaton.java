@@ -0,0 +1,479 @@
+package gregtech.common.covers.filter.oreglob.impl;
+
+import gregtech.common.covers.filter.oreglob.node.BranchType;
+import gregtech.common.covers.filter.oreglob.node.NodeVisitor;
+import gregtech.common.covers.filter.oreglob.node.OreGlobNode;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenCustomHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compiled, single pass evaluator for oreGlob, producing the same results as {@link NodeInterpreter}.
+ * <p>
+ * Whether an index of the input is an output state of a node only depends on the input states and characters
+ * before it. Each node is therefore compiled into a stage, which is advanced once per character and reports
+ * whether the current index is one of its output states, given whether it is one of its input states.
+ * <p>
+ * Stages keep their state as bits in an array shared by the whole expression. String matches use the shift-and
+ * algorithm: bit {@code n} is set if the {@code n} characters before the current index match the start of the
+ * string, and the index before them was an input state. Negation only needs to know whether any input state was
+ * seen yet, as the interpreter complements the output states from the first input state on.
+ * <p>
+ * As the bits are all there is to the state of the expression, they are determinized into a DFA while matching.
+ * Transitions for characters below {@value #TABLE_CHARS} are kept in a table, which is read without locking; an
+ * entry is only ever written once, so a stale read just takes the locked path. Past {@value #MAX_STATES} states,
+ * the stages are advanced directly instead.
+ * <p>
+ * Like the interpreter, this assumes all characters can be expressed without surrogate pairs.
+ * <p>
+ * Some negations of the interpreter depend on more than the input states, see {@link #canCompile(OreGlobNode)}.
+ * Expressions containing them have to be interpreted instead.
+ */
+final class NodeAutomaton {
+
+    private static final int TABLE_CHARS = 128;
+    private static final int MAX_STATES = 1024;
+
+    private final Stage root;
+    private final int stateSize;
+
+    private final Object2IntMap<long[]> stateIds = new Object2IntOpenCustomHashMap<>(LongArrays.HASH_STRATEGY);
+    private final List<long[]> states = new ArrayList<>();
+    // transitions by state and character; 0 if not computed yet, otherwise (target << 1 | accepting) + 1
+    private int[][] transitions = new int[16][];
+    private int deadState = -1;
+
+    private final int initialState;
+    private final boolean initialAccepting;
+
+    NodeAutomaton(OreGlobNode root) {
+        Compiler compiler = new Compiler();
+        this.root = compiler.compileChain(root);
+        this.stateSize = compiler.stateSize;
+
+        this.stateIds.defaultReturnValue(-1);
+        long[] state = new long[this.stateSize];
+        this.initialAccepting = this.root.advance(state, -1, true);
+        this.initialState = intern(state);
+    }
+
+    /**
+     * Checks whether an expression only uses nodes whose results the automaton reproduces. These are not:
+     * <ul>
+     * <li>Negated groups of more than one node, which the interpreter complements from the input states of the last
+     * node evaluated, rather than from those of the group.</li>
+     * <li>Negated char counts, which may produce states past the end of the input. These count towards the
+     * short circuits of negations and OR branches.</li>
+     * </ul>
+     *
+     * @param root the root node of the expression
+     * @return whether the expression can be compiled into an automaton
+     */
+    static boolean canCompile(OreGlobNode root) {
+        SupportCheck check = new SupportCheck();
+        check.visitChain(root);
+        return check.supported;
+    }
+
+    boolean matches(String input) {
+        int state = this.initialState;
+        boolean accept = this.initialAccepting;
+        for (int i = 0; i < input.length(); i++) {
+            if (state == this.deadState) return false;
+            char c = input.charAt(i);
+            int transition = 0;
+            int[][] transitions = this.transitions;
+            if (c < TABLE_CHARS && state < transitions.length) {
+                int[] row = transitions[state];
+                if (row != null) transition = row[c];
+            }
+            if (transition == 0) {
+                transition = computeTransition(state, c);
+                if (transition == 0) {
+                    return simulate(state, input, i);
+                }
+            }
+            state = (transition - 1) >> 1;
+            accept = ((transition - 1) & 1) != 0;
+        }
+        return accept;
+    }
+
+    /**
+     * @return the transition, or 0 if the state limit is reached
+     */
+    private synchronized int computeTransition(int state, char c) {
+        if (c < TABLE_CHARS && this.transitions[state] != null && this.transitions[state][c] != 0) {
+            return this.transitions[state][c];
+        }
+        long[] next = this.states.get(state).clone();
+        boolean accept = this.root.advance(next, c, false);
+        int target = intern(next);
+        if (target < 0) return 0;
+
+        int transition = (target << 1 | (accept ? 1 : 0)) + 1;
+        if (c < TABLE_CHARS) {
+            if (this.transitions[state] == null) this.transitions[state] = new int[TABLE_CHARS];
+            this.transitions[state][c] = transition;
+        }
+        return transition;
+    }
+
+    /**
+     * @return the id of the state, or -1 if the state limit is reached
+     */
+    private int intern(long[] state) {
+        int id = this.stateIds.getInt(state);
+        if (id >= 0 || this.states.size() >= MAX_STATES) return id;
+
+        id = this.states.size();
+        this.states.add(state);
+        this.stateIds.put(state, id);
+        if (id >= this.transitions.length) {
+            this.transitions = Arrays.copyOf(this.transitions, this.transitions.length * 2);
+        }
+        if (isZero(state)) {
+            // nothing is left to match against, so the input can't match anymore
+            this.deadState = id;
+        }
+        return id;
+    }
+
+    private boolean simulate(int state, String input, int start) {
+        long[] bits;
+        synchronized (this) {
+            bits = this.states.get(state).clone();
+        }
+        boolean accept = false;
+        for (int i = start; i < input.length(); i++) {
+            accept = this.root.advance(bits, input.charAt(i), false);
+        }
+        return accept;
+    }
+
+    private static boolean isZero(long[] state) {
+        for (long word : state) {
+            if (word != 0) return false;
+        }
+        return true;
+    }
+
+    private static final class SupportCheck implements NodeVisitor.Base {
+
+        private boolean supported = true;
+
+        private void visitChain(OreGlobNode node) {
+            for (; node != null && this.supported; node = node.getNext()) {
+                node.visit(this);
+            }
+        }
+
+        @Override
+        public void chars(int amount, boolean not) {
+            if (not) this.supported = false;
+        }
+
+        @Override
+        public void charsOrMore(int amount, boolean not) {
+            if (not) this.supported = false;
+        }
+
+        @Override
+        public void group(OreGlobNode node, boolean not) {
+            if (not && node.hasNext()) this.supported = false;
+            visitChain(node);
+        }
+
+        @Override
+        public void branch(BranchType type, List<OreGlobNode> nodes, boolean not) {
+            for (OreGlobNode node : nodes) {
+                visitChain(node);
+            }
+        }
+    }
+
+    private static final class Compiler implements NodeVisitor {
+
+        private int stateSize;
+        private Stage result;
+
+        private Stage compileChain(OreGlobNode node) {
+            List<Stage> stages = new ArrayList<>();
+            for (; node != null; node = node.getNext()) {
+                node.visit(this);
+                stages.add(this.result);
+            }
+            return stages.size() == 1 ? stages.get(0) : new Chain(stages.toArray(new Stage[0]));
+        }
+
+        private int allocate(int words) {
+            int offset = this.stateSize;
+            this.stateSize += words;
+            return offset;
+        }
+
+        private Stage shift(int length, Int2ObjectMap<long[]> masks, boolean ignoreCase, boolean sticky,
+                            boolean anyBit) {
+            return new Shift(allocate(Shift.words(length)), length, masks, ignoreCase, sticky, anyBit);
+        }
+
+        private Stage negate(Stage stage, boolean not) {
+            return not ? new Negate(allocate(1), stage) : stage;
+        }
+
+        @Override
+        public void match(String match, boolean ignoreCase, boolean not) {
+            Int2ObjectMap<long[]> masks = new Int2ObjectOpenHashMap<>();
+            for (int i = 0; i < match.length(); i++) {
+                int c = Shift.normalize(match.charAt(i), ignoreCase);
+                masks.computeIfAbsent(c, k -> new long[Shift.words(match.length())])[(i + 1) >> 6] |= 1L << (i + 1);
+            }
+            this.result = negate(shift(match.length(), masks, ignoreCase, false, false), not);
+        }
+
+        @Override
+        public void chars(int amount, boolean not) {
+            this.result = negate(shift(amount, null, false, false, false), not);
+        }
+
+        @Override
+        public void charsOrMore(int amount, boolean not) {
+            if (not) {
+                // less than n chars; any input state within the last n - 1 characters
+                this.result = amount <= 0 ? Constant.FALSE : shift(amount - 1, null, false, false, true);
+            } else {
+                this.result = shift(amount, null, false, true, false);
+            }
+        }
+
+        @Override
+        public void group(OreGlobNode node, boolean not) {
+            this.result = negate(compileChain(node), not);
+        }
+
+        @Override
+        public void branch(BranchType type, List<OreGlobNode> nodes, boolean not) {
+            Stage[] branches = new Stage[nodes.size()];
+            for (int i = 0; i < branches.length; i++) {
+                branches[i] = compileChain(nodes.get(i));
+            }
+            this.result = negate(new Branch(type, branches), not);
+        }
+
+        @Override
+        public void everything() {
+            this.result = shift(0, null, false, true, false);
+        }
+
+        @Override
+        public void nothing() {
+            this.result = Constant.FALSE;
+        }
+
+        @Override
+        public void nonempty() {
+            this.result = shift(1, null, false, true, false);
+        }
+
+        @Override
+        public void empty() {
+            this.result = Constant.IDENTITY;
+        }
+
+        @Override
+        public void error() {
+            this.result = Constant.FALSE;
+        }
+    }
+
+    private interface Stage {
+
+        /**
+         * Advances the stage to the next index of the input.
+         *
+         * @param state   the state of the expression
+         * @param c       the character before the index, or {@code -1} for the first index
+         * @param inState whether the index is an input state of this stage
+         * @return whether the index is an output state of this stage
+         */
+        boolean advance(long[] state, int c, boolean inState);
+    }
+
+    private enum Constant implements Stage {
+
+        FALSE {
+
+            @Override
+            public boolean advance(long[] state, int c, boolean inState) {
+                return false;
+            }
+        },
+        IDENTITY {
+
+            @Override
+            public boolean advance(long[] state, int c, boolean inState) {
+                return inState;
+            }
+        }
+    }
+
+    /**
+     * Bit {@code n} is set if the index {@code n} characters before is an input state, and the characters in between
+     * match. Without masks, any character matches.
+     */
+    private static final class Shift implements Stage {
+
+        private final int offset;
+        private final int words;
+        private final int topWord;
+        private final long topBit;
+        private final long[] validBits;
+        private final Int2ObjectMap<long[]> masks;
+        private final boolean ignoreCase;
+        private final boolean sticky;
+        private final boolean anyBit;
+
+        /**
+         * @param length     the highest bit
+         * @param masks      the bits matching each character, or {@code null} to match any character
+         * @param ignoreCase whether characters are looked up in the masks case insensitively
+         * @param sticky     whether the highest bit stays set once set
+         * @param anyBit     whether the output is any bit being set, instead of the highest bit
+         */
+        Shift(int offset, int length, Int2ObjectMap<long[]> masks, boolean ignoreCase, boolean sticky,
+              boolean anyBit) {
+            this.offset = offset;
+            this.words = words(length);
+            this.topWord = length >> 6;
+            this.topBit = 1L << length;
+            this.validBits = new long[this.words];
+            for (int i = 0; i <= length; i++) {
+                this.validBits[i >> 6] |= 1L << i;
+            }
+            this.masks = masks;
+            this.ignoreCase = ignoreCase;
+            this.sticky = sticky;
+            this.anyBit = anyBit;
+        }
+
+        static int words(int length) {
+            return (length >> 6) + 1;
+        }
+
+        /**
+         * Maps characters to the same value if {@link String#regionMatches(boolean, int, String, int, int)} treats
+         * them as equal.
+         */
+        static int normalize(char c, boolean ignoreCase) {
+            return ignoreCase ? Character.toLowerCase(Character.toUpperCase(c)) : c;
+        }
+
+        @Override
+        public boolean advance(long[] state, int c, boolean inState) {
+            if (c >= 0) {
+                long stickyBit = this.sticky ? state[this.offset + this.topWord] & this.topBit : 0;
+                long[] mask;
+                if (this.masks == null) {
+                    mask = this.validBits;
+                } else {
+                    mask = this.masks.get(normalize((char) c, this.ignoreCase));
+                }
+                if (mask == null) {
+                    for (int i = 0; i < this.words; i++) {
+                        state[this.offset + i] = 0;
+                    }
+                } else {
+                    long carry = 0;
+                    for (int i = 0; i < this.words; i++) {
+                        long word = state[this.offset + i];
+                        state[this.offset + i] = ((word << 1) | carry) & mask[i];
+                        carry = word >>> 63;
+                    }
+                }
+                state[this.offset + this.topWord] |= stickyBit;
+            }
+            if (inState) {
+                state[this.offset] |= 1;
+            }
+
+            if (!this.anyBit) {
+                return (state[this.offset + this.topWord] & this.topBit) != 0;
+            }
+            for (int i = 0; i < this.words; i++) {
+                if (state[this.offset + i] != 0) return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Complements the output states of a stage, from the first input state on.
+     */
+    private static final class Negate implements Stage {
+
+        private final int offset;
+        private final Stage stage;
+
+        Negate(int offset, Stage stage) {
+            this.offset = offset;
+            this.stage = stage;
+        }
+
+        @Override
+        public boolean advance(long[] state, int c, boolean inState) {
+            if (inState) state[this.offset] = 1;
+            // the stage must advance even if the result is known, to keep its state up to date
+            boolean out = this.stage.advance(state, c, inState);
+            return state[this.offset] != 0 && !out;
+        }
+    }
+
+    private static final class Chain implements Stage {
+
+        private final Stage[] stages;
+
+        Chain(Stage[] stages) {
+            this.stages = stages;
+        }
+
+        @Override
+        public boolean advance(long[] state, int c, boolean inState) {
+            for (Stage stage : this.stages) {
+                inState = stage.advance(state, c, inState);
+            }
+            return inState;
+        }
+    }
+
+    private static final class Branch implements Stage {
+
+        private final BranchType type;
+        private final Stage[] branches;
+
+        Branch(BranchType type, Stage[] branches) {
+            this.type = type;
+            this.branches = branches;
+        }
+
+        @Override
+        public boolean advance(long[] state, int c, boolean inState) {
+            boolean out = this.type == BranchType.AND;
+            for (Stage branch : this.branches) {
+                boolean branchOut = branch.advance(state, c, inState);
+                out = switch (this.type) {
+                    case OR -> out | branchOut;
+                    case AND -> out & branchOut;
+                    case XOR -> out ^ branchOut;
+                };
+            }
+            return out;
+        }
+    }
+}
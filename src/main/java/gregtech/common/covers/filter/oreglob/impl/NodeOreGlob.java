@@ -13,9 +13,12 @@ import org.jetbrains.annotations.NotNull;
 public final class NodeOreGlob extends OreGlob {
 
     private final OreGlobNode root;
+    private final boolean compilable;
+    private volatile NodeAutomaton automaton;
 
     public NodeOreGlob(@NotNull OreGlobNode root) {
         this.root = root;
+        this.compilable = NodeAutomaton.canCompile(root);
     }
 
     @VisibleForTesting
@@ -32,6 +35,23 @@ public final class NodeOreGlob extends OreGlob {
 
     @Override
     public boolean matches(@NotNull String input) {
+        if (!this.compilable) return interpret(input);
+        NodeAutomaton automaton = this.automaton;
+        if (automaton == null) {
+            // compiled on first use, as instances created for visualization never match anything
+            this.automaton = automaton = new NodeAutomaton(this.root);
+        }
+        return automaton.matches(input);
+    }
+
+    /**
+     * Matches the input with the node interpreter instead of the compiled automaton. Expressions the automaton can't
+     * reproduce are always matched this way.
+     *
+     * @param input String input
+     * @return Whether this instance matches the input
+     */
+    public boolean interpret(@NotNull String input) {
         return new NodeInterpreter(input).evaluate(this.root).isMatch();
     }
 }
@@ -1,5 +1,6 @@
 package gregtech.common.inventory.itemsource.sources;
 
+import gregtech.api.util.GTTransferUtils;
 import gregtech.api.util.ItemStackHashStrategy;
 import gregtech.common.inventory.itemsource.ItemSource;
 
@@ -67,18 +68,8 @@ public class InventoryItemSource extends ItemSource {
      * @return amount of items extracted from the inventory
      */
     public int extractItem(ItemStack stack, int amount, boolean simulate, Object2IntMap<ItemSource> extractedMap) {
-        int itemsExtracted = 0;
-        if (itemHandler == null) return itemsExtracted;
-        for (int i = 0; i < itemHandler.getSlots(); i++) {
-            ItemStack stackInSlot = itemHandler.getStackInSlot(i);
-            if (stackInSlot.isEmpty()) continue;
-            if (!ItemStackHashStrategy.comparingAllButCount().equals(stack, stackInSlot)) continue;
-            ItemStack extractedStack = itemHandler.extractItem(i, amount - itemsExtracted, simulate);
-            if (!extractedStack.isEmpty()) {
-                itemsExtracted += extractedStack.getCount();
-            }
-            if (itemsExtracted == amount) break;
-        }
+        if (itemHandler == null) return 0;
+        int itemsExtracted = GTTransferUtils.extractItem(itemHandler, stack, amount, simulate);
         if (itemsExtracted > 0 && !simulate) {
             int finalItemsExtracted = itemsExtracted;
             extractedMap.computeIfPresent(this, (source, count) -> count + finalItemsExtracted);
@@ -10,6 +10,8 @@ import gregtech.client.renderer.ICubeRenderer;
 import gregtech.client.renderer.texture.Textures;
 
 import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
 
 import java.util.function.Function;
 
@@ -31,4 +33,10 @@ public class MetaTileEntityGasCollector extends SimpleMachineMetaTileEntity {
     protected RecipeLogicEnergy createWorkable(RecipeMap<?> recipeMap) {
         return new RecipeLogicEnergy(this, recipeMap, () -> energyContainer);
     }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public boolean hasStaticRendering() {
+        return true;
+    }
 }
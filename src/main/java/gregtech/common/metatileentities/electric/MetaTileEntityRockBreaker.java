@@ -15,6 +15,8 @@ import net.minecraft.init.Blocks;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
 
 import java.util.function.Supplier;
 
@@ -112,4 +114,10 @@ public class MetaTileEntityRockBreaker extends SimpleMachineMetaTileEntity {
     public boolean getIsWeatherOrTerrainResistant() {
         return true;
     }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public boolean hasStaticRendering() {
+        return true;
+    }
 }
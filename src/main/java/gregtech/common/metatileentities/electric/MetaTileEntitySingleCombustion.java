@@ -50,6 +50,13 @@ public class MetaTileEntitySingleCombustion extends SimpleGeneratorMetaTileEntit
         }
     }
 
+    @Override
+    @SideOnly(Side.CLIENT)
+    public boolean hasStaticRendering() {
+        // the overlays only depend on the front facing and the workable state
+        return true;
+    }
+
     @SideOnly(Side.CLIENT)
     @Override
     public void randomDisplayTick() {
@@ -8,6 +8,8 @@ import gregtech.client.renderer.ICubeRenderer;
 
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
 
 import codechicken.lib.render.CCRenderState;
 import codechicken.lib.render.pipeline.IVertexOperation;
@@ -47,4 +49,11 @@ public class MetaTileEntitySingleTurbine extends SimpleGeneratorMetaTileEntity {
             super.renderOverlays(renderState, translation, pipeline);
         }
     }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public boolean hasStaticRendering() {
+        // the overlays only depend on the front facing and the workable state
+        return true;
+    }
 }
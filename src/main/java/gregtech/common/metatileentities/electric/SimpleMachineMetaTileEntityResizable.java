@@ -9,6 +9,8 @@ import gregtech.client.particle.IMachineParticleEffect;
 import gregtech.client.renderer.ICubeRenderer;
 
 import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
 import net.minecraftforge.items.IItemHandlerModifiable;
 
 import org.jetbrains.annotations.Nullable;
@@ -105,4 +107,10 @@ public class SimpleMachineMetaTileEntityResizable extends SimpleMachineMetaTileE
     public int getItemOutputLimit() {
         return outputAmount;
     }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public boolean hasStaticRendering() {
+        return true;
+    }
 }
@@ -66,6 +66,7 @@ import net.minecraft.util.text.TextComponentString;
 import net.minecraft.util.text.TextComponentTranslation;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.World;
+import net.minecraft.world.gen.structure.StructureBoundingBox;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
@@ -95,6 +96,8 @@ public class MetaTileEntityCleanroom extends MultiblockWithDisplayBase
 
     public static final int MIN_RADIUS = 2;
     public static final int MIN_DEPTH = 4;
+    public static final int MAX_RADIUS = 7;
+    public static final int MAX_DEPTH = 14;
 
     private int lDist = 0;
     private int rDist = 0;
@@ -102,6 +105,10 @@ public class MetaTileEntityCleanroom extends MultiblockWithDisplayBase
     private int fDist = 0;
     private int hDist = 0;
 
+    // the probed dimensions and facing the current structure pattern was built for
+    private int @Nullable [] patternDimensions;
+    private EnumFacing patternFacing;
+
     private CleanroomType cleanroomType = null;
     private int cleanAmount;
 
@@ -132,6 +139,7 @@ public class MetaTileEntityCleanroom extends MultiblockWithDisplayBase
     @Override
     protected void formStructure(PatternMatchContext context) {
         super.formStructure(context);
+        unwatchStructureRegion();
         initializeAbilities();
         this.cleanroomFilter = context.get("FilterType");
         this.cleanroomType = cleanroomFilter.getCleanroomType();
@@ -168,11 +176,28 @@ public class MetaTileEntityCleanroom extends MultiblockWithDisplayBase
     @Override
     public void checkStructurePattern() {
         if (!this.isStructureFormed()) {
-            reinitializeStructurePattern();
+            // the pattern only depends on the dimensions and facing, so only rebuild it when one of them changed
+            int[] dimensions = probeStructureDimensions();
+            if (structurePattern == null || getFrontFacing() != patternFacing ||
+                    !Arrays.equals(dimensions, patternDimensions)) {
+                reinitializeStructurePattern();
+            }
+            // any change which could form the structure happens inside the largest possible cleanroom
+            watchStructureRegion(getMaxStructureRegion());
         }
         super.checkStructurePattern();
     }
 
+    /**
+     * @return the region covered by the largest possible cleanroom around the controller
+     */
+    @NotNull
+    protected StructureBoundingBox getMaxStructureRegion() {
+        BlockPos pos = getPos();
+        return new StructureBoundingBox(pos.getX() - MAX_RADIUS, pos.getY() - MAX_DEPTH, pos.getZ() - MAX_RADIUS,
+                pos.getX() + MAX_RADIUS, pos.getY(), pos.getZ() + MAX_RADIUS);
+    }
+
     @Override
     public boolean allowsExtendedFacing() {
         return false;
@@ -187,6 +212,36 @@ public class MetaTileEntityCleanroom extends MultiblockWithDisplayBase
      * Scans for blocks around the controller to update the dimensions
      */
     public boolean updateStructureDimensions() {
+        int[] dimensions = probeStructureDimensions();
+        this.patternDimensions = dimensions;
+        this.patternFacing = getFrontFacing();
+        if (dimensions == null) {
+            invalidateStructure();
+            return false;
+        }
+
+        this.lDist = dimensions[0];
+        this.rDist = dimensions[1];
+        this.bDist = dimensions[2];
+        this.fDist = dimensions[3];
+        this.hDist = dimensions[4];
+
+        writeCustomData(GregtechDataCodes.UPDATE_STRUCTURE_SIZE, buf -> {
+            buf.writeInt(this.lDist);
+            buf.writeInt(this.rDist);
+            buf.writeInt(this.bDist);
+            buf.writeInt(this.fDist);
+            buf.writeInt(this.hDist);
+        });
+        return true;
+    }
+
+    /**
+     * Scans for blocks around the controller to find the dimensions
+     *
+     * @return the left, right, back, front and height distances, or null if they are not valid
+     */
+    protected int @Nullable [] probeStructureDimensions() {
         World world = getWorld();
         EnumFacing front = getFrontFacing();
         EnumFacing back = front.getOpposite();
@@ -209,7 +264,7 @@ public class MetaTileEntityCleanroom extends MultiblockWithDisplayBase
 
         // find the left, right, back, and front distances for the structure pattern
         // maximum size is 15x15x15 including walls, so check 7 block radius around the controller for blocks
-        for (int i = 1; i < 8; i++) {
+        for (int i = 1; i <= MAX_RADIUS; i++) {
             if (lDist == 0 && isBlockEdge(world, lPos, left)) lDist = i;
             if (rDist == 0 && isBlockEdge(world, rPos, right)) rDist = i;
             if (bDist == 0 && isBlockEdge(world, bPos, back)) bDist = i;
@@ -218,30 +273,15 @@ public class MetaTileEntityCleanroom extends MultiblockWithDisplayBase
         }
 
         // height is diameter instead of radius, so it needs to be done separately
-        for (int i = 1; i < 15; i++) {
+        for (int i = 1; i <= MAX_DEPTH; i++) {
             if (isBlockFloor(world, hPos, EnumFacing.DOWN)) hDist = i;
             if (hDist != 0) break;
         }
 
         if (lDist < MIN_RADIUS || rDist < MIN_RADIUS || bDist < MIN_RADIUS || fDist < MIN_RADIUS || hDist < MIN_DEPTH) {
-            invalidateStructure();
-            return false;
+            return null;
         }
-
-        this.lDist = lDist;
-        this.rDist = rDist;
-        this.bDist = bDist;
-        this.fDist = fDist;
-        this.hDist = hDist;
-
-        writeCustomData(GregtechDataCodes.UPDATE_STRUCTURE_SIZE, buf -> {
-            buf.writeInt(this.lDist);
-            buf.writeInt(this.rDist);
-            buf.writeInt(this.bDist);
-            buf.writeInt(this.fDist);
-            buf.writeInt(this.hDist);
-        });
-        return true;
+        return new int[] { lDist, rDist, bDist, fDist, hDist };
     }
 
     /**
@@ -51,6 +51,7 @@ public class MetaTileEntityDataAccessHatch extends MetaTileEntityMultiblockNotif
 
     private final Set<Recipe> recipes;
     private final boolean isCreative;
+    private int dataAccessVersion;
 
     public MetaTileEntityDataAccessHatch(ResourceLocation metaTileEntityId, int tier, boolean isCreative) {
         super(metaTileEntityId, tier, false);
@@ -144,6 +145,7 @@ public class MetaTileEntityDataAccessHatch extends MetaTileEntityMultiblockNotif
                 }
             }
         }
+        dataAccessVersion = (dataAccessVersion + 1) & Integer.MAX_VALUE;
     }
 
     @Override
@@ -152,6 +154,19 @@ public class MetaTileEntityDataAccessHatch extends MetaTileEntityMultiblockNotif
         return recipes.contains(recipe);
     }
 
+    @Override
+    public boolean collectAvailableRecipes(@NotNull Collection<Recipe> recipes,
+                                           @NotNull Collection<IDataAccessHatch> seen) {
+        seen.add(this);
+        recipes.addAll(this.recipes);
+        return true;
+    }
+
+    @Override
+    public int getDataAccessVersion() {
+        return dataAccessVersion;
+    }
+
     @Override
     public boolean isCreative() {
         return this.isCreative;
@@ -105,6 +105,18 @@ public abstract class MetaTileEntityMultiblockPart extends MetaTileEntity
         return true;
     }
 
+    @Override
+    public void setFrontFacing(EnumFacing frontFacing) {
+        super.setFrontFacing(frontFacing);
+        if (getWorld() != null && !getWorld().isRemote) {
+            // facing is not part of the block state, so the structure index does not see it change
+            MultiblockControllerBase controller = getController();
+            if (controller != null) {
+                controller.markStructureDirty();
+            }
+        }
+    }
+
     @Override
     public void writeInitialSyncData(PacketBuffer buf) {
         super.writeInitialSyncData(buf);
@@ -4,6 +4,7 @@ import gregtech.api.GTValues;
 import gregtech.api.capability.GregtechTileCapabilities;
 import gregtech.api.capability.IDataAccessHatch;
 import gregtech.api.capability.IOpticalDataAccessHatch;
+import gregtech.api.capability.impl.DataAccessRecipeCache;
 import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.metatileentity.interfaces.IGregTechTileEntity;
 import gregtech.api.metatileentity.multiblock.IMultiblockAbilityPart;
@@ -35,6 +36,10 @@ public class MetaTileEntityOpticalDataHatch extends MetaTileEntityMultiblockNoti
 
     private final boolean isTransmitter;
 
+    // the recipes available through the controller of a transmitter
+    private final DataAccessRecipeCache availableRecipes = new DataAccessRecipeCache(this);
+    private int dataAccessVersion;
+
     public MetaTileEntityOpticalDataHatch(ResourceLocation metaTileEntityId, boolean isTransmitter) {
         super(metaTileEntityId, GTValues.LuV, false);
         this.isTransmitter = isTransmitter;
@@ -67,6 +72,9 @@ public class MetaTileEntityOpticalDataHatch extends MetaTileEntityMultiblockNoti
         seen.add(this);
         if (isAttachedToMultiBlock()) {
             if (isTransmitter()) {
+                availableRecipes.update();
+                if (availableRecipes.isComplete()) return availableRecipes.contains(recipe);
+
                 MultiblockControllerBase controller = getController();
                 if (!controller.isActive()) return false;
 
@@ -99,6 +107,81 @@ public class MetaTileEntityOpticalDataHatch extends MetaTileEntityMultiblockNoti
         return false;
     }
 
+    @Override
+    public boolean collectAvailableRecipes(@NotNull Collection<Recipe> recipes,
+                                           @NotNull Collection<IDataAccessHatch> seen) {
+        seen.add(this);
+        if (!isAttachedToMultiBlock()) return true;
+        if (isTransmitter()) {
+            if (availableRecipes.isValid()) return availableRecipes.collect(recipes, seen);
+
+            MultiblockControllerBase controller = getController();
+            if (!controller.isActive()) return true;
+
+            boolean complete = collectAvailableRecipes(controller.getAbilities(MultiblockAbility.DATA_ACCESS_HATCH),
+                    recipes, seen);
+            return collectAvailableRecipes(controller.getAbilities(MultiblockAbility.OPTICAL_DATA_RECEPTION),
+                    recipes, seen) && complete;
+        }
+
+        TileEntity tileEntity = getNeighbor(getFrontFacing());
+        if (tileEntity instanceof TileEntityOpticalPipe) {
+            IDataAccessHatch cap = tileEntity.getCapability(GregtechTileCapabilities.CAPABILITY_DATA_ACCESS,
+                    getFrontFacing().getOpposite());
+            return cap == null || cap.collectAvailableRecipes(recipes, seen);
+        }
+        return true;
+    }
+
+    private static boolean collectAvailableRecipes(@NotNull Iterable<? extends IDataAccessHatch> hatches,
+                                                   @NotNull Collection<Recipe> recipes,
+                                                   @NotNull Collection<IDataAccessHatch> seen) {
+        boolean complete = true;
+        for (IDataAccessHatch hatch : hatches) {
+            if (seen.contains(hatch)) continue;
+            if (!hatch.collectAvailableRecipes(recipes, seen)) {
+                complete = false;
+            }
+        }
+        return complete;
+    }
+
+    @Override
+    public int getDataAccessVersion() {
+        // transmitters of inactive controllers provide no recipes, without being notified of it
+        boolean active = isTransmitter() && isAttachedToMultiBlock() && getController().isActive();
+        return (dataAccessVersion << 1 | (active ? 1 : 0)) & Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void addToMultiBlock(MultiblockControllerBase controllerBase) {
+        super.addToMultiBlock(controllerBase);
+        invalidateDataAccess();
+    }
+
+    @Override
+    public void removeFromMultiBlock(MultiblockControllerBase controllerBase) {
+        super.removeFromMultiBlock(controllerBase);
+        invalidateDataAccess();
+    }
+
+    @Override
+    public void setFrontFacing(EnumFacing frontFacing) {
+        super.setFrontFacing(frontFacing);
+        invalidateDataAccess();
+    }
+
+    @Override
+    public void onNeighborChanged() {
+        super.onNeighborChanged();
+        // receivers read the optical pipe in front of them
+        if (!isTransmitter()) invalidateDataAccess();
+    }
+
+    private void invalidateDataAccess() {
+        dataAccessVersion = (dataAccessVersion + 1) & Integer.MAX_VALUE;
+    }
+
     @Override
     public boolean isCreative() {
         return false;
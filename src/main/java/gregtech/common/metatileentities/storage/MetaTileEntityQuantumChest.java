@@ -2,8 +2,10 @@ package gregtech.common.metatileentities.storage;
 
 import gregtech.api.capability.GregtechTileCapabilities;
 import gregtech.api.capability.IActiveOutputSide;
+import gregtech.api.capability.INotifiableHandler;
 import gregtech.api.capability.impl.ItemHandlerList;
 import gregtech.api.capability.impl.ItemHandlerProxy;
+import gregtech.api.capability.impl.NotifiableItemStackHandler;
 import gregtech.api.cover.CoverRayTracer;
 import gregtech.api.gui.GuiTextures;
 import gregtech.api.gui.ModularUI;
@@ -77,6 +79,7 @@ public class MetaTileEntityQuantumChest extends MetaTileEntityQuantumStorage<IIt
     private static final String NBT_ITEMCOUNT = "ItemAmount";
     private static final String IS_VOIDING = "IsVoiding";
     protected IItemHandler outputItemInventory;
+    private QuantumChestItemHandler virtualItemInventory;
     private ItemHandlerList combinedInventory;
     protected ItemStack previousStack;
     protected long previousStackSize;
@@ -223,7 +226,8 @@ public class MetaTileEntityQuantumChest extends MetaTileEntityQuantumStorage<IIt
     @Override
     protected void initializeInventory() {
         super.initializeInventory();
-        this.itemInventory = new QuantumChestItemHandler();
+        this.virtualItemInventory = new QuantumChestItemHandler();
+        this.itemInventory = virtualItemInventory;
         List<IItemHandler> temp = new ArrayList<>();
         temp.add(this.exportItems);
         temp.add(this.itemInventory);
@@ -260,7 +264,7 @@ public class MetaTileEntityQuantumChest extends MetaTileEntityQuantumStorage<IIt
 
     @Override
     protected IItemHandlerModifiable createExportItemHandler() {
-        return new GTItemStackHandler(this, 1);
+        return new NotifiableItemStackHandler(this, 1, null, true);
     }
 
     @Override
@@ -288,6 +292,7 @@ public class MetaTileEntityQuantumChest extends MetaTileEntityQuantumStorage<IIt
             if (!virtualItemStack.isEmpty()) {
                 this.itemsStoredInside = data.getLong(NBT_ITEMCOUNT);
             }
+            onVirtualItemsChanged();
         }
         if (data.hasKey(IS_VOIDING)) {
             this.voiding = data.getBoolean(IS_VOIDING);
@@ -302,6 +307,7 @@ public class MetaTileEntityQuantumChest extends MetaTileEntityQuantumStorage<IIt
             if (!this.virtualItemStack.isEmpty()) {
                 this.itemsStoredInside = itemStack.getLong(NBT_ITEMCOUNT);
             }
+            onVirtualItemsChanged();
         }
         if (itemStack.hasKey(NBT_PARTIALSTACK, NBT.TAG_COMPOUND)) {
             exportItems.setStackInSlot(0, new ItemStack(itemStack.getCompoundTag(NBT_PARTIALSTACK)));
@@ -330,6 +336,7 @@ public class MetaTileEntityQuantumChest extends MetaTileEntityQuantumStorage<IIt
 
         this.virtualItemStack = ItemStack.EMPTY;
         this.itemsStoredInside = 0;
+        onVirtualItemsChanged();
         exportItems.setStackInSlot(0, ItemStack.EMPTY);
     }
 
@@ -409,6 +416,7 @@ public class MetaTileEntityQuantumChest extends MetaTileEntityQuantumStorage<IIt
                     " on initial server/client sync");
         }
         this.itemsStoredInside = buf.readLong();
+        onVirtualItemsChanged();
         this.voiding = buf.readBoolean();
     }
 
@@ -434,8 +442,10 @@ public class MetaTileEntityQuantumChest extends MetaTileEntityQuantumStorage<IIt
             } catch (IOException e) {
                 GTLog.logger.error("Failed to read item stack in a quantum chest!");
             }
+            onVirtualItemsChanged();
         } else if (dataId == UPDATE_ITEM_COUNT) {
             this.itemsStoredInside = buf.readLong();
+            onVirtualItemsChanged();
         } else if (dataId == UPDATE_IS_VOIDING) {
             setVoiding(buf.readBoolean());
         }
@@ -569,7 +579,41 @@ public class MetaTileEntityQuantumChest extends MetaTileEntityQuantumStorage<IIt
         return new AxisAlignedBB(getPos());
     }
 
-    private class QuantumChestItemHandler implements IItemHandler {
+    private void onVirtualItemsChanged() {
+        if (virtualItemInventory != null) {
+            virtualItemInventory.onContentsChanged();
+        }
+    }
+
+    private class QuantumChestItemHandler implements IItemHandler, INotifiableHandler {
+
+        private final List<MetaTileEntity> notifiableEntities = new ArrayList<>();
+        private int contentsVersion;
+
+        private void onContentsChanged() {
+            contentsVersion = (contentsVersion + 1) & Integer.MAX_VALUE;
+            for (MetaTileEntity metaTileEntity : notifiableEntities) {
+                if (metaTileEntity != null && metaTileEntity.isValid()) {
+                    addToNotifiedList(metaTileEntity, this, false);
+                }
+            }
+        }
+
+        @Override
+        public int getContentsVersion() {
+            return contentsVersion;
+        }
+
+        @Override
+        public void addNotifiableMetaTileEntity(MetaTileEntity metaTileEntity) {
+            if (metaTileEntity == null) return;
+            this.notifiableEntities.add(metaTileEntity);
+        }
+
+        @Override
+        public void removeNotifiableMetaTileEntity(MetaTileEntity metaTileEntity) {
+            this.notifiableEntities.remove(metaTileEntity);
+        }
 
         @Override
         public int getSlots() {
@@ -612,6 +656,7 @@ public class MetaTileEntityQuantumChest extends MetaTileEntityQuantumStorage<IIt
                 if (itemsStoredInside == 0L) {
                     MetaTileEntityQuantumChest.this.virtualItemStack = ItemStack.EMPTY;
                 }
+                onContentsChanged();
             }
             return extractedStack;
         }
@@ -661,6 +706,7 @@ public class MetaTileEntityQuantumChest extends MetaTileEntityQuantumStorage<IIt
                     } else {
                         MetaTileEntityQuantumChest.this.itemsStoredInside += actualVirtualizedAmount;
                     }
+                    onContentsChanged();
                 }
             }
 
@@ -0,0 +1,235 @@
+package gregtech.common.pipelike.cable.net;
+
+import gregtech.api.unification.material.properties.WireProperties;
+import gregtech.common.pipelike.cable.tile.AveragingPerTickCounter;
+import gregtech.common.pipelike.cable.tile.PerTickLongCounter;
+import gregtech.common.pipelike.cable.tile.TileEntityCable;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.world.World;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import org.apache.commons.lang3.ArrayUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A chain of cables with identical properties, which all carry the same current.
+ * <p>
+ * Every cable but the ends of a chain is connected to exactly two other cables and nothing else, so energy passing
+ * one of them passes the whole chain. Amperage and voltage are therefore counted once per segment, and the values of
+ * single cables are derived from them when needed. Voltage drops along the chain, so it is counted separately for
+ * both directions by the voltage entering the chain.
+ * <p>
+ * Transfers only covering a part of a segment are still counted by the cables themselves.
+ */
+public class CableSegment {
+
+    private static final int FORWARD = 0;
+    private static final int BACKWARD = 1;
+
+    private final TileEntityCable[] cables;
+    private final long lossPerBlock;
+    private final long maxAmperage;
+
+    private final AveragingPerTickCounter amperageCounter = new AveragingPerTickCounter();
+    private final PerTickLongCounter[] maxEntryVoltageCounters = { new PerTickLongCounter(),
+            new PerTickLongCounter() };
+    private final AveragingPerTickCounter[] entryVoltageCounters = { new AveragingPerTickCounter(),
+            new AveragingPerTickCounter() };
+    private final AveragingPerTickCounter[] transferCounters = { new AveragingPerTickCounter(),
+            new AveragingPerTickCounter() };
+    private long lastPartialTransfer = -1;
+
+    private CableSegment(TileEntityCable[] cables) {
+        this.cables = cables;
+        WireProperties properties = cables[0].getNodeData();
+        this.lossPerBlock = properties.getLossPerBlock();
+        this.maxAmperage = properties.getAmperage();
+    }
+
+    /**
+     * Finds the segment containing a cable by following its chain in both directions.
+     */
+    @NotNull
+    static CableSegment create(@NotNull TileEntityCable cable) {
+        if (!isChainLink(cable)) return new CableSegment(new TileEntityCable[] { cable });
+
+        EnumFacing[] sides = getConnectedSides(cable);
+        List<TileEntityCable> before = followChain(cable, sides[0]);
+        List<TileEntityCable> after = followChain(cable, sides[1]);
+        // a closed ring of cables is followed completely in both directions
+        if (!before.isEmpty() && before.get(before.size() - 1) == cable) {
+            after = Collections.emptyList();
+            before.remove(before.size() - 1);
+        }
+
+        TileEntityCable[] cables = new TileEntityCable[before.size() + 1 + after.size()];
+        int i = 0;
+        for (int j = before.size() - 1; j >= 0; j--) {
+            cables[i++] = before.get(j);
+        }
+        cables[i++] = cable;
+        for (TileEntityCable next : after) {
+            cables[i++] = next;
+        }
+        return new CableSegment(cables);
+    }
+
+    @NotNull
+    private static List<TileEntityCable> followChain(@NotNull TileEntityCable start, @NotNull EnumFacing side) {
+        List<TileEntityCable> chain = new ObjectArrayList<>();
+        TileEntityCable current = start;
+        while (true) {
+            TileEntityCable next = getConnectedCable(current, side);
+            if (next == null || !isChainLink(next) || !next.getNodeData().equals(start.getNodeData())) break;
+            chain.add(next);
+            if (next == start) break;
+
+            // continue through the side the chain was not entered from
+            EnumFacing[] sides = getConnectedSides(next);
+            side = sides[0] == side.getOpposite() ? sides[1] : sides[0];
+            current = next;
+        }
+        return chain;
+    }
+
+    /**
+     * @return if the cable is connected to exactly two other cables and nothing else
+     */
+    private static boolean isChainLink(@NotNull TileEntityCable cable) {
+        if (Integer.bitCount(cable.getConnections() & 63) != 2) return false;
+        if (cable.getCoverableImplementation().hasAnyCover()) return false;
+        for (EnumFacing side : getConnectedSides(cable)) {
+            if (getConnectedCable(cable, side) == null) return false;
+        }
+        return true;
+    }
+
+    @NotNull
+    private static EnumFacing[] getConnectedSides(@NotNull TileEntityCable cable) {
+        EnumFacing[] sides = new EnumFacing[0];
+        for (EnumFacing side : EnumFacing.VALUES) {
+            if (cable.isConnected(side)) sides = ArrayUtils.add(sides, side);
+        }
+        return sides;
+    }
+
+    @Nullable
+    private static TileEntityCable getConnectedCable(@NotNull TileEntityCable cable, @NotNull EnumFacing side) {
+        if (!cable.isConnected(side)) return null;
+        World world = cable.getWorld();
+        if (!world.isBlockLoaded(cable.getPos().offset(side))) return null;
+        TileEntity neighbour = world.getTileEntity(cable.getPos().offset(side));
+        if (neighbour instanceof TileEntityCable other && !other.isInvalid() &&
+                other.isConnected(side.getOpposite())) {
+            return other;
+        }
+        return null;
+    }
+
+    @NotNull
+    public TileEntityCable[] getCables() {
+        return cables;
+    }
+
+    public int size() {
+        return cables.length;
+    }
+
+    public long getLossPerBlock() {
+        return lossPerBlock;
+    }
+
+    /**
+     * Counts a transfer through the whole segment
+     *
+     * @param amps         the amperage transferred
+     * @param entryVoltage the voltage before entering the first cable in transfer direction
+     * @param forward      if the transfer enters at the first cable of the segment
+     */
+    void increment(@NotNull World world, long amps, long entryVoltage, boolean forward) {
+        int direction = forward ? FORWARD : BACKWARD;
+        if (entryVoltage > maxEntryVoltageCounters[direction].get(world)) {
+            maxEntryVoltageCounters[direction].set(world, entryVoltage);
+        }
+        entryVoltageCounters[direction].increment(world, entryVoltage);
+        transferCounters[direction].increment(world, 1);
+        amperageCounter.increment(world, amps);
+
+        // the cables only need to be looked at once the limit is exceeded,
+        // or if some of them carry additional current from partial transfers
+        if (lastPartialTransfer == world.getTotalWorldTime()) {
+            for (TileEntityCable cable : cables) {
+                cable.checkAmperage();
+            }
+        } else {
+            long amperage = amperageCounter.getLast(world);
+            if (amperage > maxAmperage) {
+                int heat = (int) (amperage - maxAmperage) * 40;
+                for (TileEntityCable cable : cables) {
+                    cable.applyHeat(heat);
+                }
+            }
+        }
+    }
+
+    /**
+     * Notes that a cable of this segment counted a transfer covering only part of the segment this tick.
+     */
+    public void markPartialTransfer(@NotNull World world) {
+        this.lastPartialTransfer = world.getTotalWorldTime();
+    }
+
+    /**
+     * @return the amperage through the segment in the current tick
+     */
+    public long getCurrentAmperage(@NotNull World world) {
+        return amperageCounter.getLast(world);
+    }
+
+    public double getAverageAmperage(@NotNull World world) {
+        return amperageCounter.getAverage(world);
+    }
+
+    /**
+     * @return the highest voltage at a cable of the segment in the current tick
+     */
+    public long getCurrentMaxVoltage(@NotNull World world, @NotNull TileEntityCable cable) {
+        int index = ArrayUtils.indexOf(cables, cable);
+        if (index < 0) return 0;
+        long voltage = 0;
+        for (int direction = FORWARD; direction <= BACKWARD; direction++) {
+            long entryVoltage = maxEntryVoltageCounters[direction].get(world);
+            if (entryVoltage > 0) {
+                voltage = Math.max(voltage, entryVoltage - lossPerBlock * getDistance(index, direction));
+            }
+        }
+        return voltage;
+    }
+
+    /**
+     * @return the average of the summed voltages of all transfers at a cable of the segment
+     */
+    public double getAverageVoltage(@NotNull World world, @NotNull TileEntityCable cable) {
+        int index = ArrayUtils.indexOf(cables, cable);
+        if (index < 0) return 0;
+        double voltage = 0;
+        for (int direction = FORWARD; direction <= BACKWARD; direction++) {
+            voltage += entryVoltageCounters[direction].getAverage(world) -
+                    lossPerBlock * getDistance(index, direction) * transferCounters[direction].getAverage(world);
+        }
+        return voltage;
+    }
+
+    /**
+     * @return the amount of cables passed until and including the cable at index
+     */
+    private int getDistance(int index, int direction) {
+        return direction == FORWARD ? index + 1 : cables.length - index;
+    }
+}
@@ -1,15 +1,20 @@
 package gregtech.common.pipelike.cable.net;
 
+import gregtech.api.capability.GregtechCapabilities;
 import gregtech.api.pipenet.Node;
 import gregtech.api.pipenet.PipeNet;
+import gregtech.api.pipenet.RoutePathCache;
 import gregtech.api.pipenet.WorldPipeNet;
 import gregtech.api.unification.material.properties.WireProperties;
+import gregtech.common.pipelike.cable.tile.TileEntityCable;
 
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.Collections;
 import java.util.Comparator;
@@ -22,7 +27,10 @@ public class EnergyNet extends PipeNet<WireProperties> {
     private long energyFluxPerSec;
     private long lastTime;
 
-    private final Map<BlockPos, List<EnergyRoutePath>> NET_DATA = new Object2ObjectOpenHashMap<>();
+    private final RoutePathCache<BlockPos, EnergyRoutePath> NET_DATA = new RoutePathCache<>(this,
+            GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, EnergyRoutePath::getPath);
+    private final Map<TileEntityCable, CableSegment> segments = new Reference2ObjectOpenHashMap<>();
+    private int segmentVersion;
 
     protected EnergyNet(WorldPipeNet<WireProperties, EnergyNet> world) {
         super(world);
@@ -31,17 +39,50 @@ public class EnergyNet extends PipeNet<WireProperties> {
     public List<EnergyRoutePath> getNetData(BlockPos pipePos) {
         List<EnergyRoutePath> data = NET_DATA.get(pipePos);
         if (data == null) {
+            long startTime = System.nanoTime();
             data = EnergyNetWalker.createNetData(getWorldData(), pipePos);
             if (data == null) {
                 // walker failed, don't cache so it tries again on next insertion
                 return Collections.emptyList();
             }
             data.sort(Comparator.comparingInt(EnergyRoutePath::getDistance));
-            NET_DATA.put(pipePos, data);
+            NET_DATA.put(pipePos, data, System.nanoTime() - startTime);
         }
         return data;
     }
 
+    /**
+     * @return the segment containing a cable of this net
+     */
+    @NotNull
+    public CableSegment getSegment(@NotNull TileEntityCable cable) {
+        CableSegment segment = segments.get(cable);
+        if (segment == null) {
+            segment = CableSegment.create(cable);
+            for (TileEntityCable segmentCable : segment.getCables()) {
+                segments.put(segmentCable, segment);
+            }
+        }
+        return segment;
+    }
+
+    /**
+     * @return a version incremented whenever the segments of this net change
+     */
+    public int getSegmentVersion() {
+        return segmentVersion;
+    }
+
+    /**
+     * Discards all segments, so that they are rebuilt from the current cables when next used
+     */
+    public void invalidateSegments() {
+        if (!segments.isEmpty()) {
+            segments.clear();
+            segmentVersion++;
+        }
+    }
+
     public long getEnergyFluxPerSec() {
         World world = getWorldData();
         if (world != null && !world.isRemote && (world.getTotalWorldTime() - lastTime) >= 20) {
@@ -61,18 +102,39 @@ public class EnergyNet extends PipeNet<WireProperties> {
     }
 
     @Override
-    public void onNeighbourUpdate(BlockPos fromPos) {
+    protected void onNodeConnectionsUpdate() {
+        super.onNodeConnectionsUpdate();
         NET_DATA.clear();
+        invalidateSegments();
+    }
+
+    @Override
+    public void onNeighbourUpdate(BlockPos fromPos) {
+        NET_DATA.onNeighbourChanged(fromPos);
     }
 
     @Override
     public void onPipeConnectionsUpdate() {
         NET_DATA.clear();
+        invalidateSegments();
+    }
+
+    @Override
+    public void onPipeConnectionsUpdate(BlockPos nodePos, EnumFacing side, boolean isBlocked) {
+        NET_DATA.onConnectionChanged(nodePos, side, isBlocked);
+        invalidateSegments();
     }
 
     @Override
     public void onChunkUnload() {
         NET_DATA.clear();
+        invalidateSegments();
+    }
+
+    @Override
+    public void onChunkUnload(BlockPos pipePos) {
+        NET_DATA.onPipeUnloaded(pipePos);
+        invalidateSegments();
     }
 
     @Override
@@ -80,7 +142,9 @@ public class EnergyNet extends PipeNet<WireProperties> {
                                     PipeNet<WireProperties> parentNet) {
         super.transferNodeData(transferredNodes, parentNet);
         NET_DATA.clear();
+        invalidateSegments();
         ((EnergyNet) parentNet).NET_DATA.clear();
+        ((EnergyNet) parentNet).invalidateSegments();
     }
 
     @Override
@@ -78,21 +78,28 @@ public class EnergyNetHandler implements IEnergyContainer {
 
             long pathVoltage = voltage - path.getMaxLoss();
             boolean cableBroken = false;
-            for (TileEntityCable cable : path.getPath()) {
-                if (cable.getMaxVoltage() < voltage) {
+            TileEntityCable[] cables = path.getPath();
+            EnergyRoutePath.SegmentRun[] runs = path.getSegmentRuns(net);
+            // all cables of a segment share their properties, so only check the first one of each
+            for (EnergyRoutePath.SegmentRun run : runs) {
+                long maxVoltage = cables[run.start()].getMaxVoltage();
+                if (maxVoltage < voltage) {
                     int heat = (int) (Math.log(
-                            GTUtility.getTierByVoltage(voltage) - GTUtility.getTierByVoltage(cable.getMaxVoltage())) *
-                            45 + 36.5);
-                    cable.applyHeat(heat);
-
-                    cableBroken = cable.isInvalid();
-                    if (cableBroken) {
-                        // a cable burned away (or insulation melted)
-                        break;
+                            GTUtility.getTierByVoltage(voltage) - GTUtility.getTierByVoltage(maxVoltage)) * 45 + 36.5);
+                    for (int i = run.start(); i < run.start() + run.length(); i++) {
+                        TileEntityCable cable = cables[i];
+                        cable.applyHeat(heat);
+
+                        cableBroken = cable.isInvalid();
+                        if (cableBroken) {
+                            // a cable burned away (or insulation melted)
+                            break;
+                        }
                     }
+                    if (cableBroken) break;
 
                     // limit transfer to cables max and void rest
-                    pathVoltage = Math.min(cable.getMaxVoltage(), pathVoltage);
+                    pathVoltage = Math.min(maxVoltage, pathVoltage);
                 }
             }
 
@@ -105,13 +112,30 @@ public class EnergyNetHandler implements IEnergyContainer {
 
             amperesUsed += amps;
             long voltageTraveled = voltage;
-            for (TileEntityCable cable : path.getPath()) {
-                voltageTraveled -= cable.getNodeData().getLossPerBlock();
-                if (voltageTraveled <= 0) break;
+            for (EnergyRoutePath.SegmentRun run : runs) {
+                CableSegment segment = run.segment();
+                long segmentLoss = segment.getLossPerBlock() * run.length();
+                if (run.complete() && voltageTraveled > segmentLoss) {
+                    // counted once for the whole segment
+                    segment.increment(cable.getWorld(), amps, voltageTraveled, run.forward());
+                    voltageTraveled -= segmentLoss;
+                    continue;
+                }
 
-                if (!cable.isInvalid()) {
-                    cable.incrementAmperage(amps, voltageTraveled);
+                boolean depleted = false;
+                for (int i = run.start(); i < run.start() + run.length(); i++) {
+                    TileEntityCable cable = cables[i];
+                    voltageTraveled -= cable.getNodeData().getLossPerBlock();
+                    if (voltageTraveled <= 0) {
+                        depleted = true;
+                        break;
+                    }
+
+                    if (!cable.isInvalid()) {
+                        cable.incrementAmperage(amps, voltageTraveled);
+                    }
                 }
+                if (depleted) break;
             }
 
             if (amperage == amperesUsed) break;
@@ -7,8 +7,12 @@ import gregtech.common.pipelike.cable.tile.TileEntityCable;
 
 import net.minecraft.util.EnumFacing;
 
+import com.github.bsideup.jabel.Desugar;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class EnergyRoutePath implements IRoutePath<TileEntityCable> {
 
     private final TileEntityCable targetPipe;
@@ -16,6 +20,8 @@ public class EnergyRoutePath implements IRoutePath<TileEntityCable> {
     private final int distance;
     private final TileEntityCable[] path;
     private final long maxLoss;
+    private SegmentRun[] segmentRuns;
+    private int segmentVersion;
 
     public EnergyRoutePath(EnumFacing destFacing, TileEntityCable[] path, int distance, long maxLoss) {
         this.targetPipe = path[path.length - 1];
@@ -48,7 +54,46 @@ public class EnergyRoutePath implements IRoutePath<TileEntityCable> {
         return path;
     }
 
+    /**
+     * @param net the net of the path
+     * @return the path split into runs of cables belonging to the same segment
+     */
+    @NotNull
+    public SegmentRun[] getSegmentRuns(@NotNull EnergyNet net) {
+        if (segmentRuns == null || segmentVersion != net.getSegmentVersion()) {
+            List<SegmentRun> runs = new ArrayList<>();
+            int start = 0;
+            while (start < path.length) {
+                CableSegment segment = net.getSegment(path[start]);
+                int end = start + 1;
+                while (end < path.length && net.getSegment(path[end]) == segment) {
+                    end++;
+                }
+                boolean complete = end - start == segment.size();
+                runs.add(new SegmentRun(segment, start, end - start, complete,
+                        segment.getCables()[0] == path[start]));
+                start = end;
+            }
+            this.segmentRuns = runs.toArray(new SegmentRun[0]);
+            this.segmentVersion = net.getSegmentVersion();
+        }
+        return segmentRuns;
+    }
+
     public IEnergyContainer getHandler() {
         return getTargetCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER);
     }
+
+    /**
+     * Consecutive cables of a path belonging to the same segment
+     *
+     * @param segment  the segment of the cables
+     * @param start    the index of the first cable in the path
+     * @param length   the amount of cables
+     * @param complete if the run covers the whole segment
+     * @param forward  if the path enters the segment at its first cable
+     */
+    @Desugar
+    public record SegmentRun(@NotNull CableSegment segment, int start, int length, boolean complete,
+                             boolean forward) {}
 }
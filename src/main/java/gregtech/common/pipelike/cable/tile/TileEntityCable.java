@@ -14,6 +14,7 @@ import gregtech.client.particle.GTParticleManager;
 import gregtech.common.blocks.MetaBlocks;
 import gregtech.common.pipelike.cable.BlockCable;
 import gregtech.common.pipelike.cable.Insulation;
+import gregtech.common.pipelike.cable.net.CableSegment;
 import gregtech.common.pipelike.cable.net.EnergyNet;
 import gregtech.common.pipelike.cable.net.EnergyNetHandler;
 import gregtech.common.pipelike.cable.net.WorldENet;
@@ -103,7 +104,8 @@ public class TileEntityCable extends TileEntityMaterialPipeBase<Insulation, Wire
     }
 
     /**
-     * Should only be called internally
+     * Should only be called internally. Only used for transfers not passing the whole {@link CableSegment} of this
+     * cable, as the segment counts all other transfers.
      *
      * @return if the cable should be destroyed
      */
@@ -114,12 +116,24 @@ public class TileEntityCable extends TileEntityMaterialPipeBase<Insulation, Wire
         averageVoltageCounter.increment(getWorld(), voltage);
         averageAmperageCounter.increment(getWorld(), amps);
 
-        int dif = (int) (averageAmperageCounter.getLast(getWorld()) - getMaxAmperage());
+        CableSegment segment = getSegment();
+        if (segment != null && segment.size() > 1) {
+            segment.markPartialTransfer(getWorld());
+        }
+        return checkAmperage();
+    }
+
+    /**
+     * Heats the cable if the amperage in the current tick exceeds its limit
+     *
+     * @return if the cable should be destroyed
+     */
+    public boolean checkAmperage() {
+        int dif = (int) (getCurrentAmperage() - getMaxAmperage());
         if (dif > 0) {
             applyHeat(dif * 40);
             return true;
         }
-
         return false;
     }
 
@@ -232,16 +246,37 @@ public class TileEntityCable extends TileEntityMaterialPipeBase<Insulation, Wire
         }
     }
 
+    /**
+     * @return the segment counting the transfers through this cable, or null on the client
+     */
+    @Nullable
+    public CableSegment getSegment() {
+        EnergyNet net = getEnergyNet();
+        return net == null ? null : net.getSegment(this);
+    }
+
+    public long getCurrentAmperage() {
+        CableSegment segment = getSegment();
+        long amperage = averageAmperageCounter.getLast(getWorld());
+        return segment == null ? amperage : amperage + segment.getCurrentAmperage(getWorld());
+    }
+
     public double getAverageAmperage() {
-        return averageAmperageCounter.getAverage(getWorld());
+        CableSegment segment = getSegment();
+        double amperage = averageAmperageCounter.getAverage(getWorld());
+        return segment == null ? amperage : amperage + segment.getAverageAmperage(getWorld());
     }
 
     public long getCurrentMaxVoltage() {
-        return maxVoltageCounter.get(getWorld());
+        CableSegment segment = getSegment();
+        long voltage = maxVoltageCounter.get(getWorld());
+        return segment == null ? voltage : Math.max(voltage, segment.getCurrentMaxVoltage(getWorld(), this));
     }
 
     public double getAverageVoltage() {
-        return averageVoltageCounter.getAverage(getWorld());
+        CableSegment segment = getSegment();
+        double voltage = averageVoltageCounter.getAverage(getWorld());
+        return segment == null ? voltage : voltage + segment.getAverageVoltage(getWorld(), this);
     }
 
     public long getMaxAmperage() {
@@ -278,6 +313,13 @@ public class TileEntityCable extends TileEntityMaterialPipeBase<Insulation, Wire
         }
     }
 
+    @Override
+    public void onCoverPlacementUpdate() {
+        // cables with covers end their segment
+        EnergyNet net = getEnergyNet();
+        if (net != null) net.invalidateSegments();
+    }
+
     private EnergyNet getEnergyNet() {
         if (world == null || world.isRemote)
             return null;
@@ -1,5 +1,7 @@
 package gregtech.common.pipelike.cable.tile;
 
+import gregtech.api.util.TickProfiler;
+
 import net.minecraft.util.ITickable;
 
 public class TileEntityCableTickable extends TileEntityCable implements ITickable {
@@ -8,7 +10,9 @@ public class TileEntityCableTickable extends TileEntityCable implements ITickabl
 
     @Override
     public void update() {
+        long profilerStart = TickProfiler.start();
         getCoverableImplementation().update();
+        TickProfiler.record(TickProfiler.Category.PIPE, getClass(), world, profilerStart);
     }
 
     @Override
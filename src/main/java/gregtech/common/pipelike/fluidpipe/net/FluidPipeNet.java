@@ -3,15 +3,48 @@ package gregtech.common.pipelike.fluidpipe.net;
 import gregtech.api.pipenet.PipeNet;
 import gregtech.api.pipenet.WorldPipeNet;
 import gregtech.api.unification.material.properties.FluidPipeProperties;
+import gregtech.api.util.TickProfiler;
+import gregtech.common.ConfigHolder;
 
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.ITickable;
+import net.minecraft.util.math.BlockPos;
 
-public class FluidPipeNet extends PipeNet<FluidPipeProperties> {
+public class FluidPipeNet extends PipeNet<FluidPipeProperties> implements ITickable {
+
+    private final FluidPipeNetSolver solver = new FluidPipeNetSolver(this);
+    // whether any pipe may hold fluid, new nets start active to pick up fluid loaded from NBT
+    private boolean active = true;
 
     public FluidPipeNet(WorldPipeNet<FluidPipeProperties, FluidPipeNet> world) {
         super(world);
     }
 
+    @Override
+    public void update() {
+        if (!ConfigHolder.machines.fluidPipeNetSolver || !active) return;
+        long profilerStart = TickProfiler.start();
+        this.active = solver.solve(getWorldData());
+        TickProfiler.record(TickProfiler.Category.PIPE, getClass(), getWorldData(), profilerStart);
+    }
+
+    /**
+     * Marks this net for solving, after fluid entered one of its pipes.
+     */
+    public void markActive() {
+        this.active = true;
+    }
+
+    @Override
+    public void onNeighbourUpdate(BlockPos fromPos) {
+        markActive();
+    }
+
+    @Override
+    public void onPipeConnectionsUpdate() {
+        markActive();
+    }
+
     @Override
     protected void writeNodeData(FluidPipeProperties nodeData, NBTTagCompound tagCompound) {
         tagCompound.setInteger("max_temperature", nodeData.getMaxFluidTemperature());
@@ -0,0 +1,204 @@
+package gregtech.common.pipelike.fluidpipe.net;
+
+import gregtech.api.GTValues;
+import gregtech.common.pipelike.fluidpipe.tile.TileEntityFluidPipeTickable;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidTank;
+import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Distributes the fluid of a whole {@link FluidPipeNet} in a single pass.
+ * <p>
+ * Every pipe is ranked by its distance to the nearest pipe touching a fluid handler. Pipes are then processed from the
+ * farthest to the nearest, each pushing up to half of a tank into adjacent handlers and into neighbouring pipes closer
+ * to one. Fluid can therefore travel through many pipes in a single update, while each pipe still moves no more than
+ * it would when distributing on its own. Handlers which recently filled a pipe are not pushed back into, and covers are
+ * respected as in {@link TileEntityFluidPipeTickable#pushFluid(EnumFacing, TileEntity, int, int)}.
+ */
+final class FluidPipeNetSolver {
+
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final FluidPipeNet net;
+
+    private final List<TileEntityFluidPipeTickable> pipes = new ArrayList<>();
+    private final Long2IntOpenHashMap indexByPos = new Long2IntOpenHashMap();
+
+    // per pipe bitmasks of the sides leading to other pipes of the net and to other fluid handlers
+    private byte[] pipeSides = new byte[0];
+    private byte[] handlerSides = new byte[0];
+    private int[] distances = new int[0];
+    // pipes in order of increasing distance
+    private int[] queue = new int[0];
+
+    FluidPipeNetSolver(@NotNull FluidPipeNet net) {
+        this.net = net;
+        this.indexByPos.defaultReturnValue(-1);
+    }
+
+    /**
+     * @param world the world of the net
+     * @return if any pipe of the net still holds fluid
+     */
+    boolean solve(@NotNull World world) {
+        try {
+            if (!collectPipes(world)) return false;
+            findDistances();
+            distribute();
+            return true;
+        } finally {
+            pipes.clear();
+        }
+    }
+
+    /**
+     * @return if any collected pipe holds fluid
+     */
+    private boolean collectPipes(@NotNull World world) {
+        indexByPos.clear();
+        boolean hasFluid = false;
+        for (BlockPos pos : net.getAllNodes().keySet()) {
+            if (!world.isBlockLoaded(pos)) continue;
+            if (world.getTileEntity(pos) instanceof TileEntityFluidPipeTickable pipe) {
+                indexByPos.put(pos.toLong(), pipes.size());
+                pipes.add(pipe);
+                hasFluid |= pipe.hasContainedFluid();
+            }
+        }
+        return hasFluid;
+    }
+
+    private void findDistances() {
+        int size = pipes.size();
+        if (distances.length < size) {
+            int capacity = Math.max(size, distances.length * 2);
+            pipeSides = new byte[capacity];
+            handlerSides = new byte[capacity];
+            distances = new int[capacity];
+            queue = new int[capacity];
+        }
+
+        int tail = 0;
+        for (int i = 0; i < size; i++) {
+            TileEntityFluidPipeTickable pipe = pipes.get(i);
+            int toPipes = 0;
+            int toHandlers = 0;
+            for (EnumFacing facing : EnumFacing.VALUES) {
+                if (!pipe.isConnected(facing)) continue;
+                TileEntity neighbor = pipe.getNeighbor(facing);
+                if (neighbor == null) continue;
+                if (indexByPos.containsKey(neighbor.getPos().toLong())) {
+                    toPipes |= 1 << facing.getIndex();
+                    continue;
+                }
+                if (neighbor.hasCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, facing.getOpposite())) {
+                    toHandlers |= 1 << facing.getIndex();
+                }
+            }
+            // like the per-pipe model, do not push back into handlers which filled the pipe
+            toHandlers &= ~receivedFrom(pipe);
+            pipeSides[i] = (byte) toPipes;
+            handlerSides[i] = (byte) toHandlers;
+            if (toHandlers != 0) {
+                distances[i] = 0;
+                queue[tail++] = i;
+            } else {
+                distances[i] = UNREACHABLE;
+            }
+        }
+
+        // breadth first search outwards from the pipes next to handlers
+        for (int head = 0; head < tail; head++) {
+            int i = queue[head];
+            TileEntityFluidPipeTickable pipe = pipes.get(i);
+            for (EnumFacing facing : EnumFacing.VALUES) {
+                if ((pipeSides[i] & (1 << facing.getIndex())) == 0) continue;
+                int j = neighborIndex(pipe, facing);
+                // fluid flows from j to i, so j must be connected back
+                if (j < 0 || distances[j] != UNREACHABLE ||
+                        (pipeSides[j] & (1 << facing.getOpposite().getIndex())) == 0)
+                    continue;
+                distances[j] = distances[i] + 1;
+                queue[tail++] = j;
+            }
+        }
+        // unreachable pipes keep their fluid until a handler connects
+        Arrays.fill(queue, tail, size, -1);
+    }
+
+    /**
+     * Rolls the sides a pipe received fluid from over to the next solve.
+     *
+     * @return the sides the pipe received fluid from during this or the previous solve period
+     */
+    private static int receivedFrom(@NotNull TileEntityFluidPipeTickable pipe) {
+        int received = (pipe.lastReceivedFrom | pipe.oldLastReceivedFrom) & 63;
+        pipe.oldLastReceivedFrom = (byte) (pipe.lastReceivedFrom & 63);
+        pipe.lastReceivedFrom = 0;
+        // a pipe filled from every side has no way out, so treat it as filled from none
+        return received == 63 ? 0 : received;
+    }
+
+    private void distribute() {
+        for (int k = pipes.size() - 1; k >= 0; k--) {
+            int i = queue[k];
+            if (i < 0) continue;
+
+            TileEntityFluidPipeTickable pipe = pipes.get(i);
+            FluidTank[] tanks = pipe.getFluidTanks();
+            for (int channel = 0; channel < tanks.length; channel++) {
+                FluidStack fluid = tanks[channel].getFluid();
+                if (fluid == null || fluid.amount <= 0) continue;
+
+                // limit the outflow to what the pipe would distribute on its own
+                int budget = Math.min(pipe.getCapacityPerTank() / 2, fluid.amount);
+                budget -= push(pipe, handlerSides[i], channel, budget, -1);
+                if (budget > 0 && distances[i] > 0) {
+                    push(pipe, pipeSides[i], channel, budget, distances[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param sides    the sides to push to
+     * @param distance the distance of the pipe, to only push to pipes closer to a handler, or -1 to push to handlers
+     * @return the amount pushed
+     */
+    private int push(@NotNull TileEntityFluidPipeTickable pipe, int sides, int channel, int budget, int distance) {
+        if (sides == 0) return 0;
+        int pushed = 0;
+        // start at a random side to not favour any of them
+        for (int s = 0, offset = GTValues.RNG.nextInt(6); s < 6 && pushed < budget; s++) {
+            EnumFacing facing = EnumFacing.VALUES[(s + offset) % 6];
+            if ((sides & (1 << facing.getIndex())) == 0) continue;
+            if (distance >= 0) {
+                int j = neighborIndex(pipe, facing);
+                if (j < 0 || distances[j] >= distance) continue;
+            }
+
+            TileEntity neighbor = pipe.getNeighbor(facing);
+            if (neighbor != null) {
+                pushed += pipe.pushFluid(facing, neighbor, channel, budget - pushed);
+            }
+        }
+        return pushed;
+    }
+
+    private int neighborIndex(@NotNull TileEntityFluidPipeTickable pipe, @NotNull EnumFacing facing) {
+        TileEntity neighbor = pipe.getNeighbor(facing);
+        return neighbor == null ? -1 : indexByPos.get(neighbor.getPos().toLong());
+    }
+}
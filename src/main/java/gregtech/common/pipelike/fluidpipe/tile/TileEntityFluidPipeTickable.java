@@ -12,7 +12,10 @@ import gregtech.api.metatileentity.IDataInfoProvider;
 import gregtech.api.unification.material.properties.FluidPipeProperties;
 import gregtech.api.util.EntityDamageUtil;
 import gregtech.api.util.TextFormattingUtil;
+import gregtech.api.util.TickProfiler;
+import gregtech.common.ConfigHolder;
 import gregtech.common.covers.CoverPump;
+import gregtech.common.pipelike.fluidpipe.net.FluidPipeNet;
 import gregtech.common.pipelike.fluidpipe.net.PipeTankList;
 
 import net.minecraft.entity.EntityLivingBase;
@@ -71,9 +74,11 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
 
     @Override
     public void update() {
+        long profilerStart = TickProfiler.start();
         timer++;
         getCoverableImplementation().update();
-        if (!world.isRemote && getOffsetTimer() % FREQUENCY == 0) {
+        // the pipe net distributes the fluid of all its pipes at once
+        if (!ConfigHolder.machines.fluidPipeNetSolver && !world.isRemote && getOffsetTimer() % FREQUENCY == 0) {
             lastReceivedFrom &= 63;
             if (lastReceivedFrom == 63) {
                 lastReceivedFrom = 0;
@@ -99,6 +104,7 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
             }
             oldLastReceivedFrom = lastReceivedFrom;
         }
+        TickProfiler.record(TickProfiler.Category.PIPE, getClass(), world, profilerStart);
     }
 
     @Override
@@ -129,22 +135,8 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
                     facing.getOpposite());
             if (fluidHandler == null) continue;
 
-            IFluidHandler pipeTank = tank;
-            Cover cover = getCoverableImplementation().getCoverAtSide(facing);
-
-            // pipeTank should only be determined by the cover attached to the actual pipe
-            if (cover != null) {
-                pipeTank = cover.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, pipeTank);
-                // Shutter covers return null capability when active, so check here to prevent NPE
-                if (pipeTank == null || checkForPumpCover(cover)) continue;
-            } else {
-                CoverableView coverable = neighbor.getCapability(GregtechTileCapabilities.CAPABILITY_COVER_HOLDER,
-                        facing.getOpposite());
-                if (coverable != null) {
-                    cover = coverable.getCoverAtSide(facing.getOpposite());
-                    if (checkForPumpCover(cover)) continue;
-                }
-            }
+            IFluidHandler pipeTank = getOutputTank(facing, neighbor, tank);
+            if (pipeTank == null) continue;
 
             FluidStack drainable = pipeTank.drain(maxFluid, false);
             if (drainable == null || drainable.amount <= 0) {
@@ -195,6 +187,66 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
         }
     }
 
+    /**
+     * Moves fluid from a channel of this pipe into the neighbour at a side.
+     *
+     * @param facing    the side to push to
+     * @param neighbor  the neighbour at the side
+     * @param channel   the channel to push from
+     * @param maxAmount the maximum amount to push
+     * @return the amount of fluid moved
+     */
+    public int pushFluid(@NotNull EnumFacing facing, @NotNull TileEntity neighbor, int channel, int maxAmount) {
+        FluidTank tank = getFluidTanks()[channel];
+        FluidStack fluid = tank.getFluid();
+        if (fluid == null || fluid.amount <= 0 || maxAmount <= 0) return 0;
+
+        IFluidHandler fluidHandler = neighbor.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY,
+                facing.getOpposite());
+        if (fluidHandler == null) return 0;
+        IFluidHandler pipeTank = getOutputTank(facing, neighbor, tank);
+        if (pipeTank == null) return 0;
+
+        FluidStack toInsert = fluid.copy();
+        toInsert.amount = Math.min(maxAmount, fluid.amount);
+        FluidStack drainable = pipeTank.drain(toInsert, false);
+        if (drainable == null || drainable.amount <= 0) return 0;
+        toInsert.amount = drainable.amount;
+
+        int inserted = fluidHandler.fill(toInsert, true);
+        if (inserted > 0) {
+            pipeTank.drain(inserted, true);
+        }
+        return inserted;
+    }
+
+    /**
+     * @param facing   the side to push to
+     * @param neighbor the neighbour at the side
+     * @param tank     the tank to push from
+     * @return the handler to drain the tank through, or null if covers prevent pushing to the side
+     */
+    @Nullable
+    private IFluidHandler getOutputTank(@NotNull EnumFacing facing, @NotNull TileEntity neighbor,
+                                        @NotNull IFluidHandler tank) {
+        Cover cover = getCoverableImplementation().getCoverAtSide(facing);
+
+        // pipeTank should only be determined by the cover attached to the actual pipe
+        if (cover != null) {
+            IFluidHandler pipeTank = cover.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, tank);
+            // Shutter covers return null capability when active, so check here to prevent NPE
+            if (pipeTank == null || checkForPumpCover(cover)) return null;
+            return pipeTank;
+        }
+
+        CoverableView coverable = neighbor.getCapability(GregtechTileCapabilities.CAPABILITY_COVER_HOLDER,
+                facing.getOpposite());
+        if (coverable != null && checkForPumpCover(coverable.getCoverAtSide(facing.getOpposite()))) {
+            return null;
+        }
+        return tank;
+    }
+
     private boolean checkForPumpCover(@Nullable Cover cover) {
         if (cover instanceof CoverPump coverPump) {
             int pipeThroughput = getNodeData().getThroughput() * 20;
@@ -360,6 +412,44 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
         if (facing != null) {
             lastReceivedFrom |= (1 << facing.getIndex());
         }
+        if (ConfigHolder.machines.fluidPipeNetSolver) {
+            markPipeNetActive();
+        }
+    }
+
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        // fluid read from NBT must be picked up by the pipe net
+        if (ConfigHolder.machines.fluidPipeNetSolver && !world.isRemote) {
+            markPipeNetActive();
+        }
+    }
+
+    private void markPipeNetActive() {
+        FluidPipeNet net = getFluidPipeNet();
+        if (net != null) {
+            net.markActive();
+        }
+    }
+
+    /**
+     * Clears tanks holding no fluid.
+     *
+     * @return if any tank holds fluid
+     */
+    public boolean hasContainedFluid() {
+        boolean hasFluid = false;
+        for (FluidTank tank : getFluidTanks()) {
+            FluidStack fluid = tank.getFluid();
+            if (fluid == null) continue;
+            if (fluid.amount <= 0) {
+                tank.setFluid(null);
+            } else {
+                hasFluid = true;
+            }
+        }
+        return hasFluid;
     }
 
     public FluidStack getContainedFluid(int channel) {
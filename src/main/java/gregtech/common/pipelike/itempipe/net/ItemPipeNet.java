@@ -2,56 +2,87 @@ package gregtech.common.pipelike.itempipe.net;
 
 import gregtech.api.pipenet.Node;
 import gregtech.api.pipenet.PipeNet;
+import gregtech.api.pipenet.RoutePathCache;
 import gregtech.api.pipenet.WorldPipeNet;
+import gregtech.api.pipenet.tile.IPipeTile;
 import gregtech.api.unification.material.properties.ItemPipeProperties;
+import gregtech.api.util.FacingPos;
 
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.items.CapabilityItemHandler;
 
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 public class ItemPipeNet extends PipeNet<ItemPipeProperties> {
 
-    private final Map<BlockPos, List<ItemRoutePath>> NET_DATA = new HashMap<>();
+    // items are inserted directly from the target pipe, so only it has to stay loaded
+    private final RoutePathCache<FacingPos, ItemRoutePath> NET_DATA = new RoutePathCache<>(this,
+            CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, path -> new IPipeTile<?, ?>[] { path.getTargetPipe() });
 
     public ItemPipeNet(WorldPipeNet<ItemPipeProperties, ? extends PipeNet<ItemPipeProperties>> world) {
         super(world);
     }
 
     public List<ItemRoutePath> getNetData(BlockPos pipePos, EnumFacing facing) {
-        List<ItemRoutePath> data = NET_DATA.get(pipePos);
+        // routes depend on the side items are inserted from, as the walker never leads back through it
+        FacingPos source = new FacingPos(pipePos, facing);
+        List<ItemRoutePath> data = NET_DATA.get(source);
         if (data == null) {
+            long startTime = System.nanoTime();
             data = ItemNetWalker.createNetData(getWorldData(), pipePos, facing);
             if (data == null) {
                 // walker failed, don't cache so it tries again on next insertion
                 return Collections.emptyList();
             }
             data.sort(Comparator.comparingInt(inv -> inv.getProperties().getPriority()));
-            NET_DATA.put(pipePos, data);
+            NET_DATA.put(source, data, System.nanoTime() - startTime);
         }
         return data;
     }
 
+    /**
+     * @return the routes cached by source pipe and insertion side
+     */
+    public RoutePathCache<FacingPos, ItemRoutePath> getRouteCache() {
+        return NET_DATA;
+    }
+
     @Override
-    public void onNeighbourUpdate(BlockPos fromPos) {
+    protected void onNodeConnectionsUpdate() {
+        super.onNodeConnectionsUpdate();
         NET_DATA.clear();
     }
 
+    @Override
+    public void onNeighbourUpdate(BlockPos fromPos) {
+        NET_DATA.onNeighbourChanged(fromPos);
+    }
+
     @Override
     public void onPipeConnectionsUpdate() {
         NET_DATA.clear();
     }
 
+    @Override
+    public void onPipeConnectionsUpdate(BlockPos nodePos, EnumFacing side, boolean isBlocked) {
+        NET_DATA.onConnectionChanged(nodePos, side, isBlocked);
+    }
+
     @Override
     public void onChunkUnload() {
         NET_DATA.clear();
     }
 
+    @Override
+    public void onChunkUnload(BlockPos pipePos) {
+        NET_DATA.onPipeUnloaded(pipePos);
+    }
+
     @Override
     protected void transferNodeData(Map<BlockPos, Node<ItemPipeProperties>> transferredNodes,
                                     PipeNet<ItemPipeProperties> parentNet) {
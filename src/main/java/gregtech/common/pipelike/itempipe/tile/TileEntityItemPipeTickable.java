@@ -1,12 +1,16 @@
 package gregtech.common.pipelike.itempipe.tile;
 
+import gregtech.api.util.TickProfiler;
+
 import net.minecraft.util.ITickable;
 
 public class TileEntityItemPipeTickable extends TileEntityItemPipe implements ITickable {
 
     @Override
     public void update() {
+        long profilerStart = TickProfiler.start();
         getCoverableImplementation().update();
+        TickProfiler.record(TickProfiler.Category.PIPE, getClass(), world, profilerStart);
     }
 
     @Override
@@ -23,6 +23,11 @@ public class OpticalNetHandler implements IDataAccessHatch, IOpticalComputationP
 
     private OpticalPipeNet net;
 
+    // the net and its data version the data access version was last changed for
+    private OpticalPipeNet versionedNet;
+    private int netDataVersion;
+    private int dataAccessVersion;
+
     public OpticalNetHandler(OpticalPipeNet net, @NotNull TileEntityOpticalPipe pipe, @Nullable EnumFacing facing) {
         this.net = net;
         this.pipe = pipe;
@@ -45,6 +50,26 @@ public class OpticalNetHandler implements IDataAccessHatch, IOpticalComputationP
         return isAvailable;
     }
 
+    @Override
+    public boolean collectAvailableRecipes(@NotNull Collection<Recipe> recipes,
+                                           @NotNull Collection<IDataAccessHatch> seen) {
+        seen.add(this);
+        IOpticalDataAccessHatch hatch = getTransmitter(seen);
+        return hatch == null || hatch.collectAvailableRecipes(recipes, seen);
+    }
+
+    @Override
+    public int getDataAccessVersion() {
+        if (isNetInvalidForTraversal()) return -1;
+        // the route to the transmitter changes with the net, and whenever the net data is cleared
+        if (net != versionedNet || net.getDataVersion() != netDataVersion) {
+            versionedNet = net;
+            netDataVersion = net.getDataVersion();
+            dataAccessVersion = (dataAccessVersion + 1) & Integer.MAX_VALUE;
+        }
+        return dataAccessVersion;
+    }
+
     @Override
     public boolean isCreative() {
         return false;
@@ -80,18 +105,20 @@ public class OpticalNetHandler implements IDataAccessHatch, IOpticalComputationP
     }
 
     private boolean traverseRecipeAvailable(@NotNull Recipe recipe, @NotNull Collection<IDataAccessHatch> seen) {
-        if (isNetInvalidForTraversal()) return false;
+        IOpticalDataAccessHatch hatch = getTransmitter(seen);
+        return hatch != null && hatch.isRecipeAvailable(recipe, seen);
+    }
+
+    @Nullable
+    private IOpticalDataAccessHatch getTransmitter(@NotNull Collection<IDataAccessHatch> seen) {
+        if (isNetInvalidForTraversal()) return null;
 
         OpticalRoutePath inv = net.getNetData(pipe.getPipePos(), facing);
-        if (inv == null) return false;
+        if (inv == null) return null;
 
         IOpticalDataAccessHatch hatch = inv.getDataHatch();
-        if (hatch == null || seen.contains(hatch)) return false;
-
-        if (hatch.isTransmitter()) {
-            return hatch.isRecipeAvailable(recipe, seen);
-        }
-        return false;
+        if (hatch == null || seen.contains(hatch) || !hatch.isTransmitter()) return null;
+        return hatch;
     }
 
     private int traverseRequestCWUt(int cwut, boolean simulate, @NotNull Collection<IOpticalComputationProvider> seen) {
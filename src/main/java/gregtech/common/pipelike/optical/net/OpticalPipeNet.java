@@ -17,6 +17,7 @@ import java.util.Map;
 public class OpticalPipeNet extends PipeNet<OpticalPipeProperties> {
 
     private final Map<BlockPos, OpticalRoutePath> NET_DATA = new Object2ObjectOpenHashMap<>();
+    private int dataVersion;
 
     public OpticalPipeNet(WorldPipeNet<OpticalPipeProperties, ? extends PipeNet<OpticalPipeProperties>> world) {
         super(world);
@@ -39,25 +40,38 @@ public class OpticalPipeNet extends PipeNet<OpticalPipeProperties> {
 
     @Override
     public void onNeighbourUpdate(BlockPos fromPos) {
-        NET_DATA.clear();
+        clearNetData();
     }
 
     @Override
     public void onPipeConnectionsUpdate() {
-        NET_DATA.clear();
+        clearNetData();
     }
 
     @Override
     public void onChunkUnload() {
-        NET_DATA.clear();
+        clearNetData();
     }
 
     @Override
     protected void transferNodeData(Map<BlockPos, Node<OpticalPipeProperties>> transferredNodes,
                                     PipeNet<OpticalPipeProperties> parentNet) {
         super.transferNodeData(transferredNodes, parentNet);
+        clearNetData();
+        ((OpticalPipeNet) parentNet).clearNetData();
+    }
+
+    private void clearNetData() {
         NET_DATA.clear();
-        ((OpticalPipeNet) parentNet).NET_DATA.clear();
+        // research available through the net may have changed
+        dataVersion = (dataVersion + 1) & Integer.MAX_VALUE;
+    }
+
+    /**
+     * @return the version of the routes through this net, changing whenever they are cleared
+     */
+    public int getDataVersion() {
+        return dataVersion;
     }
 
     @Override
@@ -0,0 +1,162 @@
+package gregtech.core.network;
+
+import gregtech.api.GTValues;
+import gregtech.api.GregTechAPI;
+import gregtech.api.metatileentity.MetaTileEntity;
+import gregtech.api.metatileentity.interfaces.IGregTechTileEntity;
+import gregtech.core.network.packets.PacketCustomDataBatch;
+
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.eventhandler.EventPriority;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.network.NetworkRegistry.TargetPoint;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Collects the custom data written by synced tile entities on the server, and sends it to clients as one
+ * {@link PacketCustomDataBatch} per chunk at the end of each world tick.
+ * <p>
+ * Each entry is framed as the position in the chunk, the discriminator and the data length, followed by the data.
+ * Buffers are taken from the pooled allocator and released once sent.
+ */
+@EventBusSubscriber(modid = GTValues.MODID)
+public final class CustomDataBatcher {
+
+    private static final Map<World, Long2ObjectMap<ByteBuf>> PENDING = new HashMap<>();
+    private static final Object2LongMap<Class<?>> BYTES_BY_CLASS = new Object2LongOpenHashMap<>();
+    private static long statisticsStartTick = -1;
+
+    private static ByteBuf scratch;
+
+    private CustomDataBatcher() {}
+
+    /**
+     * @param pos the position of the tile entity
+     * @return if data of a tile entity at the position can be batched
+     */
+    public static boolean canBatch(@NotNull BlockPos pos) {
+        return pos.getY() >= 0 && pos.getY() < 256;
+    }
+
+    /**
+     * Adds custom data of a tile entity to the batch of its chunk.
+     *
+     * @param tile          the tile entity writing the data
+     * @param discriminator the discriminator of the data
+     * @param dataWriter    the writer of the data
+     */
+    public static void write(@NotNull TileEntity tile, int discriminator,
+                             @NotNull Consumer<@NotNull PacketBuffer> dataWriter) {
+        if (scratch == null) {
+            scratch = PooledByteBufAllocator.DEFAULT.heapBuffer();
+        }
+        scratch.clear();
+        dataWriter.accept(new PacketBuffer(scratch));
+
+        BlockPos pos = tile.getPos();
+        ByteBuf batch = PENDING.computeIfAbsent(tile.getWorld(), k -> new Long2ObjectOpenHashMap<>())
+                .computeIfAbsent(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4),
+                        k -> PooledByteBufAllocator.DEFAULT.heapBuffer());
+        PacketBuffer buffer = new PacketBuffer(batch);
+        buffer.writeShort((pos.getX() & 15) << 12 | (pos.getZ() & 15) << 8 | pos.getY());
+        buffer.writeVarInt(discriminator);
+        buffer.writeVarInt(scratch.readableBytes());
+        buffer.writeBytes(scratch);
+
+        recordBytes(tile, scratch.readableBytes());
+    }
+
+    /**
+     * Records custom data sent through any path for the statistics.
+     *
+     * @param tile  the tile entity the data was written by
+     * @param bytes the amount of bytes written
+     */
+    public static void recordBytes(@NotNull TileEntity tile, int bytes) {
+        Class<?> owner = tile.getClass();
+        if (tile instanceof IGregTechTileEntity gtte) {
+            MetaTileEntity mte = gtte.getMetaTileEntity();
+            if (mte != null) owner = mte.getClass();
+        }
+        if (statisticsStartTick < 0) {
+            statisticsStartTick = getServerTick();
+        }
+        BYTES_BY_CLASS.put(owner, BYTES_BY_CLASS.getLong(owner) + bytes);
+    }
+
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onWorldTick(@NotNull TickEvent.WorldTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || event.world.isRemote) return;
+        Long2ObjectMap<ByteBuf> batches = PENDING.get(event.world);
+        if (batches == null || batches.isEmpty()) return;
+
+        int dimension = event.world.provider.getDimension();
+        for (Long2ObjectMap.Entry<ByteBuf> entry : batches.long2ObjectEntrySet()) {
+            long chunk = entry.getLongKey();
+            int chunkX = (int) chunk;
+            int chunkZ = (int) (chunk >> 32);
+            ByteBuf batch = entry.getValue();
+            try {
+                GregTechAPI.networkHandler.sendToAllTracking(
+                        new PacketCustomDataBatch(dimension, chunkX, chunkZ, batch),
+                        new TargetPoint(dimension, (chunkX << 4) + 8, 0, (chunkZ << 4) + 8, 0));
+            } finally {
+                batch.release();
+            }
+        }
+        batches.clear();
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(@NotNull WorldEvent.Unload event) {
+        Long2ObjectMap<ByteBuf> batches = PENDING.remove(event.getWorld());
+        if (batches != null) {
+            batches.values().forEach(ByteBuf::release);
+        }
+    }
+
+    /**
+     * @return the bytes of custom data written per class since the last reset
+     */
+    @NotNull
+    public static Object2LongMap<Class<?>> getBytesByClass() {
+        return BYTES_BY_CLASS;
+    }
+
+    /**
+     * @return the amount of ticks the statistics were recorded for
+     */
+    public static long getStatisticsTicks() {
+        return statisticsStartTick < 0 ? 0 : Math.max(1, getServerTick() - statisticsStartTick);
+    }
+
+    public static void resetStatistics() {
+        BYTES_BY_CLASS.clear();
+        statisticsStartTick = -1;
+    }
+
+    private static long getServerTick() {
+        MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+        return server == null ? 0 : server.getTickCounter();
+    }
+}
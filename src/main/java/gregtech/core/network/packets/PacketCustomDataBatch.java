@@ -0,0 +1,83 @@
+package gregtech.core.network.packets;
+
+import gregtech.api.metatileentity.SyncedTileEntityBase;
+import gregtech.api.network.IClientExecutor;
+import gregtech.api.network.IPacket;
+import gregtech.core.network.CustomDataBatcher;
+import gregtech.core.network.NetworkUtils;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.network.NetHandlerPlayClient;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Carries the custom data of all synced tile entities in a chunk for one tick.
+ *
+ * @see CustomDataBatcher
+ */
+public class PacketCustomDataBatch implements IPacket, IClientExecutor {
+
+    private int dimension;
+    private int chunkX;
+    private int chunkZ;
+    private ByteBuf data;
+
+    @SuppressWarnings("unused")
+    public PacketCustomDataBatch() {}
+
+    public PacketCustomDataBatch(int dimension, int chunkX, int chunkZ, ByteBuf data) {
+        this.dimension = dimension;
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        this.data = data;
+    }
+
+    @Override
+    public void encode(PacketBuffer buf) {
+        buf.writeVarInt(dimension);
+        buf.writeVarInt(chunkX);
+        buf.writeVarInt(chunkZ);
+        buf.writeVarInt(data.readableBytes());
+        buf.writeBytes(data, data.readerIndex(), data.readableBytes());
+    }
+
+    @Override
+    public void decode(PacketBuffer buf) {
+        this.dimension = buf.readVarInt();
+        this.chunkX = buf.readVarInt();
+        this.chunkZ = buf.readVarInt();
+        this.data = NetworkUtils.readPacketBuffer(buf);
+    }
+
+    @SideOnly(Side.CLIENT)
+    @Override
+    public void executeClient(NetHandlerPlayClient handler) {
+        World world = Minecraft.getMinecraft().world;
+        if (world == null || world.provider.getDimension() != dimension) return;
+
+        PacketBuffer buffer = new PacketBuffer(data);
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        while (buffer.isReadable()) {
+            int packedPos = buffer.readUnsignedShort();
+            int discriminator = buffer.readVarInt();
+            int length = buffer.readVarInt();
+            int end = buffer.readerIndex() + length;
+
+            pos.setPos((chunkX << 4) | (packedPos >> 12), packedPos & 255, (chunkZ << 4) | (packedPos >> 8 & 15));
+            TileEntity tile = world.getTileEntity(pos);
+            // the tile may not exist yet or anymore, in which case its data is dropped like vanilla does
+            if (tile instanceof SyncedTileEntityBase syncedTile) {
+                ByteBuf entry = buffer.slice(buffer.readerIndex(), length);
+                syncedTile.handleCustomData(discriminator, new PacketBuffer(entry));
+            }
+            buffer.readerIndex(end);
+        }
+    }
+}
@@ -12,13 +12,11 @@ import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.metatileentity.SteamMetaTileEntity;
 import gregtech.api.metatileentity.registry.MTERegistry;
 import gregtech.api.modules.GregTechModule;
-import gregtech.api.recipes.Recipe;
 import gregtech.api.recipes.RecipeMap;
 import gregtech.api.recipes.category.GTRecipeCategory;
 import gregtech.api.recipes.category.ICategoryOverride;
 import gregtech.api.recipes.ingredients.GTRecipeOreInput;
 import gregtech.api.recipes.ingredients.IntCircuitIngredient;
-import gregtech.api.recipes.machines.IScannerRecipeMap;
 import gregtech.api.recipes.machines.RecipeMapFurnace;
 import gregtech.api.unification.material.Material;
 import gregtech.api.unification.material.properties.PropertyKey;
@@ -41,7 +39,7 @@ import gregtech.integration.jei.basic.OreByProduct;
 import gregtech.integration.jei.basic.OreByProductCategory;
 import gregtech.integration.jei.multiblock.MultiblockInfoCategory;
 import gregtech.integration.jei.recipe.FacadeRegistryPlugin;
-import gregtech.integration.jei.recipe.GTRecipeWrapper;
+import gregtech.integration.jei.recipe.GTRecipeRegistryPlugin;
 import gregtech.integration.jei.recipe.IntCircuitCategory;
 import gregtech.integration.jei.recipe.IntCircuitRecipeWrapper;
 import gregtech.integration.jei.recipe.RecipeMapCategory;
@@ -78,11 +76,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @JEIPlugin
 @GregTechModule(
@@ -167,32 +161,8 @@ public class JustEnoughItemsModule extends IntegrationSubmodule implements IModP
         registry.getRecipeTransferRegistry().addRecipeTransferHandler(craftingStationGuiHandler,
                 VanillaRecipeCategoryUid.CRAFTING);
 
-        for (RecipeMap<?> recipeMap : RecipeMap.getRecipeMaps()) {
-            if (recipeMap.getRecipeMapUI().isJEIVisible()) {
-                for (Map.Entry<GTRecipeCategory, List<Recipe>> entry : recipeMap.getRecipesByCategory().entrySet()) {
-                    Stream<Recipe> recipeStream = entry.getValue().stream()
-                            .filter(recipe -> !recipe.isHidden() && recipe.hasValidInputsForDisplay());
-
-                    if (recipeMap.getSmallRecipeMap() != null) {
-                        Collection<Recipe> smallRecipes = recipeMap.getSmallRecipeMap().getRecipeList();
-                        recipeStream = recipeStream.filter(recipe -> !smallRecipes.contains(recipe));
-                    }
-
-                    if (recipeMap instanceof IScannerRecipeMap scannerMap) {
-                        List<Recipe> scannerRecipes = scannerMap.getRepresentativeRecipes();
-                        if (!scannerRecipes.isEmpty()) {
-                            registry.addRecipes(scannerRecipes.stream()
-                                    .map(r -> new GTRecipeWrapper(recipeMap, r))
-                                    .collect(Collectors.toList()), entry.getKey().getUniqueID());
-                        }
-                    }
-
-                    registry.addRecipes(recipeStream.map(r -> new GTRecipeWrapper(recipeMap, r))
-                            .collect(Collectors.toList()),
-                            entry.getKey().getUniqueID());
-                }
-            }
-        }
+        // recipe map recipes are supplied on demand, as registering them all makes JEI load slowly
+        registry.addRecipeRegistryPlugin(new GTRecipeRegistryPlugin(registry.getIngredientRegistry()));
 
         for (MTERegistry mteRegistry : GregTechAPI.mteManager.getRegistries()) {
             for (ResourceLocation metaTileEntityId : mteRegistry.getKeys()) {
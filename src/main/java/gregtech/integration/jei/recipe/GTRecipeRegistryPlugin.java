@@ -0,0 +1,302 @@
+package gregtech.integration.jei.recipe;
+
+import gregtech.api.recipes.Recipe;
+import gregtech.api.recipes.RecipeMap;
+import gregtech.api.recipes.category.GTRecipeCategory;
+import gregtech.api.recipes.chance.output.impl.ChancedFluidOutput;
+import gregtech.api.recipes.chance.output.impl.ChancedItemOutput;
+import gregtech.api.recipes.ingredients.GTRecipeInput;
+import gregtech.api.recipes.machines.IScannerRecipeMap;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+import com.github.bsideup.jabel.Desugar;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import mezz.jei.api.ingredients.IIngredientHelper;
+import mezz.jei.api.ingredients.IIngredientRegistry;
+import mezz.jei.api.ingredients.VanillaTypes;
+import mezz.jei.api.recipe.IFocus;
+import mezz.jei.api.recipe.IRecipeCategory;
+import mezz.jei.api.recipe.IRecipeRegistryPlugin;
+import mezz.jei.api.recipe.IRecipeWrapper;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Supplies the recipes of all RecipeMaps to JEI on demand.
+ * <p>
+ * Registering a wrapper for every recipe makes JEI read and index the ingredients of all of them while loading. This
+ * only indexes the recipes of each category by the items and fluids they display, and creates the wrappers when JEI
+ * looks up a focus or shows a category. Each wrapper is created once and kept, as JEI copies the wrappers of a
+ * category into a new list every time it is shown.
+ */
+public class GTRecipeRegistryPlugin implements IRecipeRegistryPlugin {
+
+    private final IIngredientHelper<ItemStack> itemHelper;
+    private final Map<IndexedRecipe, GTRecipeWrapper> wrappers = new Object2ObjectOpenHashMap<>();
+
+    private final Map<String, CategoryRecipes> categories = new Object2ObjectOpenHashMap<>();
+    private final Map<Item, List<IndexedRecipe>> itemInputs = new Object2ObjectOpenHashMap<>();
+    private final Map<Item, List<IndexedRecipe>> itemOutputs = new Object2ObjectOpenHashMap<>();
+    private final Map<Fluid, List<IndexedRecipe>> fluidInputs = new Object2ObjectOpenHashMap<>();
+    private final Map<Fluid, List<IndexedRecipe>> fluidOutputs = new Object2ObjectOpenHashMap<>();
+
+    // JEI looks up the categories of a focus, and then the recipes of each category with the same focus
+    private FocusKey lastFocus;
+    private Map<CategoryRecipes, List<IndexedRecipe>> lastFocusRecipes;
+
+    public GTRecipeRegistryPlugin(@NotNull IIngredientRegistry ingredientRegistry) {
+        this.itemHelper = ingredientRegistry.getIngredientHelper(VanillaTypes.ITEM);
+
+        for (RecipeMap<?> recipeMap : RecipeMap.getRecipeMaps()) {
+            if (!recipeMap.getRecipeMapUI().isJEIVisible()) continue;
+
+            Set<Recipe> smallRecipes = recipeMap.getSmallRecipeMap() == null ? Collections.emptySet() :
+                    new ObjectOpenHashSet<>(recipeMap.getSmallRecipeMap().getRecipeList());
+            for (Map.Entry<GTRecipeCategory, List<Recipe>> entry : recipeMap.getRecipesByCategory().entrySet()) {
+                List<Recipe> recipes = new ArrayList<>();
+                if (recipeMap instanceof IScannerRecipeMap scannerMap) {
+                    recipes.addAll(scannerMap.getRepresentativeRecipes());
+                }
+                for (Recipe recipe : entry.getValue()) {
+                    if (!recipe.isHidden() && recipe.hasValidInputsForDisplay() && !smallRecipes.contains(recipe)) {
+                        recipes.add(recipe);
+                    }
+                }
+
+                String uid = entry.getKey().getUniqueID();
+                CategoryRecipes categoryRecipes = new CategoryRecipes(uid, recipeMap, new ArrayList<>(recipes.size()));
+                categories.put(uid, categoryRecipes);
+                for (Recipe recipe : recipes) {
+                    IndexedRecipe indexed = new IndexedRecipe(categoryRecipes, recipe,
+                            getItemOutputs(recipeMap, recipe));
+                    categoryRecipes.recipes().add(indexed);
+                    index(indexed);
+                }
+            }
+        }
+    }
+
+    private void index(@NotNull IndexedRecipe indexed) {
+        Recipe recipe = indexed.recipe();
+        for (GTRecipeInput input : recipe.getInputs()) {
+            for (ItemStack stack : input.getInputStacks()) {
+                add(itemInputs, stack.getItem(), indexed);
+            }
+        }
+        for (GTRecipeInput input : recipe.getFluidInputs()) {
+            FluidStack stack = input.getInputFluidStack();
+            if (stack != null) add(fluidInputs, stack.getFluid(), indexed);
+        }
+        for (ItemStack stack : indexed.itemOutputs()) {
+            add(itemOutputs, stack.getItem(), indexed);
+        }
+        for (FluidStack stack : getFluidOutputs(recipe)) {
+            add(fluidOutputs, stack.getFluid(), indexed);
+        }
+    }
+
+    private static <K> void add(@NotNull Map<K, List<IndexedRecipe>> index, @NotNull K key,
+                                @NotNull IndexedRecipe indexed) {
+        List<IndexedRecipe> recipes = index.computeIfAbsent(key, k -> new ObjectArrayList<>(1));
+        // the ingredients of a recipe are indexed one after another, so duplicates are always last
+        if (recipes.isEmpty() || recipes.get(recipes.size() - 1) != indexed) {
+            recipes.add(indexed);
+        }
+    }
+
+    /**
+     * @return the item outputs displayed by {@link GTRecipeWrapper}
+     */
+    @NotNull
+    private static List<ItemStack> getItemOutputs(@NotNull RecipeMap<?> recipeMap, @NotNull Recipe recipe) {
+        if (recipeMap instanceof IScannerRecipeMap) {
+            List<ItemStack> scannerPossibilities = GTRecipeWrapper.getScannerPossibilities(recipe);
+            if (!scannerPossibilities.isEmpty()) return scannerPossibilities;
+        }
+        List<ItemStack> outputs = new ArrayList<>(recipe.getOutputs());
+        for (ChancedItemOutput output : recipe.getChancedOutputs().getChancedEntries()) {
+            outputs.add(output.getIngredient());
+        }
+        return outputs;
+    }
+
+    /**
+     * @return the fluid outputs displayed by {@link GTRecipeWrapper}
+     */
+    @NotNull
+    private static List<FluidStack> getFluidOutputs(@NotNull Recipe recipe) {
+        List<FluidStack> outputs = new ArrayList<>(recipe.getFluidOutputs());
+        for (ChancedFluidOutput output : recipe.getChancedFluidOutputs().getChancedEntries()) {
+            outputs.add(output.getIngredient());
+        }
+        return outputs;
+    }
+
+    /**
+     * @return the recipes displaying the focused ingredient by category, in the order they were indexed
+     */
+    @NotNull
+    private <V> Map<CategoryRecipes, List<IndexedRecipe>> findRecipes(@NotNull IFocus<V> focus) {
+        V value = focus.getValue();
+        boolean input = focus.getMode() == IFocus.Mode.INPUT;
+        FocusKey key;
+        if (value instanceof ItemStack focusStack) {
+            if (focusStack.isEmpty()) return Collections.emptyMap();
+            key = new FocusKey(focus.getMode(), itemHelper.getUniqueId(focusStack));
+        } else if (value instanceof FluidStack focusStack) {
+            // fluids are only told apart by their fluid
+            key = new FocusKey(focus.getMode(), focusStack.getFluid());
+        } else {
+            return Collections.emptyMap();
+        }
+        if (key.equals(lastFocus)) return lastFocusRecipes;
+
+        List<IndexedRecipe> candidates;
+        Predicate<IndexedRecipe> filter;
+        if (value instanceof ItemStack focusStack) {
+            candidates = (input ? itemInputs : itemOutputs).get(focusStack.getItem());
+            String uid = (String) key.value();
+            Predicate<ItemStack> matcher = stack -> !stack.isEmpty() && stack.getItem() == focusStack.getItem() &&
+                    (stack.getMetadata() == OreDictionary.WILDCARD_VALUE || uid.equals(itemHelper.getUniqueId(stack)));
+            filter = input ? indexed -> anyInputMatches(indexed.recipe(), matcher) :
+                    indexed -> anyMatches(indexed.itemOutputs(), matcher);
+        } else {
+            candidates = (input ? fluidInputs : fluidOutputs).get(((FluidStack) value).getFluid());
+            filter = indexed -> true;
+        }
+
+        Map<CategoryRecipes, List<IndexedRecipe>> recipes = new Object2ObjectLinkedOpenHashMap<>();
+        if (candidates != null) {
+            for (IndexedRecipe indexed : candidates) {
+                if (filter.test(indexed)) {
+                    recipes.computeIfAbsent(indexed.category(), k -> new ArrayList<>()).add(indexed);
+                }
+            }
+        }
+        this.lastFocus = key;
+        this.lastFocusRecipes = recipes;
+        return recipes;
+    }
+
+    private static boolean anyInputMatches(@NotNull Recipe recipe, @NotNull Predicate<ItemStack> matcher) {
+        for (GTRecipeInput input : recipe.getInputs()) {
+            for (ItemStack stack : input.getInputStacks()) {
+                if (matcher.test(stack)) return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean anyMatches(@NotNull List<ItemStack> stacks, @NotNull Predicate<ItemStack> matcher) {
+        for (ItemStack stack : stacks) {
+            if (matcher.test(stack)) return true;
+        }
+        return false;
+    }
+
+    @NotNull
+    private GTRecipeWrapper getWrapper(@NotNull IndexedRecipe indexed) {
+        return wrappers.computeIfAbsent(indexed,
+                k -> new GTRecipeWrapper(indexed.category().recipeMap(), indexed.recipe()));
+    }
+
+    @NotNull
+    @Override
+    public <V> List<String> getRecipeCategoryUids(@NotNull IFocus<V> focus) {
+        List<String> uids = new ArrayList<>();
+        for (CategoryRecipes categoryRecipes : findRecipes(focus).keySet()) {
+            uids.add(categoryRecipes.uid());
+        }
+        return uids;
+    }
+
+    @NotNull
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends IRecipeWrapper, V> List<T> getRecipeWrappers(@NotNull IRecipeCategory<T> recipeCategory,
+                                                                   @NotNull IFocus<V> focus) {
+        CategoryRecipes categoryRecipes = categories.get(recipeCategory.getUid());
+        if (categoryRecipes == null) return Collections.emptyList();
+
+        List<IndexedRecipe> recipes = findRecipes(focus).get(categoryRecipes);
+        if (recipes == null) return Collections.emptyList();
+        return (List<T>) getWrappers(recipes);
+    }
+
+    @NotNull
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends IRecipeWrapper> List<T> getRecipeWrappers(@NotNull IRecipeCategory<T> recipeCategory) {
+        CategoryRecipes categoryRecipes = categories.get(recipeCategory.getUid());
+        if (categoryRecipes == null) return Collections.emptyList();
+
+        // JEI copies every wrapper of the category right away, so they are created once the category is shown
+        return (List<T>) getWrappers(categoryRecipes.recipes());
+    }
+
+    @NotNull
+    private List<GTRecipeWrapper> getWrappers(@NotNull List<IndexedRecipe> recipes) {
+        List<GTRecipeWrapper> wrappers = new ArrayList<>(recipes.size());
+        for (IndexedRecipe indexed : recipes) {
+            wrappers.add(getWrapper(indexed));
+        }
+        return wrappers;
+    }
+
+    /**
+     * Categories are only equal to themselves, as each is created once.
+     */
+    @Desugar
+    private record CategoryRecipes(@NotNull String uid, @NotNull RecipeMap<?> recipeMap,
+                                   @NotNull List<IndexedRecipe> recipes) {
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+
+    /**
+     * Indexed recipes are only equal to themselves, as each is created once.
+     */
+    @Desugar
+    private record IndexedRecipe(@NotNull CategoryRecipes category, @NotNull Recipe recipe,
+                                 @NotNull List<ItemStack> itemOutputs) {
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+
+    /**
+     * @param mode  the mode of the focus
+     * @param value the unique id of a focused item, or the focused fluid
+     */
+    @Desugar
+    private record FocusKey(@NotNull IFocus.Mode mode, @NotNull Object value) {}
+}
@@ -104,33 +104,7 @@ public class GTRecipeWrapper extends AdvancedRecipeWrapper {
 
             List<ItemStack> scannerPossibilities = null;
             if (this.recipeMap instanceof IScannerRecipeMap) {
-                scannerPossibilities = new ArrayList<>();
-                // Scanner Output replacing, used for cycling research outputs
-                String researchId = null;
-                for (ItemStack stack : recipe.getOutputs()) {
-                    researchId = AssemblyLineManager.readResearchId(stack);
-                    if (researchId != null) break;
-                }
-                if (researchId != null) {
-                    Collection<Recipe> possibleRecipes = ((IResearchRecipeMap) RecipeMaps.ASSEMBLY_LINE_RECIPES)
-                            .getDataStickEntry(researchId);
-                    if (possibleRecipes != null) {
-                        for (Recipe r : possibleRecipes) {
-                            ItemStack researchItem = r.getOutputs().get(0);
-                            researchItem = researchItem.copy();
-                            researchItem.setCount(1);
-                            boolean didMatch = false;
-                            for (ItemStack stack : scannerPossibilities) {
-                                if (ItemStack.areItemStacksEqual(stack, researchItem)) {
-                                    didMatch = true;
-                                    break;
-                                }
-                            }
-                            if (!didMatch) scannerPossibilities.add(researchItem);
-                        }
-                    }
-                    scannerPossibilities.add(recipeOutputs.get(0));
-                }
+                scannerPossibilities = getScannerPossibilities(recipe);
             }
 
             List<ChancedItemOutput> chancedOutputs = new ArrayList<>(recipe.getChancedOutputs().getChancedEntries());
@@ -161,6 +135,44 @@ public class GTRecipeWrapper extends AdvancedRecipeWrapper {
         }
     }
 
+    /**
+     * Scanner Output replacing, used for cycling research outputs
+     *
+     * @param recipe the scanner recipe
+     * @return the research items the recipe can output, followed by its actual output, or an empty list if it does
+     *         not output research
+     */
+    @NotNull
+    static List<ItemStack> getScannerPossibilities(@NotNull Recipe recipe) {
+        List<ItemStack> scannerPossibilities = new ArrayList<>();
+        String researchId = null;
+        for (ItemStack stack : recipe.getOutputs()) {
+            researchId = AssemblyLineManager.readResearchId(stack);
+            if (researchId != null) break;
+        }
+        if (researchId != null) {
+            Collection<Recipe> possibleRecipes = ((IResearchRecipeMap) RecipeMaps.ASSEMBLY_LINE_RECIPES)
+                    .getDataStickEntry(researchId);
+            if (possibleRecipes != null) {
+                for (Recipe r : possibleRecipes) {
+                    ItemStack researchItem = r.getOutputs().get(0);
+                    researchItem = researchItem.copy();
+                    researchItem.setCount(1);
+                    boolean didMatch = false;
+                    for (ItemStack stack : scannerPossibilities) {
+                        if (ItemStack.areItemStacksEqual(stack, researchItem)) {
+                            didMatch = true;
+                            break;
+                        }
+                    }
+                    if (!didMatch) scannerPossibilities.add(researchItem);
+                }
+            }
+            scannerPossibilities.add(recipe.getOutputs().get(0).copy());
+        }
+        return scannerPossibilities;
+    }
+
     public void addItemTooltip(int slotIndex, boolean input, Object ingredient, List<String> tooltip) {
         boolean notConsumed = input && isNotConsumedItem(slotIndex);
 
@@ -0,0 +1,14 @@
+package gregtech.mixins.minecraft;
+
+import net.minecraft.world.chunk.BlockStateContainer;
+import net.minecraft.world.chunk.IBlockStatePalette;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+@Mixin(BlockStateContainer.class)
+public interface BlockStateContainerAccessor {
+
+    @Accessor("palette")
+    IBlockStatePalette getPalette();
+}
@@ -0,0 +1,49 @@
+package gregtech.mixins.minecraft;
+
+import gregtech.api.metatileentity.multiblock.MultiblockStructureIndex;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(Chunk.class)
+public class ChunkMixin {
+
+    @Shadow
+    @Final
+    private World world;
+
+    @Inject(method = "setBlockState", at = @At("RETURN"))
+    private void notifyStructureIndexOnBlockChange(BlockPos pos, IBlockState state,
+                                                   CallbackInfoReturnable<IBlockState> cir) {
+        // a null return value means the block did not change
+        if (cir.getReturnValue() != null && !world.isRemote) {
+            MultiblockStructureIndex.onBlockChanged(world, pos);
+        }
+    }
+
+    @Inject(method = "addTileEntity(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/tileentity/TileEntity;)V",
+            at = @At("TAIL"))
+    private void notifyStructureIndexOnTileEntityAdd(BlockPos pos, TileEntity tileEntity, CallbackInfo ci) {
+        if (!world.isRemote) {
+            MultiblockStructureIndex.onBlockChanged(world, pos);
+        }
+    }
+
+    @Inject(method = "removeTileEntity", at = @At("HEAD"))
+    private void notifyStructureIndexOnTileEntityRemove(BlockPos pos, CallbackInfo ci) {
+        if (!world.isRemote) {
+            MultiblockStructureIndex.onBlockChanged(world, pos);
+        }
+    }
+}
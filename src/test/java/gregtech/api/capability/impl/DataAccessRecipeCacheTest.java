@@ -0,0 +1,250 @@
+package gregtech.api.capability.impl;
+
+import gregtech.Bootstrap;
+import gregtech.api.capability.IDataAccessHatch;
+import gregtech.api.recipes.Recipe;
+import gregtech.api.recipes.RecipeMaps;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DataAccessRecipeCacheTest {
+
+    private static Recipe first;
+    private static Recipe second;
+    private static Recipe third;
+
+    @BeforeAll
+    public static void bootstrap() {
+        Bootstrap.perform();
+        first = recipe(new ItemStack(Items.IRON_INGOT));
+        second = recipe(new ItemStack(Items.GOLD_INGOT));
+        third = recipe(new ItemStack(Items.DIAMOND));
+    }
+
+    private static Recipe recipe(ItemStack output) {
+        return RecipeMaps.ASSEMBLER_RECIPES.recipeBuilder()
+                .inputs(new ItemStack(Items.STICK))
+                .outputs(output)
+                .EUt(30).duration(100)
+                .build().getResult();
+    }
+
+    @Test
+    public void testSwapDataStick() {
+        DataHatch hatch = new DataHatch(first);
+        Connection connection = new Connection(hatch, new DataHatch(second));
+        DataAccessRecipeCache cache = new DataAccessRecipeCache(connection);
+
+        cache.update();
+        assertThat(cache.isComplete(), is(true));
+        assertThat(cache.contains(first), is(true));
+        assertThat(cache.contains(second), is(true));
+        assertThat(cache.contains(third), is(false));
+
+        hatch.swap(third);
+        assertThat(cache.isValid(), is(false));
+        cache.update();
+        assertThat(cache.contains(first), is(false));
+        assertThat(cache.contains(third), is(true));
+        assertThat(cache.isValid(), is(true));
+    }
+
+    @Test
+    public void testBreakPipe() {
+        Connection pipe = new Connection(new DataHatch(first));
+        DataAccessRecipeCache cache = new DataAccessRecipeCache(new Connection(pipe, new DataHatch(second)));
+
+        cache.update();
+        assertThat(cache.contains(first), is(true));
+
+        pipe.disconnect();
+        assertThat(cache.isValid(), is(false));
+        cache.update();
+        assertThat(cache.contains(first), is(false));
+        assertThat(cache.contains(second), is(true));
+    }
+
+    @Test
+    public void testUnrelatedChanges() {
+        DataHatch shared = new DataHatch(first);
+        DataHatch firstOnly = new DataHatch(second);
+        DataHatch unconnected = new DataHatch(third);
+        DataAccessRecipeCache firstCache = new DataAccessRecipeCache(new Connection(shared, firstOnly));
+        DataAccessRecipeCache secondCache = new DataAccessRecipeCache(new Connection(shared));
+        firstCache.update();
+        secondCache.update();
+
+        // only caches collected through a changed hatch are invalidated
+        unconnected.swap(first);
+        assertThat(firstCache.isValid(), is(true));
+        assertThat(secondCache.isValid(), is(true));
+
+        firstOnly.swap(third);
+        assertThat(firstCache.isValid(), is(false));
+        assertThat(secondCache.isValid(), is(true));
+
+        shared.swap(second);
+        assertThat(secondCache.isValid(), is(false));
+    }
+
+    @Test
+    public void testChainedCaches() {
+        DataHatch hatch = new DataHatch(first);
+        CachingConnection transmitter = new CachingConnection(hatch);
+        DataAccessRecipeCache cache = new DataAccessRecipeCache(new Connection(transmitter));
+
+        // collected from the cache of the transmitter, which still has to carry its hatches along
+        transmitter.cache.update();
+        cache.update();
+        assertThat(cache.contains(first), is(true));
+
+        hatch.swap(second);
+        assertThat(cache.isValid(), is(false));
+        cache.update();
+        assertThat(cache.contains(second), is(true));
+        assertThat(transmitter.cache.isValid(), is(false));
+    }
+
+    @Test
+    public void testUntrackedHatch() {
+        IDataAccessHatch untracked = new DataHatch(first) {
+
+            @Override
+            public int getDataAccessVersion() {
+                return -1;
+            }
+        };
+        DataAccessRecipeCache cache = new DataAccessRecipeCache(new Connection(untracked, new DataHatch(second)));
+
+        cache.update();
+        assertThat(cache.isComplete(), is(false));
+    }
+
+    /**
+     * A hatch holding the recipes of its data items.
+     */
+    private static class DataHatch implements IDataAccessHatch {
+
+        private final Set<Recipe> recipes = new ObjectOpenHashSet<>();
+        private int version;
+
+        private DataHatch(@NotNull Recipe... recipes) {
+            this.recipes.addAll(Arrays.asList(recipes));
+        }
+
+        private void swap(@NotNull Recipe... recipes) {
+            this.recipes.clear();
+            this.recipes.addAll(Arrays.asList(recipes));
+            version++;
+        }
+
+        @Override
+        public boolean isRecipeAvailable(@NotNull Recipe recipe, @NotNull Collection<IDataAccessHatch> seen) {
+            seen.add(this);
+            return recipes.contains(recipe);
+        }
+
+        @Override
+        public boolean collectAvailableRecipes(@NotNull Collection<Recipe> recipes,
+                                               @NotNull Collection<IDataAccessHatch> seen) {
+            seen.add(this);
+            recipes.addAll(this.recipes);
+            return true;
+        }
+
+        @Override
+        public int getDataAccessVersion() {
+            return version;
+        }
+
+        @Override
+        public boolean isCreative() {
+            return false;
+        }
+    }
+
+    /**
+     * Leads to other hatches, like a data bank or an optical pipe.
+     */
+    private static class Connection implements IDataAccessHatch {
+
+        private final List<IDataAccessHatch> hatches;
+        private int version;
+
+        private Connection(@NotNull IDataAccessHatch... hatches) {
+            this.hatches = new ArrayList<>(Arrays.asList(hatches));
+        }
+
+        private void disconnect() {
+            hatches.clear();
+            version++;
+        }
+
+        @Override
+        public boolean isRecipeAvailable(@NotNull Recipe recipe, @NotNull Collection<IDataAccessHatch> seen) {
+            seen.add(this);
+            for (IDataAccessHatch hatch : hatches) {
+                if (!seen.contains(hatch) && hatch.isRecipeAvailable(recipe, seen)) return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean collectAvailableRecipes(@NotNull Collection<Recipe> recipes,
+                                               @NotNull Collection<IDataAccessHatch> seen) {
+            seen.add(this);
+            boolean complete = true;
+            for (IDataAccessHatch hatch : hatches) {
+                if (!seen.contains(hatch) && !hatch.collectAvailableRecipes(recipes, seen)) complete = false;
+            }
+            return complete;
+        }
+
+        @Override
+        public int getDataAccessVersion() {
+            return version;
+        }
+
+        @Override
+        public boolean isCreative() {
+            return false;
+        }
+    }
+
+    /**
+     * Caches the recipes it leads to, like an optical data transmitter.
+     */
+    private static class CachingConnection extends Connection {
+
+        private final DataAccessRecipeCache cache = new DataAccessRecipeCache(this);
+
+        private CachingConnection(@NotNull IDataAccessHatch... hatches) {
+            super(hatches);
+        }
+
+        @Override
+        public boolean collectAvailableRecipes(@NotNull Collection<Recipe> recipes,
+                                               @NotNull Collection<IDataAccessHatch> seen) {
+            if (cache.isValid()) {
+                seen.add(this);
+                return cache.collect(recipes, seen);
+            }
+            return super.collectAvailableRecipes(recipes, seen);
+        }
+    }
+}
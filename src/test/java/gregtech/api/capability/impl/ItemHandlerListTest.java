@@ -0,0 +1,139 @@
+package gregtech.api.capability.impl;
+
+import gregtech.Bootstrap;
+import gregtech.api.metatileentity.MetaTileEntity;
+import gregtech.api.metatileentity.interfaces.IGregTechTileEntity;
+import gregtech.api.util.GTTransferUtils;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemStackHandler;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static gregtech.api.GTValues.MODID;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ItemHandlerListTest {
+
+    private static MetaTileEntity dummyMTE;
+
+    @BeforeAll
+    public static void prepare() {
+        Bootstrap.perform();
+        dummyMTE = new MetaTileEntity(new ResourceLocation(MODID, "dummy")) {
+
+            @Override
+            public MetaTileEntity createMetaTileEntity(IGregTechTileEntity tileEntity) {
+                return dummyMTE;
+            }
+        };
+    }
+
+    private static NotifiableItemStackHandler notifiable(int slots) {
+        return new NotifiableItemStackHandler(dummyMTE, slots, null, false);
+    }
+
+    private static ItemHandlerList list(IItemHandler... handlers) {
+        return new ItemHandlerList(Arrays.asList(handlers));
+    }
+
+    private static IntList slots(int... slots) {
+        return IntArrayList.wrap(slots);
+    }
+
+    @Test
+    public void testSlotMapping() {
+        NotifiableItemStackHandler first = notifiable(2);
+        ItemStackHandler second = new ItemStackHandler(3);
+        ItemHandlerList list = list(first, second);
+        second.setStackInSlot(1, new ItemStack(Items.IRON_INGOT, 5));
+
+        assertThat(list.getSlots(), is(5));
+        assertThat(list.getStackInSlot(3).getCount(), is(5));
+        list.setStackInSlot(1, new ItemStack(Items.GOLD_INGOT));
+        assertThat(first.getStackInSlot(1).getItem(), is(Items.GOLD_INGOT));
+    }
+
+    @Test
+    public void testInsert() {
+        NotifiableItemStackHandler first = notifiable(2);
+        ItemStackHandler second = new ItemStackHandler(2);
+        NotifiableItemStackHandler third = notifiable(2);
+        ItemHandlerList list = list(first, second, third);
+        first.setStackInSlot(0, new ItemStack(Items.GOLD_INGOT, 64));
+        third.setStackInSlot(1, new ItemStack(Items.IRON_INGOT, 60));
+
+        // the partial stack is filled before any empty slot is used
+        ItemStack remainder = GTTransferUtils.insertItem(list, new ItemStack(Items.IRON_INGOT, 10), false);
+        assertThat(remainder.isEmpty(), is(true));
+        assertThat(third.getStackInSlot(1).getCount(), is(64));
+        assertThat(first.getStackInSlot(1).getCount(), is(6));
+        assertThat(list.findSlots(new ItemStack(Items.IRON_INGOT), false), is(slots(1, 2, 3, 5)));
+
+        // only the slots of the handler without a contents version remain for other items
+        assertThat(list.findSlots(new ItemStack(Items.DIAMOND), false), is(slots(2, 3)));
+        assertThat(list.findSlots(new ItemStack(Items.DIAMOND), true), is(slots(2, 3, 4)));
+
+        remainder = GTTransferUtils.insertItem(list, new ItemStack(Items.DIAMOND, 64 * 4), false);
+        assertThat(remainder.getCount(), is(64));
+        assertThat(third.getStackInSlot(0).getItem(), is(Items.DIAMOND));
+        assertThat(list.findSlots(new ItemStack(Items.DIAMOND), true), is(slots(2, 3, 4)));
+    }
+
+    @Test
+    public void testExtract() {
+        NotifiableItemStackHandler first = notifiable(3);
+        ItemStackHandler second = new ItemStackHandler(1);
+        ItemHandlerList list = list(first, list(second, notifiable(1)));
+        first.setStackInSlot(0, new ItemStack(Items.IRON_INGOT, 10));
+        first.setStackInSlot(1, new ItemStack(Items.GOLD_INGOT, 10));
+        first.setStackInSlot(2, new ItemStack(Items.IRON_INGOT, 10));
+        second.setStackInSlot(0, new ItemStack(Items.IRON_INGOT, 10));
+
+        assertThat(GTTransferUtils.extractItem(list, new ItemStack(Items.IRON_INGOT), 25, true), is(25));
+        assertThat(first.getStackInSlot(0).getCount(), is(10));
+
+        assertThat(GTTransferUtils.extractItem(list, new ItemStack(Items.IRON_INGOT), 25, false), is(25));
+        assertThat(first.getStackInSlot(0).isEmpty(), is(true));
+        assertThat(first.getStackInSlot(1).getCount(), is(10));
+        assertThat(first.getStackInSlot(2).isEmpty(), is(true));
+        assertThat(second.getStackInSlot(0).getCount(), is(5));
+
+        assertThat(GTTransferUtils.extractItem(list, new ItemStack(Items.IRON_INGOT), 25, false), is(5));
+        assertThat(GTTransferUtils.extractItem(list, new ItemStack(Items.DIAMOND), 25, false), is(0));
+        assertThat(list.findSlots(new ItemStack(Items.IRON_INGOT), true), is(slots(0, 2, 3, 4)));
+    }
+
+    @Test
+    public void testInPlaceMutation() {
+        NotifiableItemStackHandler handler = notifiable(2);
+        ItemHandlerList list = list(handler);
+        handler.setStackInSlot(0, new ItemStack(Items.IRON_INGOT, 64));
+        handler.setStackInSlot(1, new ItemStack(Items.GOLD_INGOT, 64));
+        assertThat(GTTransferUtils.insertItem(list, new ItemStack(Items.DIAMOND), true).getCount(), is(1));
+
+        // recipe matching consumes inputs by shrinking the stacks without notifying the handler
+        handler.getStackInSlot(0).setCount(0);
+        handler.getStackInSlot(1).shrink(1);
+
+        assertThat(GTTransferUtils.insertItem(list, new ItemStack(Items.DIAMOND), false).isEmpty(), is(true));
+        assertThat(handler.getStackInSlot(0).getItem(), is(Items.DIAMOND));
+        assertThat(GTTransferUtils.insertItem(list, new ItemStack(Items.GOLD_INGOT), false).isEmpty(), is(true));
+        assertThat(handler.getStackInSlot(1).getCount(), is(64));
+
+        // looking up the previous type of a slot emptied in place finds it empty
+        assertThat(list.findSlots(new ItemStack(Items.DIAMOND), false), is(slots(0)));
+        handler.getStackInSlot(0).setCount(0);
+        assertThat(list.findSlots(new ItemStack(Items.DIAMOND), false).isEmpty(), is(true));
+        assertThat(list.findSlots(new ItemStack(Items.IRON_INGOT), true), is(slots(0)));
+    }
+}
@@ -0,0 +1,22 @@
+package gregtech.api.recipes;
+
+import gregtech.common.ConfigHolder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+
+/**
+ * Runs all {@link RecipeMapTest} cases against the compiled recipe lookup.
+ */
+public class CompiledRecipeMapTest extends RecipeMapTest {
+
+    @BeforeEach
+    public void enableCompiledLookup() {
+        ConfigHolder.recipes.compiledRecipeLookup = true;
+    }
+
+    @AfterEach
+    public void disableCompiledLookup() {
+        ConfigHolder.recipes.compiledRecipeLookup = false;
+    }
+}
@@ -7,6 +7,9 @@ import gregtech.api.recipes.map.AbstractMapIngredient;
 import gregtech.api.recipes.map.MapFluidIngredient;
 import gregtech.api.recipes.map.MapItemStackIngredient;
 import gregtech.api.recipes.map.MapOreDictIngredient;
+import gregtech.api.recipes.map.RecipeSearchCache;
+import gregtech.api.recipes.map.RecipeSearchCoalescer;
+import gregtech.common.ConfigHolder;
 
 import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
@@ -272,4 +275,55 @@ public class RecipeMapTest {
             MatcherAssert.assertThat(recipe, notNullValue());
         }
     }
+
+    @Test
+    public void searchCacheIgnoresAmounts() {
+        ConfigHolder.recipes.recipeSearchCacheSize = 16;
+        try {
+            RecipeSearchCache cache = map.getSearchCache();
+            MatcherAssert.assertThat(cache, notNullValue());
+
+            // no recipe uses dirt, so the miss is cached regardless of amount
+            MatcherAssert.assertThat(map.findRecipe(30, Collections.singletonList(new ItemStack(Blocks.DIRT, 1)),
+                    Collections.emptyList()), nullValue());
+            MatcherAssert.assertThat(map.findRecipe(30, Collections.singletonList(new ItemStack(Blocks.DIRT, 7)),
+                    Collections.emptyList()), nullValue());
+            MatcherAssert.assertThat(cache.getHits(), is(1L));
+
+            Recipe r = map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.COBBLESTONE, 1)),
+                    Collections.emptyList());
+            MatcherAssert.assertThat(r, notNullValue());
+            // found recipes are searched for again, as they may depend on amounts
+            MatcherAssert.assertThat(map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.COBBLESTONE, 5)),
+                    Collections.emptyList()), is(r));
+            MatcherAssert.assertThat(cache.getHits(), is(1L));
+
+            // changing the recipes invalidates the cache
+            MatcherAssert.assertThat(cache.size(), is(1));
+            MatcherAssert.assertThat(map.removeRecipe(r), is(true));
+            MatcherAssert.assertThat(cache.size(), is(0));
+        } finally {
+            ConfigHolder.recipes.recipeSearchCacheSize = 0;
+        }
+    }
+
+    @Test
+    public void searchCoalescingNeedsServer() {
+        ConfigHolder.recipes.coalesceRecipeSearches = true;
+        try {
+            RecipeSearchCoalescer coalescer = map.getSearchCoalescer();
+            MatcherAssert.assertThat(coalescer, notNullValue());
+
+            // without a server there is no tick to discard results by, so nothing is shared or kept
+            for (int i = 0; i < 2; i++) {
+                MatcherAssert.assertThat(map.findRecipe(1,
+                        Collections.singletonList(new ItemStack(Blocks.COBBLESTONE, 1)), Collections.emptyList()),
+                        notNullValue());
+            }
+            MatcherAssert.assertThat(coalescer.getShared(), is(0L));
+            MatcherAssert.assertThat(coalescer.getSearches(), is(2L));
+        } finally {
+            ConfigHolder.recipes.coalesceRecipeSearches = false;
+        }
+    }
 }
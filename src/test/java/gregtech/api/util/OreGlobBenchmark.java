@@ -0,0 +1,67 @@
+package gregtech.api.util;
+
+import gregtech.Bootstrap;
+import gregtech.api.util.oreglob.OreGlobCompileResult;
+import gregtech.common.covers.filter.oreglob.impl.NodeOreGlob;
+import gregtech.common.covers.filter.oreglob.impl.OreGlobParser;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Predicate;
+
+/**
+ * Compares the matches per second of {@link NodeOreGlob#matches(String)}, which runs the compiled automaton, against
+ * {@link NodeOreGlob#interpret(String)}, which simulates the node tree. Only reports timings, and is disabled by
+ * default.
+ */
+@Disabled("benchmark, run manually")
+public class OreGlobBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int ITERATIONS = 2_000_000;
+
+    private static final String[] INPUTS = {
+            "dustGold", "dustSmallGold", "plateIron", "plateDoubleIron", "oreCopper", "gemFlawlessRuby",
+            "ingotSteel", "blockWroughtIron", "crushedPurifiedTetrahedrite", "nuggetGold"
+    };
+
+    @BeforeAll
+    public static void bootstrap() {
+        Bootstrap.perform();
+    }
+
+    @Test
+    public void matchesPerSecond() {
+        run("dust*Gold | (plate* & !*Double*) | ore* | !(gem* & *Flawless*)");
+        run("ingotIron");
+        run("*Gold*");
+        run("!(a ?) *Iron");
+    }
+
+    private static void run(String expression) {
+        OreGlobCompileResult result = new OreGlobParser(expression, true).compile();
+        if (result.hasError() || !(result.getInstance() instanceof NodeOreGlob glob)) {
+            throw new IllegalStateException("Expression '" + expression + "' did not compile to a node glob");
+        }
+        System.out.println(expression);
+        for (int round = 0; round < 3; round++) {
+            measure("interpreter", glob::interpret);
+            measure("automaton", glob::matches);
+        }
+    }
+
+    private static void measure(String name, Predicate<String> matcher) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            matcher.test(INPUTS[i % INPUTS.length]);
+        }
+        int matches = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (matcher.test(INPUTS[i % INPUTS.length])) matches++;
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        System.out.printf("  %-11s %,.0f matches/sec (%d matched)%n", name, ITERATIONS / seconds, matches);
+    }
+}
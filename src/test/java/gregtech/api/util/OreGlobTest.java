@@ -242,6 +242,29 @@ public class OreGlobTest {
         assertMatch(expr, "", false);
     }
 
+    @Test
+    public void compiledMatchTest() {
+        String[] expressions = {
+                "ingotIron", "ingot* & *gold", "ingot* ^ ()", "dust*Gold | (plate* & !*Double*)",
+                "!*", "a???e", "a!(???)e", "???*", "!???*", "!() iron", "!()", "*!(a)", "!(a b) c",
+                "(!a b) c", "!(a ?) abc", "!(x) !(y)", "1^2^3^4^5^!(1^2^3)", "(a | b | !())*", "(?? ^ a*) !(b?)",
+                "!(*a* & *b*) ?", "((a | ()) & !?) (b | *c)", "!(!(a) b) !?*", "a*a*a*b"
+        };
+        String[] inputs = {
+                "", "a", "b", "ab", "ba", "abc", "ababc", "ingotIron", "ingotGold", "dustIron", "dustSomeGold",
+                "plateDoubleIron", "plateIron", "abcde", "a1234e", "ae", "iron", "xyz", "aaab", "aab", "12345",
+                "AbAbAb", "cab", "bbba"
+        };
+        for (String expression : expressions) {
+            for (boolean caseSensitive : new boolean[] { false, true }) {
+                NodeOreGlob glob = (NodeOreGlob) compile(expression, caseSensitive);
+                for (String input : inputs) {
+                    assertMatch(glob, input, glob.interpret(input));
+                }
+            }
+        }
+    }
+
     @Test
     public void errorTest() {
         assertReport("End of file after escape character ('\\'): \\", true);
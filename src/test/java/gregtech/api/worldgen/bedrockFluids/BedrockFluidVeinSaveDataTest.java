@@ -0,0 +1,134 @@
+package gregtech.api.worldgen.bedrockFluids;
+
+import gregtech.Bootstrap;
+import gregtech.api.worldgen.bedrockFluids.BedrockFluidVeinHandler.FluidVeinWorldEntry;
+import gregtech.api.worldgen.config.BedrockFluidDepositDefinition;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraftforge.common.util.Constants;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class BedrockFluidVeinSaveDataTest {
+
+    private static final BedrockFluidDepositDefinition OIL = new BedrockFluidDepositDefinition("overworld/oil.json");
+    private static final BedrockFluidDepositDefinition LAVA = new BedrockFluidDepositDefinition("nether/lava.json");
+
+    @BeforeAll
+    public static void bootstrap() {
+        Bootstrap.perform();
+    }
+
+    @BeforeEach
+    public void registerDeposits() {
+        BedrockFluidVeinHandler.veinList.put(OIL, 10);
+        BedrockFluidVeinHandler.veinList.put(LAVA, 10);
+    }
+
+    @AfterEach
+    public void clearVeins() {
+        BedrockFluidVeinHandler.veinList.remove(OIL);
+        BedrockFluidVeinHandler.veinList.remove(LAVA);
+        BedrockFluidVeinHandler.veinCache.clear();
+    }
+
+    @Test
+    public void testRoundTrip() {
+        BedrockFluidVeinHandler.getDimensionVeins(0).put(ChunkPos.asLong(0, 0),
+                new FluidVeinWorldEntry(OIL, 150, 1000));
+        BedrockFluidVeinHandler.getDimensionVeins(0).put(ChunkPos.asLong(-3, 7),
+                new FluidVeinWorldEntry(LAVA, 20, 0));
+        BedrockFluidVeinHandler.getDimensionVeins(-1).put(ChunkPos.asLong(Integer.MAX_VALUE, Integer.MIN_VALUE),
+                new FluidVeinWorldEntry(OIL, 1, 5));
+        // veins without a deposit are generated where no deposit may spawn
+        BedrockFluidVeinHandler.getDimensionVeins(-1).put(ChunkPos.asLong(2, 2),
+                new FluidVeinWorldEntry(null, 0, 100_000));
+        BedrockFluidVeinHandler.saveDataVersion = BedrockFluidVeinHandler.MAX_FLUID_SAVE_DATA_VERSION;
+
+        NBTTagCompound nbt = new BedrockFluidVeinSaveData(BedrockFluidVeinSaveData.dataName)
+                .writeToNBT(new NBTTagCompound());
+        assertThat(nbt.hasKey("veinData", Constants.NBT.TAG_COMPOUND), is(true));
+        assertThat(nbt.hasKey("veinInfo"), is(false));
+
+        BedrockFluidVeinHandler.veinCache.clear();
+        BedrockFluidVeinHandler.saveDataVersion = 0;
+        new BedrockFluidVeinSaveData(BedrockFluidVeinSaveData.dataName).readFromNBT(nbt);
+
+        assertThat(BedrockFluidVeinHandler.saveDataVersion, is(BedrockFluidVeinHandler.MAX_FLUID_SAVE_DATA_VERSION));
+        assertThat(BedrockFluidVeinHandler.veinCache.size(), is(2));
+        assertVein(0, 0, 0, OIL, 150, 1000);
+        assertVein(0, -3, 7, LAVA, 20, 0);
+        assertVein(-1, Integer.MAX_VALUE, Integer.MIN_VALUE, OIL, 1, 5);
+        assertVein(-1, 2, 2, null, 0, 100_000);
+    }
+
+    @Test
+    public void testReadLegacyVeinInfo() {
+        NBTTagList veinInfo = new NBTTagList();
+        veinInfo.appendTag(legacyVein(0, 4, -2, new FluidVeinWorldEntry(OIL, 150, 1000)));
+        veinInfo.appendTag(legacyVein(1, 0, 0, new FluidVeinWorldEntry(LAVA, 30, 42)));
+        veinInfo.appendTag(legacyVein(1, 9, 9, new FluidVeinWorldEntry(null, 0, 100_000)));
+        NBTTagCompound nbt = new NBTTagCompound();
+        nbt.setTag("veinInfo", veinInfo);
+        nbt.setInteger("version", 2);
+
+        new BedrockFluidVeinSaveData(BedrockFluidVeinSaveData.dataName).readFromNBT(nbt);
+
+        assertThat(BedrockFluidVeinHandler.saveDataVersion, is(2));
+        assertVein(0, 4, -2, OIL, 150, 1000);
+        assertVein(1, 0, 0, LAVA, 30, 42);
+        assertVein(1, 9, 9, null, 0, 100_000);
+
+        // the legacy data is written back in the new format
+        NBTTagCompound written = new BedrockFluidVeinSaveData(BedrockFluidVeinSaveData.dataName)
+                .writeToNBT(new NBTTagCompound());
+        assertThat(written.hasKey("veinData", Constants.NBT.TAG_COMPOUND), is(true));
+        assertThat(written.hasKey("veinInfo"), is(false));
+    }
+
+    @Test
+    public void testLegacyVersions() {
+        NBTTagList veinInfo = new NBTTagList();
+        veinInfo.appendTag(legacyVein(0, 0, 0, new FluidVeinWorldEntry(OIL, 150, 1000)));
+        NBTTagCompound nbt = new NBTTagCompound();
+        nbt.setTag("veinInfo", veinInfo);
+
+        // the version was added to the save data with version 2
+        new BedrockFluidVeinSaveData(BedrockFluidVeinSaveData.dataName).readFromNBT(nbt);
+        assertThat(BedrockFluidVeinHandler.saveDataVersion, is(1));
+
+        // without veins, no data can be lost by using the latest version
+        new BedrockFluidVeinSaveData(BedrockFluidVeinSaveData.dataName).readFromNBT(new NBTTagCompound());
+        assertThat(BedrockFluidVeinHandler.saveDataVersion, is(BedrockFluidVeinHandler.MAX_FLUID_SAVE_DATA_VERSION));
+        assertThat(BedrockFluidVeinHandler.veinCache.isEmpty(), is(true));
+    }
+
+    private static NBTTagCompound legacyVein(int dimension, int x, int z, FluidVeinWorldEntry entry) {
+        NBTTagCompound tag = new ChunkPosDimension(dimension, x, z).writeToNBT();
+        tag.setTag("info", entry.writeToNBT());
+        return tag;
+    }
+
+    private static void assertVein(int dimension, int x, int z, BedrockFluidDepositDefinition definition,
+                                   int fluidYield, int operationsRemaining) {
+        FluidVeinWorldEntry entry = BedrockFluidVeinHandler.getDimensionVeins(dimension).get(ChunkPos.asLong(x, z));
+        assertThat(entry, notNullValue());
+        if (definition == null) {
+            assertThat(entry.getDefinition(), nullValue());
+        } else {
+            assertThat(entry.getDefinition(), is(definition));
+        }
+        assertThat(entry.getFluidYield(), is(fluidYield));
+        assertThat(entry.getOperationsRemaining(), is(operationsRemaining));
+    }
+}
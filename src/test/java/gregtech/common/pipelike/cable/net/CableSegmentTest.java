@@ -0,0 +1,178 @@
+package gregtech.common.pipelike.cable.net;
+
+import gregtech.Bootstrap;
+import gregtech.api.pipenet.tile.PipeCoverableImplementation;
+import gregtech.api.unification.material.properties.WireProperties;
+import gregtech.api.util.world.DummyWorld;
+import gregtech.common.pipelike.cable.tile.TileEntityCable;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.storage.WorldSavedData;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+
+public class CableSegmentTest {
+
+    private static final WireProperties PROPERTIES = new WireProperties(128, 4, 1);
+    private static final int LENGTH = 5;
+
+    private TestWorld world;
+    private TestCable[] cables;
+
+    @BeforeAll
+    public static void bootstrap() {
+        Bootstrap.perform();
+    }
+
+    /**
+     * Builds a straight line of cables along the x axis. The cables at both ends are connected to nothing on their
+     * outer side, so that only the cables between them form a chain.
+     */
+    @BeforeEach
+    public void buildLine() {
+        world = new TestWorld();
+        WorldENet worldNet = WorldENet.getWorldENet(world);
+        cables = new TestCable[LENGTH];
+        for (int x = 0; x < LENGTH; x++) {
+            BlockPos pos = new BlockPos(x, 64, 0);
+            TestCable cable = new TestCable();
+            cable.setWorld(world);
+            cable.setPos(pos);
+            world.tiles.put(pos.toLong(), cable);
+            worldNet.addNode(pos, PROPERTIES, 0, 0b111111, false);
+            cables[x] = cable;
+        }
+    }
+
+    @Test
+    public void testSegmentBounds() {
+        CableSegment segment = cables[2].getSegment();
+        assertThat(segment.size(), is(3));
+        assertThat(segment.getCables()[0], sameInstance(cables[1]));
+        assertThat(segment.getCables()[2], sameInstance(cables[3]));
+        assertThat(cables[1].getSegment(), sameInstance(segment));
+        assertThat(cables[0].getSegment().size(), is(1));
+        assertThat(cables[4].getSegment().size(), is(1));
+    }
+
+    @Test
+    public void testVoltageAndLoss() {
+        CableSegment segment = cables[2].getSegment();
+        segment.increment(world, 2, 128, true);
+        segment.increment(world, 1, 100, false);
+
+        // every cable of the segment carries the current of all transfers through it
+        for (int i = 1; i <= 3; i++) {
+            assertThat(cables[i].getCurrentAmperage(), is(3L));
+        }
+        assertThat(cables[0].getCurrentAmperage(), is(0L));
+
+        // the voltage drops by the loss of every cable passed, including the cable itself
+        assertThat(cables[1].getCurrentMaxVoltage(), is(127L));
+        assertThat(cables[2].getCurrentMaxVoltage(), is(126L));
+        assertThat(cables[3].getCurrentMaxVoltage(), is(125L));
+        assertThat(segment.getCurrentMaxVoltage(world, cables[3]), is(125L));
+
+        // averages sum the voltages of one transfer in each direction over 20 ticks
+        assertThat(cables[1].getAverageVoltage(), closeTo((127 + 97) / 20.0, 1e-9));
+        assertThat(cables[2].getAverageVoltage(), closeTo((126 + 98) / 20.0, 1e-9));
+        assertThat(cables[3].getAverageVoltage(), closeTo((125 + 99) / 20.0, 1e-9));
+    }
+
+    @Test
+    public void testCoverSplitsSegment() {
+        EnergyNet net = WorldENet.getWorldENet(world).getNetFromPos(cables[2].getPos());
+        CableSegment segment = cables[2].getSegment();
+        int version = net.getSegmentVersion();
+
+        cables[2].covered = true;
+        cables[2].onCoverPlacementUpdate();
+        assertThat(net.getSegmentVersion(), is(not(version)));
+        assertThat(cables[2].getSegment(), is(not(sameInstance(segment))));
+        assertThat(cables[1].getSegment().size(), is(1));
+        assertThat(cables[2].getSegment().size(), is(1));
+        assertThat(cables[3].getSegment().size(), is(1));
+
+        cables[2].covered = false;
+        cables[2].onCoverPlacementUpdate();
+        assertThat(cables[1].getSegment().size(), is(3));
+    }
+
+    private static final class TestWorld extends DummyWorld {
+
+        private final Long2ObjectOpenHashMap<TileEntity> tiles = new Long2ObjectOpenHashMap<>();
+        private WorldSavedData energyNet;
+
+        @Nullable
+        @Override
+        public TileEntity getTileEntity(@NotNull BlockPos pos) {
+            return tiles.get(pos.toLong());
+        }
+
+        @Override
+        public boolean isBlockLoaded(@NotNull BlockPos pos) {
+            return true;
+        }
+
+        @Nullable
+        @Override
+        public WorldSavedData loadData(@NotNull Class<? extends WorldSavedData> clazz, @NotNull String dataID) {
+            return energyNet;
+        }
+
+        @Override
+        public void setData(@NotNull String dataID, @NotNull WorldSavedData data) {
+            this.energyNet = data;
+        }
+    }
+
+    /**
+     * A cable connected to the east and west, without needing a cable block in the world.
+     */
+    private static final class TestCable extends TileEntityCable {
+
+        private static final int CONNECTIONS = 1 << EnumFacing.EAST.getIndex() | 1 << EnumFacing.WEST.getIndex();
+
+        private boolean covered;
+        private final PipeCoverableImplementation coverable = new PipeCoverableImplementation(this) {
+
+            @Override
+            public boolean hasAnyCover() {
+                return covered;
+            }
+        };
+
+        @Override
+        public WireProperties getNodeData() {
+            return PROPERTIES;
+        }
+
+        @Override
+        public int getConnections() {
+            return CONNECTIONS;
+        }
+
+        @Override
+        public boolean isConnected(EnumFacing side) {
+            return (CONNECTIONS & 1 << side.getIndex()) != 0;
+        }
+
+        @Override
+        public PipeCoverableImplementation getCoverableImplementation() {
+            return coverable;
+        }
+    }
+}
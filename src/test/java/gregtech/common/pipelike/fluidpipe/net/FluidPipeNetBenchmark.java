@@ -0,0 +1,235 @@
+package gregtech.common.pipelike.fluidpipe.net;
+
+import gregtech.Bootstrap;
+import gregtech.api.GTValues;
+import gregtech.api.GregTechAPI;
+import gregtech.api.pipenet.Node;
+import gregtech.api.pipenet.block.material.BlockMaterialPipe;
+import gregtech.api.unification.material.properties.FluidPipeProperties;
+import gregtech.api.util.world.DummyWorld;
+import gregtech.common.ConfigHolder;
+import gregtech.common.pipelike.fluidpipe.BlockFluidPipe;
+import gregtech.common.pipelike.fluidpipe.FluidPipeType;
+import gregtech.common.pipelike.fluidpipe.tile.TileEntityFluidPipe;
+import gregtech.common.pipelike.fluidpipe.tile.TileEntityFluidPipeTickable;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidTankProperties;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the tick time of the per-pipe fluid distribution against {@link FluidPipeNetSolver}, on a square grid of
+ * pipes filled along one edge and drained along the opposite edge. Only reports timings, and is disabled by default.
+ */
+@Disabled("benchmark, run manually")
+public class FluidPipeNetBenchmark {
+
+    private static final int SIZE = 64;
+    private static final int WARMUP_TICKS = 200;
+    private static final int TICKS = 2000;
+
+    private static final FluidPipeProperties PROPERTIES = new FluidPipeProperties(1000, 100, false, false, false,
+            false, 1);
+
+    @BeforeAll
+    public static void bootstrap() {
+        Bootstrap.perform();
+    }
+
+    @Test
+    public void tickTime() {
+        boolean solver = ConfigHolder.machines.fluidPipeNetSolver;
+        try {
+            for (int run = 0; run < 3; run++) {
+                run(false);
+                run(true);
+            }
+        } finally {
+            ConfigHolder.machines.fluidPipeNetSolver = solver;
+        }
+    }
+
+    private static void run(boolean useSolver) {
+        ConfigHolder.machines.fluidPipeNetSolver = useSolver;
+        Grid grid = new Grid();
+        for (int tick = 0; tick < WARMUP_TICKS; tick++) {
+            grid.tick(useSolver, tick);
+        }
+        grid.sink.drained = 0;
+
+        long start = System.nanoTime();
+        for (int tick = WARMUP_TICKS; tick < WARMUP_TICKS + TICKS; tick++) {
+            grid.tick(useSolver, tick);
+        }
+        long time = System.nanoTime() - start;
+
+        System.out.printf("%-8s %d pipes: %.1f us/tick, %d mB/tick delivered%n", useSolver ? "solver" : "per-pipe",
+                SIZE * SIZE, time / 1000.0 / TICKS, grid.sink.drained / TICKS);
+    }
+
+    private static final class Grid {
+
+        private final BenchmarkWorld world = new BenchmarkWorld();
+        private final BenchmarkNet net = new BenchmarkNet();
+        private final FluidPipeNetSolver solver = new FluidPipeNetSolver(net);
+        private final BlockFluidPipe block = new BlockFluidPipe(FluidPipeType.NORMAL,
+                GregTechAPI.materialManager.getRegistry(GTValues.MODID));
+        private final List<TileEntityFluidPipeTickable> pipes = new ArrayList<>();
+        private final List<IFluidHandler> inputs = new ArrayList<>();
+        private final SinkTile sink = new SinkTile();
+
+        private Grid() {
+            for (int z = 0; z < SIZE; z++) {
+                for (int x = 0; x < SIZE; x++) {
+                    BlockPos pos = new BlockPos(x, 64, z);
+                    BenchmarkPipe pipe = new BenchmarkPipe(block, net);
+                    pipe.setWorld(world);
+                    pipe.setPos(pos);
+                    world.tiles.put(pos.toLong(), pipe);
+                    net.addNode(pos);
+                    pipes.add(pipe);
+                }
+                // every row is drained at its far end
+                world.tiles.put(new BlockPos(SIZE, 64, z).toLong(), sink);
+            }
+            for (int z = 0; z < SIZE; z++) {
+                TileEntity pipe = world.getTileEntity(new BlockPos(0, 64, z));
+                // noinspection DataFlowIssue
+                inputs.add(pipe.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, EnumFacing.WEST));
+            }
+        }
+
+        private void tick(boolean useSolver, int tick) {
+            for (IFluidHandler input : inputs) {
+                input.fill(new FluidStack(FluidRegistry.WATER, 1000), true);
+            }
+            for (TileEntityFluidPipeTickable pipe : pipes) {
+                // covers still tick with the solver enabled
+                pipe.update();
+            }
+            if (useSolver && tick % TileEntityFluidPipe.FREQUENCY == 0) {
+                solver.solve(world);
+            }
+        }
+    }
+
+    private static final class BenchmarkWorld extends DummyWorld {
+
+        private final Long2ObjectOpenHashMap<TileEntity> tiles = new Long2ObjectOpenHashMap<>();
+
+        @Nullable
+        @Override
+        public TileEntity getTileEntity(@NotNull BlockPos pos) {
+            return tiles.get(pos.toLong());
+        }
+
+        @Override
+        public boolean isBlockLoaded(@NotNull BlockPos pos) {
+            return true;
+        }
+    }
+
+    private static final class BenchmarkNet extends FluidPipeNet {
+
+        private BenchmarkNet() {
+            super(new WorldFluidPipeNet("gregtech.fluid_pipe_net.benchmark"));
+        }
+
+        private void addNode(@NotNull BlockPos pos) {
+            addNodeSilently(pos, new Node<>(PROPERTIES, 0b111111, 0, false));
+        }
+    }
+
+    /**
+     * A pipe which is open on every side, without needing a pipe block in the world.
+     */
+    private static final class BenchmarkPipe extends TileEntityFluidPipeTickable {
+
+        private final BlockFluidPipe block;
+        private final FluidPipeNet net;
+
+        private BenchmarkPipe(@NotNull BlockFluidPipe block, @NotNull FluidPipeNet net) {
+            this.block = block;
+            this.net = net;
+        }
+
+        @Override
+        public BlockMaterialPipe<FluidPipeType, FluidPipeProperties, ?> getPipeBlock() {
+            return block;
+        }
+
+        @Override
+        public FluidPipeProperties getNodeData() {
+            return PROPERTIES;
+        }
+
+        @Override
+        public boolean isConnected(EnumFacing side) {
+            return true;
+        }
+
+        @Override
+        public FluidPipeNet getFluidPipeNet() {
+            return net;
+        }
+    }
+
+    /**
+     * Voids all fluid inserted into it, counting the amount.
+     */
+    private static final class SinkTile extends TileEntity implements IFluidHandler {
+
+        private long drained;
+
+        @Override
+        public boolean hasCapability(@NotNull Capability<?> capability, @Nullable EnumFacing facing) {
+            return capability == CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY;
+        }
+
+        @Nullable
+        @Override
+        public <T> T getCapability(@NotNull Capability<T> capability, @Nullable EnumFacing facing) {
+            return capability == CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY ?
+                    CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY.cast(this) : null;
+        }
+
+        @Override
+        public IFluidTankProperties[] getTankProperties() {
+            return new IFluidTankProperties[0];
+        }
+
+        @Override
+        public int fill(FluidStack resource, boolean doFill) {
+            if (doFill) drained += resource.amount;
+            return resource.amount;
+        }
+
+        @Nullable
+        @Override
+        public FluidStack drain(FluidStack resource, boolean doDrain) {
+            return null;
+        }
+
+        @Nullable
+        @Override
+        public FluidStack drain(int maxDrain, boolean doDrain) {
+            return null;
+        }
+    }
+}